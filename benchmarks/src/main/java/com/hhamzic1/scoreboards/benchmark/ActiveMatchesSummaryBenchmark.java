@@ -0,0 +1,58 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActiveMatchesSummaryBenchmark {
+
+    @Param({"10000", "50000"})
+    private int activeMatches;
+
+    @Param({"HASH_MAP", "SUMMARY_INDEXED", "SUMMARY_CACHED"})
+    private StoreType storeType;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(storeType);
+        matchIds = ScoreboardFixture.startMatches(scoreboard, activeMatches, "Summary");
+    }
+
+    @Benchmark
+    public List<Match> getActiveMatchesSummary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    public Match updateScore() {
+        var random = ThreadLocalRandom.current();
+        var matchId = matchIds[random.nextInt(matchIds.length)];
+
+        return scoreboard.updateScore(matchId, ScoreboardFixture.randomScore(random));
+    }
+}
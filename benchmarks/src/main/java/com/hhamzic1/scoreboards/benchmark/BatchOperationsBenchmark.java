@@ -0,0 +1,71 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Score;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchOperationsBenchmark {
+
+    private static final int ACTIVE_MATCHES = 10_000;
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    @Param({"HASH_MAP", "SUMMARY_INDEXED"})
+    private StoreType storeType;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+    private Map<UUID, Score> scoreCorrections;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(storeType);
+        matchIds = ScoreboardFixture.startMatches(scoreboard, ACTIVE_MATCHES, "Batch");
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareCorrections() {
+        var random = ThreadLocalRandom.current();
+        scoreCorrections = new LinkedHashMap<>();
+        while (scoreCorrections.size() < batchSize) {
+            scoreCorrections.put(matchIds[random.nextInt(matchIds.length)], ScoreboardFixture.randomScore(random));
+        }
+    }
+
+    @Benchmark
+    public BatchResult<UUID, Match> updateScores() {
+        return scoreboard.updateScores(scoreCorrections);
+    }
+
+    @Benchmark
+    public void updateScoreLoop(Blackhole blackhole) {
+        scoreCorrections.forEach((matchId, score) -> blackhole.consume(scoreboard.updateScore(matchId, score)));
+    }
+}
@@ -0,0 +1,107 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.ScoreboardOptions;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.internal.ClockFactory;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FinishedMatchQueryBenchmark {
+
+    private static final int FINISHED_MATCHES = 1_000_000;
+    private static final int TEAMS = 1_000;
+    private static final int OPPONENT_SPREAD = 50;
+    private static final int LIMIT = 5;
+
+    @Param({"HASH_MAP", "OFF_HEAP"})
+    private StoreType storeType;
+
+    private Scoreboard scoreboard;
+    private Team[] teams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var archivePolicy = FinishedMatchesArchivePolicy.unbounded();
+        var matchDataStore = switch (storeType) {
+            case HASH_MAP -> MatchDataStoreFactory.createInMemoryMatchDataStore(archivePolicy);
+            case OFF_HEAP -> MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore(archivePolicy);
+            default -> throw new IllegalArgumentException("Unsupported store type " + storeType);
+        };
+        scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore, ScoreboardOptions.defaults()
+                .withClock(ClockFactory.createDeterministicClock(OffsetDateTime.now(), Duration.ofSeconds(1)))
+                .withIdGenerator(ClockFactory.createTimeOrderedIdGenerator()));
+
+        teams = new Team[TEAMS];
+        for (int i = 0; i < TEAMS; i++) {
+            teams[i] = new Team("History team " + i);
+        }
+        for (int i = 0; i < FINISHED_MATCHES; i++) {
+            var match = scoreboard.startMatch(teams[i % TEAMS], teams[opponentOf(i)]);
+            scoreboard.finishMatch(match.id());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Query {
+
+        private final Random random = new Random(42);
+
+        private int nextFixture() {
+            return random.nextInt(FINISHED_MATCHES);
+        }
+    }
+
+    @Benchmark
+    public List<Match> lastResultsOfTeam(Query query) {
+        return scoreboard.getFinishedMatchesOf(teams[query.nextFixture() % TEAMS], LIMIT);
+    }
+
+    @Benchmark
+    public List<Match> headToHead(Query query) {
+        var fixture = query.nextFixture();
+        return scoreboard.getFinishedMatchesBetween(teams[fixture % TEAMS], teams[opponentOf(fixture)], LIMIT);
+    }
+
+    @Benchmark
+    public List<Match> lastResultsOfTeamByFiltering(Query query) {
+        var teamId = teams[query.nextFixture() % TEAMS].id();
+        return scoreboard.getAllFinishedMatches().stream()
+                .filter(match -> match.homeTeam().id().equals(teamId) || match.awayTeam().id().equals(teamId))
+                .sorted(Comparator.comparing(Match::endTime).reversed())
+                .limit(LIMIT)
+                .toList();
+    }
+
+    private static int opponentOf(int fixture) {
+        return (fixture + 1 + fixture / TEAMS % OPPONENT_SPREAD) % TEAMS;
+    }
+}
@@ -0,0 +1,77 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.store.MatchJournalPolicy;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JournalRecoveryBenchmark {
+
+    private static final int JOURNALED_EVENTS = 1_000_000;
+    private static final int MATCHES = 10_000;
+    private static final int SNAPSHOT_AT_EVENT = 900_000;
+
+    @Param({"false", "true"})
+    private boolean withSnapshot;
+
+    private MatchJournalPolicy journalPolicy;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        journalPolicy = MatchJournalPolicy.defaults(Files.createTempDirectory("scoreboards-recovery"))
+                .withSnapshotEveryEvents(Long.MAX_VALUE);
+
+        try (var durableStore = MatchDataStoreFactory.createDurableInMemoryMatchDataStore(journalPolicy)) {
+            var scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, durableStore);
+            var matchIds = new UUID[MATCHES];
+            var events = 0;
+            for (int i = 0; i < MATCHES; i++, events++) {
+                matchIds[i] = scoreboard.startMatch(new Team("Home " + i), new Team("Away " + i)).id();
+            }
+
+            var scoreUpdates = JOURNALED_EVENTS - 2 * MATCHES;
+            for (int i = 0; i < scoreUpdates; i++, events++) {
+                if (withSnapshot && events == SNAPSHOT_AT_EVENT) {
+                    durableStore.snapshot();
+                }
+                scoreboard.updateScore(matchIds[i % MATCHES], new Score(i / MATCHES, i / MATCHES));
+            }
+
+            for (var matchId : matchIds) {
+                scoreboard.finishMatch(matchId);
+            }
+        }
+    }
+
+    @Benchmark
+    public int recover() {
+        try (var recoveredStore = MatchDataStoreFactory.createDurableInMemoryMatchDataStore(journalPolicy)) {
+            return recoveredStore.getAllFinished().size();
+        }
+    }
+}
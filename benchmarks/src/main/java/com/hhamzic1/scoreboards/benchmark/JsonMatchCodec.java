@@ -0,0 +1,160 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+final class JsonMatchCodec {
+
+    private JsonMatchCodec() {
+    }
+
+    static String write(List<Match> matches) {
+        var json = new StringBuilder(matches.size() * 320).append('[');
+        for (int i = 0; i < matches.size(); i++) {
+            var match = matches.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(match.id())
+                    .append("\",\"startTime\":\"").append(match.startTime())
+                    .append("\",\"endTime\":").append(isNull(match.endTime()) ? "null" : "\"" + match.endTime() + "\"")
+                    .append(",\"homeTeam\":");
+            writeTeam(json, match.homeTeam());
+            json.append(",\"awayTeam\":");
+            writeTeam(json, match.awayTeam());
+            json.append(",\"score\":{\"homeTeamScore\":").append(match.score().homeTeamScore())
+                    .append(",\"awayTeamScore\":").append(match.score().awayTeamScore())
+                    .append("}}");
+        }
+
+        return json.append(']').toString();
+    }
+
+    static List<Match> read(String json) {
+        var reader = new Reader(json);
+        var matches = new ArrayList<Match>();
+        reader.expect('[');
+        while (reader.peek() != ']') {
+            if (!matches.isEmpty()) {
+                reader.expect(',');
+            }
+            reader.expect('{');
+            var id = UUID.fromString(reader.stringField("id"));
+            var startTime = OffsetDateTime.parse(reader.stringField("startTime"));
+            reader.expect(',');
+            var endTimeText = reader.nullableStringField("endTime");
+            reader.expect(',');
+            var homeTeam = reader.teamField("homeTeam");
+            reader.expect(',');
+            var awayTeam = reader.teamField("awayTeam");
+            reader.expect(',');
+            reader.key("score");
+            reader.expect('{');
+            var homeTeamScore = reader.longField("homeTeamScore");
+            reader.expect(',');
+            var awayTeamScore = reader.longField("awayTeamScore");
+            reader.expect('}');
+            reader.expect('}');
+            matches.add(new Match(id, startTime, isNull(endTimeText) ? null : OffsetDateTime.parse(endTimeText),
+                    homeTeam, awayTeam, new Score(homeTeamScore, awayTeamScore)));
+        }
+
+        return matches;
+    }
+
+    private static void writeTeam(StringBuilder json, Team team) {
+        json.append("{\"id\":\"").append(team.id()).append("\",\"name\":\"");
+        for (int i = 0; i < team.name().length(); i++) {
+            var c = team.name().charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\');
+            }
+            json.append(c);
+        }
+        json.append("\"}");
+    }
+
+    private static class Reader {
+
+        private final String json;
+        private int position;
+
+        private Reader(String json) {
+            this.json = json;
+        }
+
+        private char peek() {
+            return json.charAt(position);
+        }
+
+        private void expect(char c) {
+            if (json.charAt(position++) != c) {
+                throw new IllegalArgumentException("Expected '%s' at %d".formatted(c, position - 1));
+            }
+        }
+
+        private void key(String name) {
+            expect('"');
+            if (!json.startsWith(name, position)) {
+                throw new IllegalArgumentException("Expected key '%s' at %d".formatted(name, position));
+            }
+            position += name.length();
+            expect('"');
+            expect(':');
+        }
+
+        private String stringField(String name) {
+            if (peek() == ',') {
+                position++;
+            }
+            key(name);
+            return string();
+        }
+
+        private String nullableStringField(String name) {
+            key(name);
+            if (json.startsWith("null", position)) {
+                position += 4;
+                return null;
+            }
+            return string();
+        }
+
+        private long longField(String name) {
+            key(name);
+            var start = position;
+            while (position < json.length() && (Character.isDigit(peek()) || peek() == '-')) {
+                position++;
+            }
+            return Long.parseLong(json, start, position, 10);
+        }
+
+        private Team teamField(String name) {
+            key(name);
+            expect('{');
+            var id = UUID.fromString(stringField("id"));
+            expect(',');
+            var teamName = stringField("name");
+            expect('}');
+            return new Team(id, teamName);
+        }
+
+        private String string() {
+            expect('"');
+            var value = new StringBuilder();
+            char c;
+            while ((c = json.charAt(position++)) != '"') {
+                value.append(c == '\\' ? json.charAt(position++) : c);
+            }
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.ScoreboardOptions;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MatchFootprintBenchmark {
+
+    private static final int TEAMS = 200;
+
+    @Param({"1000000"})
+    private int finishedMatches;
+
+    @Param({"HASH_MAP", "OFF_HEAP"})
+    private StoreType storeType;
+
+    @Param({"false", "true"})
+    private boolean internTeams;
+
+    private Team[] teams;
+    private Scoreboard scoreboard;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        teams = new Team[TEAMS];
+        for (int i = 0; i < TEAMS; i++) {
+            teams[i] = new Team("Team " + i);
+        }
+        scoreboard = internTeams
+                ? ScoreboardFactory.createScoreboard(SportType.FOOTBALL, storeType.create(),
+                        ScoreboardOptions.defaults().withTeamRegistry(ScoreboardFactory.createTeamRegistry()))
+                : ScoreboardFixture.createScoreboard(storeType);
+    }
+
+    @Benchmark
+    public Scoreboard fillFinishedMatches(Footprint footprint) {
+        var heapBefore = usedHeapBytes();
+        var directBefore = usedDirectBytes();
+
+        for (int i = 0; i < finishedMatches; i++) {
+            var match = scoreboard.startMatch(copyOf(teams[i % TEAMS]), copyOf(teams[(i + 1) % TEAMS]));
+            scoreboard.setScore(match.id(), i % 5, i % 3);
+            scoreboard.finishMatch(match.id());
+        }
+
+        footprint.heapBytesPerMatch = (usedHeapBytes() - heapBefore) / finishedMatches;
+        footprint.directBytesPerMatch = (usedDirectBytes() - directBefore) / finishedMatches;
+
+        return scoreboard;
+    }
+
+    private static Team copyOf(Team team) {
+        return new Team(team.id(), new String(team.name()));
+    }
+
+    private static long usedHeapBytes() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedDirectBytes() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long heapBytesPerMatch;
+        public long directBytesPerMatch;
+    }
+}
@@ -0,0 +1,111 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.ScoreTimelinePolicy;
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.ScoreboardOptions;
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+import com.hhamzic1.scoreboards.common.clock.MatchIdGenerator;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.internal.ClockFactory;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchStampingBenchmark {
+
+    private static final int ARCHIVED_MATCHES = 10_000;
+
+    public enum Stamping {
+        SYSTEM_RANDOM,
+        CACHED_TIME_ORDERED,
+        MONOTONIC_TIME_ORDERED,
+        DETERMINISTIC
+    }
+
+    @Param({"SYSTEM_RANDOM", "CACHED_TIME_ORDERED", "MONOTONIC_TIME_ORDERED", "DETERMINISTIC"})
+    private Stamping stamping;
+
+    private MatchClock clock;
+    private MatchIdGenerator idGenerator;
+    private Scoreboard scoreboard;
+    private final AtomicInteger nextFixture = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        clock = switch (stamping) {
+            case SYSTEM_RANDOM -> ClockFactory.createSystemClock();
+            case CACHED_TIME_ORDERED -> ClockFactory.createCachedClock(Duration.ofMillis(1));
+            case MONOTONIC_TIME_ORDERED -> ClockFactory.createMonotonicClock();
+            case DETERMINISTIC -> ClockFactory.createDeterministicClock(OffsetDateTime.now(), Duration.ofMillis(1));
+        };
+        idGenerator = switch (stamping) {
+            case SYSTEM_RANDOM -> ClockFactory.createRandomIdGenerator();
+            case CACHED_TIME_ORDERED, MONOTONIC_TIME_ORDERED -> ClockFactory.createTimeOrderedIdGenerator();
+            case DETERMINISTIC -> ClockFactory.createDeterministicIdGenerator(42);
+        };
+        scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(ARCHIVED_MATCHES)),
+                ScoreboardOptions.defaults()
+                        .withTimelinePolicy(ScoreTimelinePolicy.maxFinishedMatches(ARCHIVED_MATCHES))
+                        .withClock(clock)
+                        .withIdGenerator(idGenerator));
+    }
+
+    @State(Scope.Thread)
+    public static class Fixture {
+
+        private Team homeTeam;
+        private Team awayTeam;
+
+        @Setup(Level.Trial)
+        public void setup(MatchStampingBenchmark benchmark) {
+            var fixture = benchmark.nextFixture.getAndIncrement();
+            homeTeam = new Team("Stamping home " + fixture);
+            awayTeam = new Team("Stamping away " + fixture);
+        }
+    }
+
+    @Benchmark
+    public Match startAndFinishMatch(Fixture fixture) {
+        var match = scoreboard.startMatch(fixture.homeTeam, fixture.awayTeam);
+        scoreboard.finishMatch(match.id());
+
+        return match;
+    }
+
+    @Benchmark
+    public OffsetDateTime clockNow() {
+        return clock.now();
+    }
+
+    @Benchmark
+    public UUID nextId() {
+        return idGenerator.nextId();
+    }
+}
@@ -0,0 +1,76 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.MetricsFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private static final int ACTIVE_MATCHES = 10_000;
+    private static final int SCORE_SEQUENCE_LENGTH = 1 << 16;
+
+    public enum Instrumentation {
+        NONE, DISABLED, ENABLED
+    }
+
+    @Param({"NONE", "DISABLED", "ENABLED"})
+    private Instrumentation instrumentation;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+    private Score[] scores;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var matchDataStore = MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL);
+        if (instrumentation == Instrumentation.NONE) {
+            scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore);
+        } else {
+            var metricsRegistry = MetricsFactory.createInMemoryMetricsRegistry();
+            metricsRegistry.setEnabled(instrumentation == Instrumentation.ENABLED);
+            scoreboard = ScoreboardFactory.createInstrumentedScoreboard(ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                    MatchDataStoreFactory.createInstrumentedMatchDataStore(matchDataStore, metricsRegistry)), metricsRegistry);
+        }
+        matchIds = ScoreboardFixture.startMatches(scoreboard, ACTIVE_MATCHES, "Metrics");
+
+        var random = ThreadLocalRandom.current();
+        scores = new Score[SCORE_SEQUENCE_LENGTH];
+        for (int i = 0; i < SCORE_SEQUENCE_LENGTH; i++) {
+            scores[i] = new Score(random.nextInt(ScoreboardFixture.MAX_GENERATED_SCORE),
+                    random.nextInt(ScoreboardFixture.MAX_GENERATED_SCORE));
+        }
+    }
+
+    @Benchmark
+    public Match updateScore() {
+        var i = cursor++ & (SCORE_SEQUENCE_LENGTH - 1);
+        return scoreboard.updateScore(matchIds[i % ACTIVE_MATCHES], scores[i]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.ranking.RankingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RankingStrategyBenchmark {
+
+    private static final Comparator<ChainedMatch> COMPARATOR_CHAIN =
+            Comparator.<ChainedMatch>comparingLong(chained -> chained.match().score().homeTeamScore() + chained.match().score().awayTeamScore())
+                    .reversed()
+                    .thenComparing(chained -> chained.match().startTime(), Comparator.reverseOrder())
+                    .thenComparing(ChainedMatch::storeOrderId, Comparator.reverseOrder());
+    private static final Comparator<PackedMatch> PACKED_ORDER = (left, right) -> {
+        var bySortKey = Long.compare(right.sortKey(), left.sortKey());
+
+        return bySortKey != 0 ? bySortKey : Long.compare(right.storeOrderId(), left.storeOrderId());
+    };
+    private static final RankingStrategy TOTAL_SCORE = (homeTeamScore, awayTeamScore, startTime) ->
+            RankingStrategy.packed(homeTeamScore + awayTeamScore, startTime);
+
+    @Param({"1000", "100000"})
+    private int activeMatches;
+
+    private Scoreboard scoreboard;
+    private List<ChainedMatch> chainedMatches;
+    private List<PackedMatch> packedMatches;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(StoreType.HASH_MAP);
+        var random = ThreadLocalRandom.current();
+        for (var matchId : ScoreboardFixture.startMatches(scoreboard, activeMatches, "Ranking")) {
+            scoreboard.updateScore(matchId, ScoreboardFixture.randomScore(random));
+        }
+
+        var summary = new ArrayList<>(scoreboard.getActiveMatchesSummary());
+        Collections.shuffle(summary, random);
+        chainedMatches = new ArrayList<>(summary.size());
+        packedMatches = new ArrayList<>(summary.size());
+        for (int i = 0; i < summary.size(); i++) {
+            var match = summary.get(i);
+            chainedMatches.add(new ChainedMatch(match, (long) i));
+            packedMatches.add(new PackedMatch(0, i, match));
+        }
+    }
+
+    @Benchmark
+    public List<ChainedMatch> comparatorChainSort() {
+        var sorted = new ArrayList<>(chainedMatches);
+        sorted.sort(COMPARATOR_CHAIN);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<PackedMatch> packedKeySort() {
+        var sorted = new ArrayList<PackedMatch>(packedMatches.size());
+        for (var packedMatch : packedMatches) {
+            var match = packedMatch.match();
+            var sortKey = TOTAL_SCORE.sortKey(match.score().homeTeamScore(), match.score().awayTeamScore(), match.startTime());
+            sorted.add(new PackedMatch(sortKey, packedMatch.storeOrderId(), match));
+        }
+        sorted.sort(PACKED_ORDER);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Match> summary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+
+    public record ChainedMatch(Match match, Long storeOrderId) {
+    }
+
+    public record PackedMatch(long sortKey, long storeOrderId, Match match) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadWriteMixBenchmark {
+
+    @Param({"1000", "10000"})
+    private int activeMatches;
+
+    @Param({"HASH_MAP", "SUMMARY_INDEXED", "SUMMARY_CACHED"})
+    private StoreType storeType;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(storeType);
+        matchIds = ScoreboardFixture.startMatches(scoreboard, activeMatches, "Mix");
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public List<Match> readHeavy_summary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public Match readHeavy_update() {
+        return updateRandomMatch();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<Match> writeHeavy_summary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public Match writeHeavy_update() {
+        return updateRandomMatch();
+    }
+
+    private Match updateRandomMatch() {
+        var random = ThreadLocalRandom.current();
+
+        return scoreboard.updateScore(matchIds[random.nextInt(matchIds.length)], ScoreboardFixture.randomScore(random));
+    }
+}
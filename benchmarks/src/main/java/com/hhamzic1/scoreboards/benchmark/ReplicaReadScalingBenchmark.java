@@ -0,0 +1,108 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.ReplicatedMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.ReplicationPolicy;
+import com.hhamzic1.scoreboards.common.store.ReplicationTransport;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplicaReadScalingBenchmark {
+
+    private static final int ACTIVE_MATCHES = 1_000;
+    private static final int FINISHED_MATCHES = 1_000;
+
+    @Param({"1", "2", "4"})
+    private int followerCount;
+
+    @Param({"IN_PROCESS", "TCP_LOOPBACK"})
+    private ReplicationTransport transport;
+
+    private ReplicatedMatchDataStore replicatedStore;
+    private Scoreboard leaderScoreboard;
+    private Scoreboard[] followerScoreboards;
+    private UUID[] matchIds;
+    private final AtomicInteger nextReader = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var replicationPolicy = new ReplicationPolicy(followerCount, transport, 1024, 1 << 16);
+        replicatedStore = MatchDataStoreFactory.createReplicatedSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL,
+                FinishedMatchesArchivePolicy.unbounded(), replicationPolicy);
+        leaderScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, replicatedStore);
+        matchIds = ScoreboardFixture.startMatches(leaderScoreboard, ACTIVE_MATCHES, "Replicated");
+        ScoreboardFixture.finishMatches(leaderScoreboard, FINISHED_MATCHES, "Replicated finished");
+        if (!replicatedStore.awaitReplication(Duration.ofMinutes(1))) {
+            throw new IllegalStateException("Followers didn't catch up with the leader.");
+        }
+
+        followerScoreboards = replicatedStore.getFollowers().stream()
+                .map(follower -> ScoreboardFactory.createScoreboard(SportType.FOOTBALL, follower))
+                .toArray(Scoreboard[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        replicatedStore.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Reader {
+
+        private Scoreboard followerScoreboard;
+
+        @Setup(Level.Trial)
+        public void setup(ReplicaReadScalingBenchmark benchmark) {
+            followerScoreboard = benchmark.followerScoreboards[benchmark.nextReader.getAndIncrement() % benchmark.followerScoreboards.length];
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Match> followerActiveMatchesSummary(Reader reader) {
+        return reader.followerScoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Match> followerFinishedMatches(Reader reader) {
+        return reader.followerScoreboard.getAllFinishedMatches();
+    }
+
+    @Benchmark
+    public Match leaderUpdateScore() {
+        var random = ThreadLocalRandom.current();
+
+        return leaderScoreboard.updateScore(matchIds[random.nextInt(matchIds.length)], ScoreboardFixture.randomScore(random));
+    }
+}
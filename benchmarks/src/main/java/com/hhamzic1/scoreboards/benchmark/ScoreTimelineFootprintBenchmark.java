@@ -0,0 +1,76 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.ScoreTimelinePolicy;
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.ScoreboardOptions;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ScoreTimelineFootprintBenchmark {
+
+    private static final int ACTIVE_MATCHES = 100_000;
+
+    @Param({"4", "32", "256"})
+    private int goalsPerMatch;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(StoreType.HASH_MAP,
+                ScoreboardOptions.defaults().withTimelinePolicy(ScoreTimelinePolicy.unbounded()));
+        matchIds = ScoreboardFixture.startMatches(scoreboard, ACTIVE_MATCHES, "Timeline");
+    }
+
+    @Benchmark
+    public Scoreboard recordGoals(Footprint footprint) {
+        var heapBefore = usedHeapBytes();
+
+        for (int goal = 1; goal <= goalsPerMatch; goal++) {
+            for (var matchId : matchIds) {
+                scoreboard.setScore(matchId, goal, goal / 2);
+            }
+        }
+
+        footprint.heapBytesPerGoal = (usedHeapBytes() - heapBefore) / ((long) ACTIVE_MATCHES * goalsPerMatch);
+
+        return scoreboard;
+    }
+
+    private static long usedHeapBytes() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long heapBytesPerGoal;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.ScoreTimelinePolicy;
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.ScoreboardOptions;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.ScoreChange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreTimelineQueryBenchmark {
+
+    private static final int GOALS_PER_MATCH = 32;
+
+    @Param({"1000", "10000"})
+    private int activeMatches;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+    private Instant firstGoal;
+    private Instant lastGoal;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        scoreboard = ScoreboardFixture.createScoreboard(StoreType.HASH_MAP,
+                ScoreboardOptions.defaults().withTimelinePolicy(ScoreTimelinePolicy.unbounded()));
+        matchIds = ScoreboardFixture.startMatches(scoreboard, activeMatches, "Timeline");
+        firstGoal = Instant.now();
+        for (int goal = 1; goal <= GOALS_PER_MATCH; goal++) {
+            for (var matchId : matchIds) {
+                scoreboard.setScore(matchId, goal, goal / 2);
+            }
+            Thread.sleep(1);
+        }
+        lastGoal = Instant.now();
+    }
+
+    @Benchmark
+    public List<Match> summaryAt() {
+        var span = lastGoal.toEpochMilli() - firstGoal.toEpochMilli();
+
+        return scoreboard.getActiveMatchesSummaryAt(firstGoal.plusMillis(ThreadLocalRandom.current().nextLong(span + 1)));
+    }
+
+    @Benchmark
+    public List<Match> currentSummary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    public List<ScoreChange> scoreHistory() {
+        return scoreboard.getScoreHistory(matchIds[ThreadLocalRandom.current().nextInt(matchIds.length)]);
+    }
+}
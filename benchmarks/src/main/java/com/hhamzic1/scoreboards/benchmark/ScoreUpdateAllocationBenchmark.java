@@ -0,0 +1,68 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Score;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class ScoreUpdateAllocationBenchmark {
+
+    private static final int ACTIVE_MATCHES = 10_000;
+    private static final int SCORE_SEQUENCE_LENGTH = 1 << 16;
+
+    @Param({"HASH_MAP", "SLOT"})
+    private StoreType storeType;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+    private long[] homeTeamScores;
+    private long[] awayTeamScores;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(storeType);
+        matchIds = ScoreboardFixture.startMatches(scoreboard, ACTIVE_MATCHES, "Allocation");
+
+        var random = ThreadLocalRandom.current();
+        homeTeamScores = new long[SCORE_SEQUENCE_LENGTH];
+        awayTeamScores = new long[SCORE_SEQUENCE_LENGTH];
+        for (int i = 0; i < SCORE_SEQUENCE_LENGTH; i++) {
+            homeTeamScores[i] = random.nextInt(ScoreboardFixture.MAX_GENERATED_SCORE);
+            awayTeamScores[i] = random.nextInt(ScoreboardFixture.MAX_GENERATED_SCORE);
+        }
+    }
+
+    @Benchmark
+    public Match updateScore() {
+        var i = cursor++ & (SCORE_SEQUENCE_LENGTH - 1);
+        return scoreboard.updateScore(matchIds[i % ACTIVE_MATCHES], new Score(homeTeamScores[i], awayTeamScores[i]));
+    }
+
+    @Benchmark
+    public void setScore() {
+        var i = cursor++ & (SCORE_SEQUENCE_LENGTH - 1);
+        scoreboard.setScore(matchIds[i % ACTIVE_MATCHES], homeTeamScores[i], awayTeamScores[i]);
+    }
+}
@@ -0,0 +1,49 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.ScoreboardOptions;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ScoreboardFixture {
+
+    public static final int MAX_GENERATED_SCORE = 10;
+
+    private ScoreboardFixture() {
+    }
+
+    public static Scoreboard createScoreboard(StoreType storeType) {
+        return ScoreboardFactory.createScoreboard(SportType.FOOTBALL, storeType.create());
+    }
+
+    public static Scoreboard createScoreboard(StoreType storeType, ScoreboardOptions options) {
+        return ScoreboardFactory.createScoreboard(SportType.FOOTBALL, storeType.create(), options);
+    }
+
+    public static UUID[] startMatches(Scoreboard scoreboard, int count, String teamPrefix) {
+        var random = ThreadLocalRandom.current();
+        var matchIds = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            var match = scoreboard.startMatch(new Team(teamPrefix + " home " + i), new Team(teamPrefix + " away " + i));
+            scoreboard.updateScore(match.id(), randomScore(random));
+            matchIds[i] = match.id();
+        }
+
+        return matchIds;
+    }
+
+    public static void finishMatches(Scoreboard scoreboard, int count, String teamPrefix) {
+        for (var matchId : startMatches(scoreboard, count, teamPrefix)) {
+            scoreboard.finishMatch(matchId);
+        }
+    }
+
+    public static Score randomScore(ThreadLocalRandom random) {
+        return new Score(random.nextInt(MAX_GENERATED_SCORE), random.nextInt(MAX_GENERATED_SCORE));
+    }
+}
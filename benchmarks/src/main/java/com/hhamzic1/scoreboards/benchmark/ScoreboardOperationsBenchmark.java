@@ -0,0 +1,140 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreboardOperationsBenchmark {
+
+    private static final int FINISHED_MATCHES = 10_000;
+    private static final int FINISHED_MATCHES_PAGE_SIZE = 50;
+    private static final int CHURN_MATCHES_PER_THREAD = 64;
+
+    @State(Scope.Benchmark)
+    public static class ScoreboardState {
+
+        @Param({"100", "1000", "10000", "100000"})
+        int activeMatches;
+
+        @Param({"HASH_MAP", "SUMMARY_INDEXED", "DURABLE"})
+        StoreType storeType;
+
+        Scoreboard scoreboard;
+        UUID[] activeMatchIds;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            scoreboard = ScoreboardFixture.createScoreboard(storeType);
+            ScoreboardFixture.finishMatches(scoreboard, FINISHED_MATCHES, "Finished");
+            activeMatchIds = ScoreboardFixture.startMatches(scoreboard, activeMatches, "Active");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ChurnState {
+
+        Team[] homeTeams;
+        Team[] awayTeams;
+        UUID[] startedMatchIds;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            homeTeams = new Team[CHURN_MATCHES_PER_THREAD];
+            awayTeams = new Team[CHURN_MATCHES_PER_THREAD];
+            startedMatchIds = new UUID[CHURN_MATCHES_PER_THREAD];
+            for (int i = 0; i < CHURN_MATCHES_PER_THREAD; i++) {
+                homeTeams[i] = new Team("Churn home " + i);
+                awayTeams[i] = new Team("Churn away " + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public Match startAndFinishMatch(ScoreboardState state, ChurnState churn) {
+        return startAndFinish(state, churn);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Match startAndFinishMatch_contended(ScoreboardState state, ChurnState churn) {
+        return startAndFinish(state, churn);
+    }
+
+    @Benchmark
+    public Match updateScore(ScoreboardState state) {
+        return update(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Match updateScore_contended(ScoreboardState state) {
+        return update(state);
+    }
+
+    @Benchmark
+    public List<Match> getActiveMatchesSummary(ScoreboardState state) {
+        return state.scoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Match> getActiveMatchesSummary_contended(ScoreboardState state) {
+        return state.scoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    public List<Match> getAllFinishedMatches(ScoreboardState state) {
+        return state.scoreboard.getAllFinishedMatches();
+    }
+
+    @Benchmark
+    public List<Match> getFinishedMatchesPage(ScoreboardState state) {
+        return state.scoreboard.getFinishedMatches(null, FINISHED_MATCHES_PAGE_SIZE);
+    }
+
+    private static Match update(ScoreboardState state) {
+        var random = ThreadLocalRandom.current();
+        var matchId = state.activeMatchIds[random.nextInt(state.activeMatchIds.length)];
+
+        return state.scoreboard.updateScore(matchId, ScoreboardFixture.randomScore(random));
+    }
+
+    private static Match startAndFinish(ScoreboardState state, ChurnState churn) {
+        var slot = churn.cursor;
+        churn.cursor = (slot + 1) % CHURN_MATCHES_PER_THREAD;
+
+        var previousMatchId = churn.startedMatchIds[slot];
+        if (previousMatchId != null) {
+            state.scoreboard.finishMatch(previousMatchId);
+        }
+
+        var match = state.scoreboard.startMatch(churn.homeTeams[slot], churn.awayTeams[slot]);
+        churn.startedMatchIds[slot] = match.id();
+
+        return match;
+    }
+}
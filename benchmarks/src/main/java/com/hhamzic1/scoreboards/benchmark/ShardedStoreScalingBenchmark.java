@@ -0,0 +1,63 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardedStoreScalingBenchmark {
+
+    private static final int ACTIVE_MATCHES = 10_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int shardCount;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL, shardCount));
+        matchIds = ScoreboardFixture.startMatches(scoreboard, ACTIVE_MATCHES, "Sharded");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Match updateScore() {
+        var random = ThreadLocalRandom.current();
+
+        return scoreboard.updateScore(matchIds[random.nextInt(matchIds.length)], ScoreboardFixture.randomScore(random));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Match> getActiveMatchesSummary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+}
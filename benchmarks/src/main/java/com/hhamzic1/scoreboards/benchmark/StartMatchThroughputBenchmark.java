@@ -0,0 +1,105 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.store.InMemoryMatchDataStore;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StartMatchThroughputBenchmark {
+
+    private static final int ACTIVE_MATCHES_PER_THREAD = 256;
+
+    @State(Scope.Benchmark)
+    public static class StoreState {
+
+        InMemoryMatchDataStore matchDataStore;
+        Scoreboard scoreboard;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matchDataStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+            scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore);
+        }
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            matchDataStore.clear();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TeamsState {
+
+        Team[] homeTeams;
+        Team[] awayTeams;
+        UUID[] activeMatchIds;
+        int cursor;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            homeTeams = new Team[ACTIVE_MATCHES_PER_THREAD];
+            awayTeams = new Team[ACTIVE_MATCHES_PER_THREAD];
+            activeMatchIds = new UUID[ACTIVE_MATCHES_PER_THREAD];
+            cursor = 0;
+            for (int i = 0; i < ACTIVE_MATCHES_PER_THREAD; i++) {
+                homeTeams[i] = new Team("Home " + i);
+                awayTeams[i] = new Team("Away " + i);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UUID startAndFinishMatch_1Thread(StoreState store, TeamsState teams) {
+        return startAndFinishMatch(store, teams);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID startAndFinishMatch_4Threads(StoreState store, TeamsState teams) {
+        return startAndFinishMatch(store, teams);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID startAndFinishMatch_maxThreads(StoreState store, TeamsState teams) {
+        return startAndFinishMatch(store, teams);
+    }
+
+    private static UUID startAndFinishMatch(StoreState store, TeamsState teams) {
+        var slot = teams.cursor;
+        teams.cursor = (slot + 1) % ACTIVE_MATCHES_PER_THREAD;
+
+        var previousMatchId = teams.activeMatchIds[slot];
+        if (previousMatchId != null) {
+            store.scoreboard.finishMatch(previousMatchId);
+        }
+
+        var matchId = store.scoreboard.startMatch(teams.homeTeams[slot], teams.awayTeams[slot]).id();
+        teams.activeMatchIds[slot] = matchId;
+
+        return matchId;
+    }
+}
@@ -0,0 +1,172 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.store.InMemoryMatchDataStore;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StateTransferBenchmark {
+
+    private static final int TEAMS = 200;
+    private static final int ACTIVE_MATCHES = 100;
+
+    @Param({"1000000"})
+    private int finishedMatches;
+
+    private InMemoryMatchDataStore store;
+    private List<Match> matches;
+    private byte[] binary;
+    private byte[] serialized;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        store = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, store);
+        var teams = new Team[TEAMS];
+        for (int i = 0; i < TEAMS; i++) {
+            teams[i] = new Team("Team " + i);
+        }
+        for (int i = 0; i < finishedMatches; i++) {
+            var match = scoreboard.startMatch(teams[i % TEAMS], teams[(i + 1) % TEAMS]);
+            scoreboard.setScore(match.id(), i % 5, i % 3);
+            scoreboard.finishMatch(match.id());
+        }
+        for (int i = 0; i < ACTIVE_MATCHES; i++) {
+            scoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+        }
+
+        matches = new ArrayList<>(store.getAllActive());
+        matches.addAll(store.getAllFinished());
+        binary = binaryExport().toByteArray();
+        serialized = javaSerializationExport().toByteArray();
+        json = jsonExport();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream binaryExport() {
+        var output = new ByteArrayOutputStream(binary == null ? 1 << 20 : binary.length);
+        store.exportTo(Channels.newChannel(output));
+        return output;
+    }
+
+    @Benchmark
+    public InMemoryMatchDataStore binaryImport() {
+        var target = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        target.importFrom(Channels.newChannel(new ByteArrayInputStream(binary)));
+        return target;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream javaSerializationExport() {
+        var output = new ByteArrayOutputStream(serialized == null ? 1 << 20 : serialized.length);
+        try (var objectOutput = new ObjectOutputStream(output)) {
+            var dtos = new ArrayList<MatchDto>(matches.size());
+            for (var match : matches) {
+                dtos.add(MatchDto.of(match));
+            }
+            objectOutput.writeObject(dtos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Match> javaSerializationImport() {
+        try (var objectInput = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            var dtos = (List<MatchDto>) objectInput.readObject();
+            var decoded = new ArrayList<Match>(dtos.size());
+            for (var dto : dtos) {
+                decoded.add(dto.toMatch());
+            }
+            return decoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public String jsonExport() {
+        return JsonMatchCodec.write(matches);
+    }
+
+    @Benchmark
+    public List<Match> jsonImport() {
+        return JsonMatchCodec.read(json);
+    }
+
+    @Benchmark
+    public InMemoryMatchDataStore encodedSizes(EncodedSize encodedSize) {
+        encodedSize.binaryBytesPerMatch = binary.length / matches.size();
+        encodedSize.javaSerializationBytesPerMatch = serialized.length / matches.size();
+        encodedSize.jsonBytesPerMatch = json.getBytes(UTF_8).length / matches.size();
+        return store;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long binaryBytesPerMatch;
+        public long javaSerializationBytesPerMatch;
+        public long jsonBytesPerMatch;
+    }
+
+    private record MatchDto(UUID id, OffsetDateTime startTime, OffsetDateTime endTime, UUID homeTeamId,
+                            String homeTeamName, UUID awayTeamId, String awayTeamName, long homeTeamScore,
+                            long awayTeamScore) implements Serializable {
+
+        private static MatchDto of(Match match) {
+            return new MatchDto(match.id(), match.startTime(), match.endTime(), match.homeTeam().id(),
+                    match.homeTeam().name(), match.awayTeam().id(), match.awayTeam().name(),
+                    match.score().homeTeamScore(), match.score().awayTeamScore());
+        }
+
+        private Match toMatch() {
+            return new Match(id, startTime, endTime, new Team(homeTeamId, homeTeamName),
+                    new Team(awayTeamId, awayTeamName), new Score(homeTeamScore, awayTeamScore));
+        }
+    }
+}
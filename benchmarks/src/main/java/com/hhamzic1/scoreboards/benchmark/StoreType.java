@@ -0,0 +1,57 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+import com.hhamzic1.scoreboards.common.store.MatchJournalPolicy;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+public enum StoreType {
+
+    HASH_MAP {
+        @Override
+        public MatchDataStore create() {
+            return MatchDataStoreFactory.createInMemoryMatchDataStore();
+        }
+    },
+    SUMMARY_INDEXED {
+        @Override
+        public MatchDataStore create() {
+            return MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL);
+        }
+    },
+    SLOT {
+        @Override
+        public MatchDataStore create() {
+            return MatchDataStoreFactory.createSlotInMemoryMatchDataStore();
+        }
+    },
+    OFF_HEAP {
+        @Override
+        public MatchDataStore create() {
+            return MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore();
+        }
+    },
+    SUMMARY_CACHED {
+        @Override
+        public MatchDataStore create() {
+            return MatchDataStoreFactory.createSummaryCachingMatchDataStore(MatchDataStoreFactory.createInMemoryMatchDataStore());
+        }
+    },
+    DURABLE {
+        @Override
+        public MatchDataStore create() {
+            try {
+                var journalDirectory = Files.createTempDirectory("scoreboards-journal");
+                return MatchDataStoreFactory.createDurableInMemoryMatchDataStore(MatchJournalPolicy.defaults(journalDirectory));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    public abstract MatchDataStore create();
+}
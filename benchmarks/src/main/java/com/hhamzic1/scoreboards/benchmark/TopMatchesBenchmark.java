@@ -0,0 +1,61 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopMatchesBenchmark {
+
+    private static final int ACTIVE_MATCHES = 50_000;
+    private static final int TOP_MATCHES = 10;
+
+    @Param({"HASH_MAP", "SUMMARY_INDEXED", "SLOT", "OFF_HEAP"})
+    private StoreType storeType;
+
+    private Scoreboard scoreboard;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(storeType);
+        var random = ThreadLocalRandom.current();
+        for (var matchId : ScoreboardFixture.startMatches(scoreboard, ACTIVE_MATCHES, "Top")) {
+            scoreboard.updateScore(matchId, ScoreboardFixture.randomScore(random));
+        }
+    }
+
+    @Benchmark
+    public List<Match> fullSummary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+
+    @Benchmark
+    public List<Match> topTen() {
+        return scoreboard.getTopMatches(TOP_MATCHES);
+    }
+
+    @Benchmark
+    public List<Match> tenthPage() {
+        return scoreboard.getActiveMatchesSummary(9 * TOP_MATCHES, TOP_MATCHES);
+    }
+}
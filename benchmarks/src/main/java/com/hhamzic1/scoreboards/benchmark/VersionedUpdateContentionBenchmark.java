@@ -0,0 +1,93 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.exception.MatchVersionConflictException;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class VersionedUpdateContentionBenchmark {
+
+    @Param({"1", "16", "1024"})
+    private int hotMatches;
+
+    @Param({"HASH_MAP", "SLOT"})
+    private StoreType storeType;
+
+    private Scoreboard scoreboard;
+    private UUID[] matchIds;
+    private Lock[] ingestLocks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoreboard = ScoreboardFixture.createScoreboard(storeType);
+        matchIds = ScoreboardFixture.startMatches(scoreboard, hotMatches, "Contention");
+        ingestLocks = new Lock[hotMatches];
+        for (int i = 0; i < hotMatches; i++) {
+            ingestLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Benchmark
+    public VersionedMatch compareAndSet(Conflicts conflicts) {
+        var matchId = matchIds[ThreadLocalRandom.current().nextInt(hotMatches)];
+        while (true) {
+            var current = scoreboard.getVersionedMatch(matchId).orElseThrow();
+            try {
+                return scoreboard.updateScoreIfVersion(matchId, current.version(), nextScore(current.match().score()));
+            } catch (MatchVersionConflictException e) {
+                conflicts.conflicts++;
+            }
+        }
+    }
+
+    @Benchmark
+    public VersionedMatch externallyLocked() {
+        var i = ThreadLocalRandom.current().nextInt(hotMatches);
+        var matchId = matchIds[i];
+        ingestLocks[i].lock();
+        try {
+            var current = scoreboard.getVersionedMatch(matchId).orElseThrow();
+            return scoreboard.updateScoreIfVersion(matchId, current.version(), nextScore(current.match().score()));
+        } finally {
+            ingestLocks[i].unlock();
+        }
+    }
+
+    private static Score nextScore(Score score) {
+        return new Score(score.homeTeamScore() + 1, score.awayTeamScore());
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Conflicts {
+
+        public long conflicts;
+    }
+}
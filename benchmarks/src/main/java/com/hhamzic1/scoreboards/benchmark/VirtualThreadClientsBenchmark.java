@@ -0,0 +1,98 @@
+package com.hhamzic1.scoreboards.benchmark;
+
+import com.hhamzic1.scoreboards.AsyncScoreboard;
+import com.hhamzic1.scoreboards.AsyncScoreboardPolicy;
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(1)
+public class VirtualThreadClientsBenchmark {
+
+    private static final int ACTIVE_MATCHES = 10_000;
+
+    @Param({"100000"})
+    private int clients;
+
+    @Param({"SYNC", "ASYNC"})
+    private String scoreboardType;
+
+    private Scoreboard scoreboard;
+    private AsyncScoreboard asyncScoreboard;
+    private UUID[] matchIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var store = MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL);
+        scoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, store);
+        matchIds = ScoreboardFixture.startMatches(scoreboard, ACTIVE_MATCHES, "Clients");
+        asyncScoreboard = ScoreboardFactory.createAsyncScoreboard(SportType.FOOTBALL, store, AsyncScoreboardPolicy.defaults());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        asyncScoreboard.close();
+    }
+
+    @Benchmark
+    public void updateScoreFromVirtualThreads(Latencies latencies) {
+        var latenciesNanos = new long[clients];
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                var client = i;
+                executor.submit(() -> {
+                    var random = ThreadLocalRandom.current();
+                    var matchId = matchIds[random.nextInt(matchIds.length)];
+                    var score = ScoreboardFixture.randomScore(random);
+                    var start = System.nanoTime();
+                    if (scoreboardType.equals("ASYNC")) {
+                        asyncScoreboard.updateScore(matchId, score).join();
+                    } else {
+                        scoreboard.updateScore(matchId, score);
+                    }
+                    latenciesNanos[client] = System.nanoTime() - start;
+                });
+            }
+        }
+
+        Arrays.sort(latenciesNanos);
+        latencies.p50Micros = latenciesNanos[clients / 2] / 1_000;
+        latencies.p99Micros = latenciesNanos[(int) (clients * 0.99)] / 1_000;
+        latencies.p999Micros = latenciesNanos[(int) (clients * 0.999)] / 1_000;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Latencies {
+
+        public long p50Micros;
+        public long p99Micros;
+        public long p999Micros;
+    }
+}
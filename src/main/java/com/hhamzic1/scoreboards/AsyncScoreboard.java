@@ -0,0 +1,33 @@
+package com.hhamzic1.scoreboards;
+
+import com.hhamzic1.scoreboards.common.event.MatchEvent;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+public interface AsyncScoreboard extends AutoCloseable {
+
+    CompletableFuture<Match> startMatch(Team homeTeam, Team awayTeam);
+
+    CompletableFuture<Void> finishMatch(UUID matchId);
+
+    CompletableFuture<Match> updateScore(UUID matchId, Score score);
+
+    List<Match> getActiveMatchesSummary();
+
+    List<Match> getTopMatches(int limit);
+
+    List<Match> getAllFinishedMatches();
+
+    Flow.Publisher<MatchEvent> getMatchEvents();
+
+    Flow.Publisher<MatchEvent> getUnrankedMatchEvents();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,26 @@
+package com.hhamzic1.scoreboards;
+
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+
+import java.util.concurrent.Executor;
+
+public record AsyncScoreboardPolicy(int pipelines, int queueCapacity, int maxBatchSize, Executor completionExecutor) {
+
+    public AsyncScoreboardPolicy {
+        if (pipelines <= 0 || queueCapacity <= 0 || maxBatchSize <= 0) {
+            throw new ScoreboardException("Pipelines, queue capacity and batch size must be positive.");
+        }
+    }
+
+    public AsyncScoreboardPolicy(int pipelines, int queueCapacity, int maxBatchSize) {
+        this(pipelines, queueCapacity, maxBatchSize, null);
+    }
+
+    public static AsyncScoreboardPolicy defaults() {
+        return new AsyncScoreboardPolicy(Runtime.getRuntime().availableProcessors(), 16_384, 256);
+    }
+
+    public AsyncScoreboardPolicy withCompletionExecutor(Executor completionExecutor) {
+        return new AsyncScoreboardPolicy(pipelines, queueCapacity, maxBatchSize, completionExecutor);
+    }
+}
@@ -0,0 +1,24 @@
+package com.hhamzic1.scoreboards;
+
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+
+public record ScoreTimelinePolicy(boolean enabled, long maxFinishedMatches) {
+
+    public ScoreTimelinePolicy {
+        if (enabled && maxFinishedMatches <= 0) {
+            throw new ScoreboardException("Maximum number of finished match timelines must be positive.");
+        }
+    }
+
+    public static ScoreTimelinePolicy disabled() {
+        return new ScoreTimelinePolicy(false, 0);
+    }
+
+    public static ScoreTimelinePolicy unbounded() {
+        return new ScoreTimelinePolicy(true, Long.MAX_VALUE);
+    }
+
+    public static ScoreTimelinePolicy maxFinishedMatches(long maxFinishedMatches) {
+        return new ScoreTimelinePolicy(true, maxFinishedMatches);
+    }
+}
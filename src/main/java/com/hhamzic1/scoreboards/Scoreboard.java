@@ -1,11 +1,23 @@
 package com.hhamzic1.scoreboards;
 
+import com.hhamzic1.scoreboards.common.event.MatchEvent;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
 import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.MatchFixture;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
 import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.ScoreChange;
 import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Flow;
 
 public interface Scoreboard {
 
@@ -15,7 +27,43 @@ public interface Scoreboard {
 
     Match updateScore(UUID matchId, Score score);
 
+    VersionedMatch updateScoreIfVersion(UUID matchId, long expectedVersion, Score score);
+
+    void setScore(UUID matchId, long homeTeamScore, long awayTeamScore);
+
+    BatchResult<MatchFixture, Match> startMatches(List<MatchFixture> fixtures);
+
+    BatchResult<UUID, Match> updateScores(Map<UUID, Score> scores);
+
+    BatchResult<UUID, Match> finishMatches(Collection<UUID> matchIds);
+
     List<Match> getActiveMatchesSummary();
 
+    Optional<VersionedMatch> getVersionedMatch(UUID matchId);
+
+    List<VersionedMatch> getVersionedActiveMatchesSummary();
+
+    List<Match> getTopMatches(int limit);
+
+    List<Match> getActiveMatchesSummary(int offset, int limit);
+
+    Optional<RankedMatch> getRankedMatch(UUID matchId);
+
+    List<Match> getActiveMatchesSummaryAt(Instant instant);
+
+    List<ScoreChange> getScoreHistory(UUID matchId);
+
     List<Match> getAllFinishedMatches();
+
+    List<Match> getFinishedMatches(OffsetDateTime finishedAfter, int limit);
+
+    List<Match> getFinishedMatches(OffsetDateTime finishedAfter, UUID afterMatchId, int limit);
+
+    List<Match> getFinishedMatchesOf(Team team, int limit);
+
+    List<Match> getFinishedMatchesBetween(Team team, Team otherTeam, int limit);
+
+    Flow.Publisher<MatchEvent> getMatchEvents();
+
+    Flow.Publisher<MatchEvent> getUnrankedMatchEvents();
 }
\ No newline at end of file
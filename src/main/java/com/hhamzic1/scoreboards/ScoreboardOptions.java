@@ -0,0 +1,48 @@
+package com.hhamzic1.scoreboards;
+
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+import com.hhamzic1.scoreboards.common.clock.MatchIdGenerator;
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.ranking.RankingStrategy;
+
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.isNull;
+
+public record ScoreboardOptions(TeamRegistry teamRegistry, RankingStrategy rankingStrategy, ScoreTimelinePolicy timelinePolicy,
+                                MatchClock clock, MatchIdGenerator idGenerator, Executor eventExecutor) {
+
+    public ScoreboardOptions {
+        if (isNull(timelinePolicy)) {
+            throw new ScoreboardException("Score timeline policy can't be null!");
+        }
+    }
+
+    public static ScoreboardOptions defaults() {
+        return new ScoreboardOptions(null, null, ScoreTimelinePolicy.disabled(), null, null, null);
+    }
+
+    public ScoreboardOptions withTeamRegistry(TeamRegistry teamRegistry) {
+        return new ScoreboardOptions(teamRegistry, rankingStrategy, timelinePolicy, clock, idGenerator, eventExecutor);
+    }
+
+    public ScoreboardOptions withRankingStrategy(RankingStrategy rankingStrategy) {
+        return new ScoreboardOptions(teamRegistry, rankingStrategy, timelinePolicy, clock, idGenerator, eventExecutor);
+    }
+
+    public ScoreboardOptions withTimelinePolicy(ScoreTimelinePolicy timelinePolicy) {
+        return new ScoreboardOptions(teamRegistry, rankingStrategy, timelinePolicy, clock, idGenerator, eventExecutor);
+    }
+
+    public ScoreboardOptions withClock(MatchClock clock) {
+        return new ScoreboardOptions(teamRegistry, rankingStrategy, timelinePolicy, clock, idGenerator, eventExecutor);
+    }
+
+    public ScoreboardOptions withIdGenerator(MatchIdGenerator idGenerator) {
+        return new ScoreboardOptions(teamRegistry, rankingStrategy, timelinePolicy, clock, idGenerator, eventExecutor);
+    }
+
+    public ScoreboardOptions withEventExecutor(Executor eventExecutor) {
+        return new ScoreboardOptions(teamRegistry, rankingStrategy, timelinePolicy, clock, idGenerator, eventExecutor);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hhamzic1.scoreboards;
+
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.Optional;
+
+public interface TeamRegistry {
+
+    Team register(String name);
+
+    Team intern(Team team);
+
+    int surrogateIdOf(Team team);
+
+    Optional<Team> findByName(String name);
+
+    int size();
+}
@@ -0,0 +1,12 @@
+package com.hhamzic1.scoreboards.common.clock;
+
+import java.time.OffsetDateTime;
+
+public interface MatchClock {
+
+    OffsetDateTime now();
+
+    default long epochMillis() {
+        return now().toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,8 @@
+package com.hhamzic1.scoreboards.common.clock;
+
+import java.util.UUID;
+
+public interface MatchIdGenerator {
+
+    UUID nextId();
+}
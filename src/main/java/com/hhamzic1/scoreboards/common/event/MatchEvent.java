@@ -0,0 +1,6 @@
+package com.hhamzic1.scoreboards.common.event;
+
+import com.hhamzic1.scoreboards.common.model.Match;
+
+public record MatchEvent(MatchEventType type, Match match, int rank) {
+}
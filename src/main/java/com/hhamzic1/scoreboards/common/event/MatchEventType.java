@@ -0,0 +1,8 @@
+package com.hhamzic1.scoreboards.common.event;
+
+public enum MatchEventType {
+
+    STARTED,
+    SCORE_CHANGED,
+    FINISHED
+}
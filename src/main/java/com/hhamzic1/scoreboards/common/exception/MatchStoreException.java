@@ -9,4 +9,8 @@ public class MatchStoreException extends RuntimeException {
     public MatchStoreException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    public MatchStoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.hhamzic1.scoreboards.common.exception;
+
+public class MatchVersionConflictException extends MatchStoreException {
+
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public MatchVersionConflictException(String message, long expectedVersion, long actualVersion) {
+        super(message);
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
@@ -9,4 +9,8 @@ public class ScoreboardException extends RuntimeException {
     public ScoreboardException(String message) {
         super(message);
     }
+
+    public ScoreboardException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.hhamzic1.scoreboards.common.metrics;
+
+public interface InMemoryMetricsRegistry extends MetricsRegistry {
+
+    void setEnabled(boolean enabled);
+
+    MetricsSnapshot snapshot();
+}
@@ -0,0 +1,5 @@
+package com.hhamzic1.scoreboards.common.metrics;
+
+public record LatencySnapshot(long count, double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                              long p999Nanos, long maxNanos) {
+}
@@ -0,0 +1,6 @@
+package com.hhamzic1.scoreboards.common.metrics;
+
+public interface LatencyTimer {
+
+    void record(long nanos);
+}
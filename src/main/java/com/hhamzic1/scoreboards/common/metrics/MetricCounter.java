@@ -0,0 +1,6 @@
+package com.hhamzic1.scoreboards.common.metrics;
+
+public interface MetricCounter {
+
+    void increment();
+}
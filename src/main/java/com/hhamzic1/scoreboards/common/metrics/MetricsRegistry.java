@@ -0,0 +1,14 @@
+package com.hhamzic1.scoreboards.common.metrics;
+
+import java.util.function.LongSupplier;
+
+public interface MetricsRegistry {
+
+    LatencyTimer timer(String name);
+
+    MetricCounter counter(String name);
+
+    void gauge(String name, LongSupplier value);
+
+    boolean isEnabled();
+}
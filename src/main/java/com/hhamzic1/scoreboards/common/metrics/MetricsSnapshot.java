@@ -0,0 +1,7 @@
+package com.hhamzic1.scoreboards.common.metrics;
+
+import java.util.Map;
+
+public record MetricsSnapshot(Map<String, LatencySnapshot> latencies, Map<String, Long> counters,
+                              Map<String, Long> gauges) {
+}
@@ -0,0 +1,10 @@
+package com.hhamzic1.scoreboards.common.model;
+
+import java.util.Map;
+
+public record BatchResult<K, V>(Map<K, V> succeeded, Map<K, RuntimeException> failed) {
+
+    public boolean hasFailures() {
+        return !failed.isEmpty();
+    }
+}
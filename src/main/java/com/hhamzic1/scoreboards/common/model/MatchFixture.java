@@ -0,0 +1,4 @@
+package com.hhamzic1.scoreboards.common.model;
+
+public record MatchFixture(Team homeTeam, Team awayTeam) {
+}
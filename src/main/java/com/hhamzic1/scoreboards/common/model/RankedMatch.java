@@ -0,0 +1,4 @@
+package com.hhamzic1.scoreboards.common.model;
+
+public record RankedMatch(Match match, int rank) {
+}
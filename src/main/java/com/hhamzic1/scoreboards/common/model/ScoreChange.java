@@ -0,0 +1,6 @@
+package com.hhamzic1.scoreboards.common.model;
+
+import java.time.Instant;
+
+public record ScoreChange(Instant changedAt, Score score) {
+}
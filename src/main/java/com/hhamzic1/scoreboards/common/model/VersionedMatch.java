@@ -0,0 +1,4 @@
+package com.hhamzic1.scoreboards.common.model;
+
+public record VersionedMatch(Match match, long version) {
+}
@@ -0,0 +1,27 @@
+package com.hhamzic1.scoreboards.common.ranking;
+
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+
+import java.time.OffsetDateTime;
+
+public interface RankingStrategy {
+
+    int RANK_BITS = 21;
+    long MAX_RANK = (1L << RANK_BITS) - 1;
+    long MAX_START_MILLIS = (1L << (Long.SIZE - 1 - RANK_BITS)) - 1;
+
+    long sortKey(long homeTeamScore, long awayTeamScore, OffsetDateTime startTime);
+
+    static long packed(long rank, OffsetDateTime startTime) {
+        if (rank < 0 || rank > MAX_RANK) {
+            throw new ScoreboardException("Rank %d is outside of the rankable range [0, %d]!".formatted(rank, MAX_RANK));
+        }
+
+        var startMillis = startTime.toInstant().toEpochMilli();
+        if (startMillis < 0 || startMillis > MAX_START_MILLIS) {
+            throw new ScoreboardException("Start time %s is outside of the rankable range!".formatted(startTime));
+        }
+
+        return rank << (Long.SIZE - 1 - RANK_BITS) | startMillis;
+    }
+}
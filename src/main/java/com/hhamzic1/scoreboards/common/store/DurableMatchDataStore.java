@@ -0,0 +1,9 @@
+package com.hhamzic1.scoreboards.common.store;
+
+public interface DurableMatchDataStore extends InMemoryMatchDataStore, AutoCloseable {
+
+    void snapshot();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,52 @@
+package com.hhamzic1.scoreboards.common.store;
+
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public record FinishedMatchesArchivePolicy(long maxMatches, Duration maxAge, Path spillFile, MatchClock clock) {
+
+    public FinishedMatchesArchivePolicy {
+        if (maxMatches <= 0) {
+            throw new MatchStoreException("Maximum number of archived matches must be positive.");
+        }
+
+        if (nonNull(maxAge) && (maxAge.isNegative() || maxAge.isZero())) {
+            throw new MatchStoreException("Maximum age of archived matches must be positive.");
+        }
+    }
+
+    public static FinishedMatchesArchivePolicy unbounded() {
+        return new FinishedMatchesArchivePolicy(Long.MAX_VALUE, null, null, null);
+    }
+
+    public static FinishedMatchesArchivePolicy maxMatches(long maxMatches) {
+        return new FinishedMatchesArchivePolicy(maxMatches, null, null, null);
+    }
+
+    public static FinishedMatchesArchivePolicy maxAge(Duration maxAge) {
+        return new FinishedMatchesArchivePolicy(Long.MAX_VALUE, maxAge, null, null);
+    }
+
+    public FinishedMatchesArchivePolicy withSpillFile(Path spillFile) {
+        return new FinishedMatchesArchivePolicy(maxMatches, maxAge, spillFile, clock);
+    }
+
+    public FinishedMatchesArchivePolicy withClock(MatchClock clock) {
+        return new FinishedMatchesArchivePolicy(maxMatches, maxAge, spillFile, clock);
+    }
+
+    public OffsetDateTime maxAgeCutoff() {
+        if (isNull(maxAge)) {
+            return null;
+        }
+
+        return (isNull(clock) ? OffsetDateTime.now() : clock.now()).minus(maxAge);
+    }
+}
@@ -1,6 +1,13 @@
 package com.hhamzic1.scoreboards.common.store;
 
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
 public interface InMemoryMatchDataStore extends MatchDataStore {
 
     void clear();
-}
\ No newline at end of file
+
+    void exportTo(WritableByteChannel channel);
+
+    void importFrom(ReadableByteChannel channel);
+}
@@ -1,12 +1,25 @@
 package com.hhamzic1.scoreboards.common.store;
 
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
 import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 public interface MatchDataStore {
 
     Match save(UUID matchId, Match match);
@@ -15,9 +28,143 @@ public interface MatchDataStore {
 
     void delete(UUID matchId);
 
+    default Match finish(UUID matchId, OffsetDateTime endTime) {
+        throw new MatchStoreException("%s doesn't support finishing matches at a given end time.".formatted(getClass().getSimpleName()));
+    }
+
+    default VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        throw new MatchStoreException("%s doesn't support versioned updates.".formatted(getClass().getSimpleName()));
+    }
+
+    default void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        update(matchId, match -> new Match(match, new Score(homeTeamScore, awayTeamScore)));
+    }
+
+    default BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        var succeeded = new LinkedHashMap<UUID, Match>();
+        var failed = new LinkedHashMap<UUID, RuntimeException>();
+        matches.forEach((matchId, match) -> {
+            try {
+                succeeded.put(matchId, save(matchId, match));
+            } catch (RuntimeException e) {
+                failed.put(matchId, e);
+            }
+        });
+
+        return new BatchResult<>(succeeded, failed);
+    }
+
+    default BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        var succeeded = new LinkedHashMap<UUID, Match>();
+        var failed = new LinkedHashMap<UUID, RuntimeException>();
+        updaters.forEach((matchId, updater) -> {
+            try {
+                succeeded.put(matchId, update(matchId, updater));
+            } catch (RuntimeException e) {
+                failed.put(matchId, e);
+            }
+        });
+
+        return new BatchResult<>(succeeded, failed);
+    }
+
+    default BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        var succeeded = new LinkedHashMap<UUID, Match>();
+        var failed = new LinkedHashMap<UUID, RuntimeException>();
+        matchIds.forEach(matchId -> {
+            try {
+                succeeded.put(matchId, finish(matchId, endTime));
+            } catch (RuntimeException e) {
+                failed.put(matchId, e);
+            }
+        });
+
+        return new BatchResult<>(succeeded, failed);
+    }
+
     List<Match> getAllActive();
 
     List<Match> getAllActive(Comparator<?> comparator);
 
     List<Match> getAllFinished();
+
+    default Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        throw new MatchStoreException("%s doesn't support versioned reads.".formatted(getClass().getSimpleName()));
+    }
+
+    default List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        throw new MatchStoreException("%s doesn't support versioned reads.".formatted(getClass().getSimpleName()));
+    }
+
+    default long countActive() {
+        return getAllActive().size();
+    }
+
+    default long countFinished() {
+        return getAllFinished().size();
+    }
+
+    default List<Match> getTopActive(Comparator<?> comparator, int limit) {
+        return getActiveRange(comparator, 0, limit);
+    }
+
+    default List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        var activeMatches = getAllActive(comparator);
+        var from = Math.min(offset, activeMatches.size());
+
+        return activeMatches.subList(from, (int) Math.min((long) from + limit, activeMatches.size()));
+    }
+
+    default Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        var activeMatches = getAllActive(comparator);
+        for (int i = 0; i < activeMatches.size(); i++) {
+            if (activeMatches.get(i).id().equals(matchId)) {
+                return Optional.of(new RankedMatch(activeMatches.get(i), i + 1));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    default List<Match> getFinished(OffsetDateTime finishedAfter, int limit) {
+        return getFinished(finishedAfter, null, limit);
+    }
+
+    default List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        var finishedMatches = getAllFinished().stream()
+                .filter(match -> isNull(finishedAfter) || !match.endTime().isBefore(finishedAfter))
+                .sorted(Comparator.comparing(Match::endTime))
+                .toList();
+
+        var from = 0;
+        while (nonNull(finishedAfter) && isNull(afterMatchId) && from < finishedMatches.size()
+                && finishedMatches.get(from).endTime().isEqual(finishedAfter)) {
+            from++;
+        }
+        for (int i = 0; nonNull(afterMatchId) && i < finishedMatches.size(); i++) {
+            if (finishedMatches.get(i).id().equals(afterMatchId)) {
+                from = i + 1;
+                break;
+            }
+        }
+
+        return finishedMatches.subList(from, Math.min(finishedMatches.size(), from + limit));
+    }
+
+    default List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return getAllFinished().stream()
+                .filter(match -> match.homeTeam().id().equals(teamId) || match.awayTeam().id().equals(teamId))
+                .sorted(Comparator.comparing(Match::endTime).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    default List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return getAllFinished().stream()
+                .filter(match -> match.homeTeam().id().equals(teamId) && match.awayTeam().id().equals(otherTeamId)
+                        || match.homeTeam().id().equals(otherTeamId) && match.awayTeam().id().equals(teamId))
+                .sorted(Comparator.comparing(Match::endTime).reversed())
+                .limit(limit)
+                .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.hhamzic1.scoreboards.common.store;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static java.util.Objects.isNull;
+
+public record MatchJournalPolicy(Path directory, int segmentSizeBytes, Duration flushInterval, long snapshotEveryEvents) {
+
+    private static final int DEFAULT_SEGMENT_SIZE_BYTES = 64 * 1024 * 1024;
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+    private static final long DEFAULT_SNAPSHOT_EVERY_EVENTS = 1_000_000;
+
+    public MatchJournalPolicy {
+        if (isNull(directory)) {
+            throw new MatchStoreException("Journal directory can't be null!");
+        }
+
+        if (segmentSizeBytes <= 0) {
+            throw new MatchStoreException("Journal segment size must be positive.");
+        }
+
+        if (isNull(flushInterval) || flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new MatchStoreException("Journal flush interval must be positive.");
+        }
+
+        if (snapshotEveryEvents <= 0) {
+            throw new MatchStoreException("Number of events between snapshots must be positive.");
+        }
+    }
+
+    public static MatchJournalPolicy defaults(Path directory) {
+        return new MatchJournalPolicy(directory, DEFAULT_SEGMENT_SIZE_BYTES, DEFAULT_FLUSH_INTERVAL, DEFAULT_SNAPSHOT_EVERY_EVENTS);
+    }
+
+    public MatchJournalPolicy withSnapshotEveryEvents(long snapshotEveryEvents) {
+        return new MatchJournalPolicy(directory, segmentSizeBytes, flushInterval, snapshotEveryEvents);
+    }
+}
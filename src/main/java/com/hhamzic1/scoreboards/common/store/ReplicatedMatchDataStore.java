@@ -0,0 +1,18 @@
+package com.hhamzic1.scoreboards.common.store;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface ReplicatedMatchDataStore extends InMemoryMatchDataStore, AutoCloseable {
+
+    List<MatchDataStore> getFollowers();
+
+    List<ReplicationStats> getReplicationStats();
+
+    boolean awaitReplication(Duration timeout);
+
+    void resync(int follower);
+
+    @Override
+    void close();
+}
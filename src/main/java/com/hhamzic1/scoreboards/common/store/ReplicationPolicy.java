@@ -0,0 +1,45 @@
+package com.hhamzic1.scoreboards.common.store;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+
+import static java.util.Objects.isNull;
+
+public record ReplicationPolicy(int followerCount, ReplicationTransport transport, int maxBatchSize, int maxPendingDeltas) {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+    private static final int DEFAULT_MAX_PENDING_DELTAS = 1 << 16;
+
+    public ReplicationPolicy {
+        if (followerCount <= 0) {
+            throw new MatchStoreException("Number of followers must be positive.");
+        }
+
+        if (isNull(transport)) {
+            throw new MatchStoreException("Replication transport can't be null!");
+        }
+
+        if (maxBatchSize <= 0) {
+            throw new MatchStoreException("Maximum replication batch size must be positive.");
+        }
+
+        if (maxPendingDeltas < maxBatchSize) {
+            throw new MatchStoreException("Maximum number of pending deltas can't be smaller than the batch size.");
+        }
+    }
+
+    public static ReplicationPolicy inProcess(int followerCount) {
+        return new ReplicationPolicy(followerCount, ReplicationTransport.IN_PROCESS, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_PENDING_DELTAS);
+    }
+
+    public static ReplicationPolicy tcpLoopback(int followerCount) {
+        return new ReplicationPolicy(followerCount, ReplicationTransport.TCP_LOOPBACK, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_PENDING_DELTAS);
+    }
+
+    public ReplicationPolicy withMaxBatchSize(int maxBatchSize) {
+        return new ReplicationPolicy(followerCount, transport, maxBatchSize, Math.max(maxPendingDeltas, maxBatchSize));
+    }
+
+    public ReplicationPolicy withMaxPendingDeltas(int maxPendingDeltas) {
+        return new ReplicationPolicy(followerCount, transport, maxBatchSize, maxPendingDeltas);
+    }
+}
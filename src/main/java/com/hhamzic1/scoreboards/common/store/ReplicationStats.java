@@ -0,0 +1,17 @@
+package com.hhamzic1.scoreboards.common.store;
+
+import java.time.Duration;
+
+import static java.util.Objects.nonNull;
+
+public record ReplicationStats(long leaderSequence, long appliedSequence, Duration lag, long appliedBatches,
+                               long appliedDeltas, long resyncs, Throwable failure) {
+
+    public long pendingDeltas() {
+        return leaderSequence - appliedSequence;
+    }
+
+    public boolean failed() {
+        return nonNull(failure);
+    }
+}
@@ -0,0 +1,6 @@
+package com.hhamzic1.scoreboards.common.store;
+
+public enum ReplicationTransport {
+    IN_PROCESS,
+    TCP_LOOPBACK
+}
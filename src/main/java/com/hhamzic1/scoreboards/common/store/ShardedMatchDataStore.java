@@ -0,0 +1,13 @@
+package com.hhamzic1.scoreboards.common.store;
+
+import com.hhamzic1.scoreboards.common.model.Match;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ShardedMatchDataStore extends InMemoryMatchDataStore {
+
+    Set<String> getShardKeys();
+
+    List<Match> getActiveSummary(String shardKey);
+}
@@ -0,0 +1,24 @@
+package com.hhamzic1.scoreboards.common.store;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+
+import java.time.Duration;
+
+import static java.util.Objects.isNull;
+
+public record SummaryCachePolicy(Duration minRefreshInterval) {
+
+    public SummaryCachePolicy {
+        if (isNull(minRefreshInterval) || minRefreshInterval.isNegative()) {
+            throw new MatchStoreException("Minimum refresh interval of the summary cache can't be negative.");
+        }
+    }
+
+    public static SummaryCachePolicy perMutation() {
+        return new SummaryCachePolicy(Duration.ZERO);
+    }
+
+    public static SummaryCachePolicy minRefreshInterval(Duration minRefreshInterval) {
+        return new SummaryCachePolicy(minRefreshInterval);
+    }
+}
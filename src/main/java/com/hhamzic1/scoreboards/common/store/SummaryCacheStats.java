@@ -0,0 +1,4 @@
+package com.hhamzic1.scoreboards.common.store;
+
+public record SummaryCacheStats(long hits, long misses, long rebuilds) {
+}
@@ -0,0 +1,6 @@
+package com.hhamzic1.scoreboards.common.store;
+
+public interface SummaryCachingMatchDataStore extends MatchDataStore {
+
+    SummaryCacheStats getSummaryCacheStats();
+}
@@ -0,0 +1,86 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+abstract class AbstractScoreboardValidator implements ScoreboardValidator {
+
+    @Override
+    public void validateOnStartMatch(Team homeTeam, Team awayTeam) {
+        if (isNull(homeTeam) || isNull(awayTeam)) {
+            throw new ScoreboardException("Team as a parameter can't be null!");
+        }
+
+        if (homeTeam.id().equals(awayTeam.id())) {
+            throw new ScoreboardException("A team can't play against itself!");
+        }
+    }
+
+    @Override
+    public void validateOnFinishMatch(UUID matchId) {
+        if (isNull(matchId)) {
+            throw new ScoreboardException("Match ID can't be null");
+        }
+    }
+
+    @Override
+    public void validateOnScoreUpdate(UUID matchId, Score score) {
+        if (isNull(matchId)) {
+            throw new ScoreboardException("MatchId can't be null");
+        }
+
+        if (isNull(score)) {
+            throw new ScoreboardException("Score can't be null");
+        }
+
+        validateOnScoreUpdate(matchId, score.homeTeamScore(), score.awayTeamScore());
+    }
+
+    @Override
+    public void validateOnScoreUpdate(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        if (isNull(matchId)) {
+            throw new ScoreboardException("MatchId can't be null");
+        }
+
+        validateScores(homeTeamScore, awayTeamScore);
+    }
+
+    @Override
+    public void validateOnPagedQuery(int limit) {
+        if (limit <= 0) {
+            throw new ScoreboardException("Limit must be positive.");
+        }
+    }
+
+    @Override
+    public void validateOnPagedQuery(int offset, int limit) {
+        if (offset < 0) {
+            throw new ScoreboardException("Offset can't be negative.");
+        }
+
+        validateOnPagedQuery(limit);
+    }
+
+    @Override
+    public void validateOnTeamQuery(Team team, int limit) {
+        if (isNull(team) || isNull(team.id())) {
+            throw new ScoreboardException("Team as a parameter can't be null!");
+        }
+
+        validateOnPagedQuery(limit);
+    }
+
+    @Override
+    public void validateOnBatch(Object batch) {
+        if (isNull(batch)) {
+            throw new ScoreboardException("Batch can't be null");
+        }
+    }
+
+    protected abstract void validateScores(long homeTeamScore, long awayTeamScore);
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+class ActiveMatchSlot {
+
+    static final long FINISHED = -1L;
+    private static final long ANY_VERSION = -2L;
+    private static final long VERSION_MISMATCH = -3L;
+    private static final int MAX_SPINS = 64;
+    private static final VarHandle SEQUENCE;
+
+    static {
+        try {
+            SEQUENCE = MethodHandles.lookup().findVarHandle(ActiveMatchSlot.class, "sequence", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final UUID id;
+    private final OffsetDateTime startTime;
+    private final Team homeTeam;
+    private final Team awayTeam;
+    private final long storeOrderId;
+    private volatile long sequence;
+    private long homeTeamScore;
+    private long awayTeamScore;
+
+    ActiveMatchSlot(StoredMatch storedMatch) {
+        this.id = storedMatch.id();
+        this.startTime = storedMatch.startTime();
+        this.homeTeam = storedMatch.homeTeam();
+        this.awayTeam = storedMatch.awayTeam();
+        this.storeOrderId = storedMatch.storeOrderId();
+        this.sequence = storedMatch.version() << 1;
+        this.homeTeamScore = storedMatch.score().homeTeamScore();
+        this.awayTeamScore = storedMatch.score().awayTeamScore();
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    Team homeTeam() {
+        return homeTeam;
+    }
+
+    Team awayTeam() {
+        return awayTeam;
+    }
+
+    long storeOrderId() {
+        return storeOrderId;
+    }
+
+    boolean setScore(long homeTeamScore, long awayTeamScore) {
+        return setScoreIfVersion(ANY_VERSION, homeTeamScore, awayTeamScore);
+    }
+
+    boolean setScoreIfVersion(long expectedVersion, long homeTeamScore, long awayTeamScore) {
+        var writeSequence = beginWrite(expectedVersion);
+        if (writeSequence == FINISHED || writeSequence == VERSION_MISMATCH) {
+            return false;
+        }
+
+        this.homeTeamScore = homeTeamScore;
+        this.awayTeamScore = awayTeamScore;
+        SEQUENCE.setRelease(this, writeSequence + 1);
+
+        return true;
+    }
+
+    long version() {
+        for (int spins = 0; ; spins++) {
+            var currentSequence = (long) SEQUENCE.getVolatile(this);
+            if (currentSequence == FINISHED) {
+                return FINISHED;
+            }
+            if ((currentSequence & 1) == 0) {
+                return currentSequence >>> 1;
+            }
+            backOff(spins);
+        }
+    }
+
+    StoredMatch finish(OffsetDateTime endTime) {
+        var writeSequence = beginWrite(ANY_VERSION);
+        if (writeSequence == FINISHED) {
+            return null;
+        }
+
+        var finishedMatch = new StoredMatch(id, startTime, endTime, homeTeam, awayTeam,
+                new Score(homeTeamScore, awayTeamScore), storeOrderId, writeSequence >>> 1);
+        SEQUENCE.setRelease(this, FINISHED);
+
+        return finishedMatch;
+    }
+
+    StoredMatch toStoredMatch() {
+        for (int spins = 0; ; spins++) {
+            var readSequence = (long) SEQUENCE.getAcquire(this);
+            var home = homeTeamScore;
+            var away = awayTeamScore;
+            VarHandle.loadLoadFence();
+
+            if (readSequence == FINISHED) {
+                return null;
+            }
+            if ((readSequence & 1) == 0 && readSequence == (long) SEQUENCE.getVolatile(this)) {
+                return new StoredMatch(id, startTime, null, homeTeam, awayTeam, new Score(home, away), storeOrderId,
+                        readSequence >>> 1);
+            }
+            backOff(spins);
+        }
+    }
+
+    private long beginWrite(long expectedVersion) {
+        for (int spins = 0; ; spins++) {
+            var currentSequence = (long) SEQUENCE.getVolatile(this);
+            if (currentSequence == FINISHED) {
+                return FINISHED;
+            }
+            if ((currentSequence & 1) == 0) {
+                if (expectedVersion != ANY_VERSION && currentSequence >>> 1 != expectedVersion) {
+                    return VERSION_MISMATCH;
+                }
+                if (SEQUENCE.compareAndSet(this, currentSequence, currentSequence + 1)) {
+                    return currentSequence + 1;
+                }
+            }
+            backOff(spins);
+        }
+    }
+
+    private static void backOff(int spins) {
+        if (spins < MAX_SPINS) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+import com.hhamzic1.scoreboards.common.model.Match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class ActiveMatchesSummaryIndex {
+
+    private final RankingOrder order;
+    private final OrderStatisticTree<RankingOrder.Ranked> orderedMatches = new OrderStatisticTree<>(RankingOrder.RANKED_ORDER);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile LatencyTimer lockWaitTimer;
+
+    ActiveMatchesSummaryIndex(RankingOrder order) {
+        this.order = order;
+    }
+
+    boolean isOrderedBy(Comparator<?> comparator) {
+        return order.equals(comparator);
+    }
+
+    void observeLockWait(LatencyTimer lockWaitTimer) {
+        this.lockWaitTimer = lockWaitTimer;
+    }
+
+    void replace(StoredMatch oldMatch, StoredMatch newMatch) {
+        lockForWrite();
+        try {
+            if (nonNull(oldMatch)) {
+                orderedMatches.remove(order.rank(oldMatch));
+            }
+            if (nonNull(newMatch)) {
+                orderedMatches.add(order.rank(newMatch));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Match> toSortedMatches() {
+        lock.readLock().lock();
+        try {
+            var matches = new ArrayList<Match>(orderedMatches.size());
+            for (var rankedMatch : orderedMatches.first(orderedMatches.size())) {
+                matches.add(rankedMatch.match().toMatch());
+            }
+            return Collections.unmodifiableList(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<RankingOrder.Ranked> toSortedRanked() {
+        lock.readLock().lock();
+        try {
+            return Collections.unmodifiableList(orderedMatches.first(orderedMatches.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<RankingOrder.Ranked> toTopRanked(int limit) {
+        lock.readLock().lock();
+        try {
+            return Collections.unmodifiableList(orderedMatches.first(limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int rankOf(StoredMatch storedMatch) {
+        lock.readLock().lock();
+        try {
+            return orderedMatches.countBefore(order.rank(storedMatch)) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void clear() {
+        lockForWrite();
+        try {
+            orderedMatches.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void lockForWrite() {
+        var timer = lockWaitTimer;
+        if (isNull(timer)) {
+            lock.writeLock().lock();
+            return;
+        }
+
+        var start = System.nanoTime();
+        lock.writeLock().lock();
+        timer.record(System.nanoTime() - start);
+    }
+}
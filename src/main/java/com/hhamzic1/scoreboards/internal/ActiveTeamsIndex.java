@@ -0,0 +1,43 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.nonNull;
+
+class ActiveTeamsIndex {
+
+    private final Map<UUID, UUID> activeMatchIdsByTeamId = new ConcurrentHashMap<>();
+
+    void claim(UUID matchId, Team homeTeam, Team awayTeam) {
+        var homeFirst = homeTeam.id().compareTo(awayTeam.id()) <= 0;
+        var firstTeamId = homeFirst ? homeTeam.id() : awayTeam.id();
+        var secondTeamId = homeFirst ? awayTeam.id() : homeTeam.id();
+        if (nonNull(activeMatchIdsByTeamId.putIfAbsent(firstTeamId, matchId))) {
+            throw new MatchStoreException("Some of the teams are already in another ongoing match.");
+        }
+
+        if (nonNull(activeMatchIdsByTeamId.putIfAbsent(secondTeamId, matchId))) {
+            activeMatchIdsByTeamId.remove(firstTeamId, matchId);
+            throw new MatchStoreException("Some of the teams are already in another ongoing match.");
+        }
+    }
+
+    void restore(UUID matchId, Team homeTeam, Team awayTeam) {
+        activeMatchIdsByTeamId.put(homeTeam.id(), matchId);
+        activeMatchIdsByTeamId.put(awayTeam.id(), matchId);
+    }
+
+    void release(UUID matchId, Team homeTeam, Team awayTeam) {
+        activeMatchIdsByTeamId.remove(homeTeam.id(), matchId);
+        activeMatchIdsByTeamId.remove(awayTeam.id(), matchId);
+    }
+
+    void clear() {
+        activeMatchIdsByTeamId.clear();
+    }
+}
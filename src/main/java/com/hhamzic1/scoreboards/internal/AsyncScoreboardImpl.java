@@ -0,0 +1,329 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.AsyncScoreboard;
+import com.hhamzic1.scoreboards.AsyncScoreboardPolicy;
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.event.MatchEvent;
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.MatchFixture;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.Objects.isNull;
+
+class AsyncScoreboardImpl implements AsyncScoreboard {
+
+    private static final Command SHUTDOWN = new FinishCommand(null, null);
+
+    private final Scoreboard scoreboard;
+    private final int maxBatchSize;
+    private final Executor completionExecutor;
+    private final List<BlockingQueue<Command>> pipelines = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+    private final Set<BlockingQueue<Command>> stoppedPipelines = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    AsyncScoreboardImpl(Scoreboard scoreboard, AsyncScoreboardPolicy policy, Executor completionExecutor) {
+        this.scoreboard = scoreboard;
+        this.maxBatchSize = policy.maxBatchSize();
+        this.completionExecutor = completionExecutor;
+
+        var writerFactory = Thread.ofPlatform().daemon().name("scoreboard-pipeline-", 0).factory();
+        for (int i = 0; i < policy.pipelines(); i++) {
+            var pipeline = new ArrayBlockingQueue<Command>(policy.queueCapacity());
+            pipelines.add(pipeline);
+            writers.add(writerFactory.newThread(() -> drain(pipeline)));
+        }
+        writers.forEach(Thread::start);
+    }
+
+    @Override
+    public CompletableFuture<Match> startMatch(Team homeTeam, Team awayTeam) {
+        var future = new CompletableFuture<Match>();
+        submit(isNull(homeTeam) ? null : homeTeam.id(), new StartCommand(new MatchFixture(homeTeam, awayTeam), future));
+
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> finishMatch(UUID matchId) {
+        var future = new CompletableFuture<Void>();
+        submit(matchId, new FinishCommand(matchId, future));
+
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Match> updateScore(UUID matchId, Score score) {
+        var future = new CompletableFuture<Match>();
+        submit(matchId, new UpdateCommand(matchId, score, future));
+
+        return future;
+    }
+
+    @Override
+    public List<Match> getActiveMatchesSummary() {
+        return scoreboard.getActiveMatchesSummary();
+    }
+
+    @Override
+    public List<Match> getTopMatches(int limit) {
+        return scoreboard.getTopMatches(limit);
+    }
+
+    @Override
+    public List<Match> getAllFinishedMatches() {
+        return scoreboard.getAllFinishedMatches();
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getMatchEvents() {
+        return scoreboard.getMatchEvents();
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getUnrankedMatchEvents() {
+        return scoreboard.getUnrankedMatchEvents();
+    }
+
+    @Override
+    public void close() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (var pipeline : pipelines) {
+                enqueue(pipeline, SHUTDOWN);
+            }
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+
+        for (var writer : writers) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void submit(UUID routingKey, Command command) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (closed) {
+                command.future().completeExceptionally(new ScoreboardException("Scoreboard is closed."));
+                return;
+            }
+
+            var pipeline = pipelines.get(isNull(routingKey) ? 0 : Math.floorMod(routingKey.hashCode(), pipelines.size()));
+            enqueue(pipeline, command);
+            if (stoppedPipelines.contains(pipeline)) {
+                failPending(pipeline);
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    private void enqueue(BlockingQueue<Command> pipeline, Command command) {
+        try {
+            pipeline.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (command != SHUTDOWN) {
+                command.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void drain(BlockingQueue<Command> pipeline) {
+        var batch = new ArrayList<Command>(maxBatchSize);
+        var run = new ArrayList<Command>(maxBatchSize);
+        var runKeys = new HashSet<>();
+        while (true) {
+            try {
+                batch.add(pipeline.take());
+            } catch (InterruptedException e) {
+                stoppedPipelines.add(pipeline);
+                failPending(pipeline);
+                return;
+            }
+            pipeline.drainTo(batch, maxBatchSize - 1);
+
+            for (var command : batch) {
+                if (command == SHUTDOWN) {
+                    apply(run);
+                    return;
+                }
+                if (!run.isEmpty() && (run.get(0).getClass() != command.getClass() || runKeys.contains(command.key()))) {
+                    apply(run);
+                    run.clear();
+                    runKeys.clear();
+                }
+                run.add(command);
+                runKeys.add(command.key());
+            }
+            apply(run);
+            run.clear();
+            runKeys.clear();
+            batch.clear();
+        }
+    }
+
+    private void failPending(BlockingQueue<Command> pipeline) {
+        var pending = new ArrayList<Command>();
+        pipeline.drainTo(pending);
+        for (var command : pending) {
+            if (command != SHUTDOWN) {
+                fail(command.future(), new ScoreboardException("Scoreboard pipeline was interrupted."));
+            }
+        }
+    }
+
+    private void apply(List<Command> run) {
+        if (run.isEmpty()) {
+            return;
+        }
+
+        try {
+            switch (run.get(0)) {
+                case StartCommand ignored -> startAll(run);
+                case UpdateCommand ignored -> updateAll(run);
+                case FinishCommand ignored -> finishAll(run);
+            }
+        } catch (Throwable e) {
+            for (var command : run) {
+                fail(command.future(), e);
+            }
+        }
+    }
+
+    private void startAll(List<Command> run) {
+        var fixtures = new ArrayList<MatchFixture>(run.size());
+        for (var command : run) {
+            fixtures.add(((StartCommand) command).fixture());
+        }
+
+        var started = scoreboard.startMatches(fixtures);
+        for (var command : run) {
+            var startCommand = (StartCommand) command;
+            complete(startCommand.future(), startCommand.fixture(), started);
+        }
+    }
+
+    private void updateAll(List<Command> run) {
+        var scores = new LinkedHashMap<UUID, Score>();
+        for (var command : run) {
+            var updateCommand = (UpdateCommand) command;
+            scores.put(updateCommand.matchId(), updateCommand.score());
+        }
+
+        var updated = scoreboard.updateScores(scores);
+        for (var command : run) {
+            var updateCommand = (UpdateCommand) command;
+            complete(updateCommand.future(), updateCommand.matchId(), updated);
+        }
+    }
+
+    private void finishAll(List<Command> run) {
+        var matchIds = new ArrayList<UUID>(run.size());
+        for (var command : run) {
+            matchIds.add(((FinishCommand) command).matchId());
+        }
+
+        var finished = scoreboard.finishMatches(matchIds);
+        for (var command : run) {
+            var finishCommand = (FinishCommand) command;
+            if (finished.succeeded().containsKey(finishCommand.matchId())) {
+                complete(finishCommand.future(), null);
+            } else {
+                fail(finishCommand.future(), failureOf(finishCommand.matchId(), finished));
+            }
+        }
+    }
+
+    private <K> void complete(CompletableFuture<Match> future, K key, BatchResult<K, Match> result) {
+        var match = result.succeeded().get(key);
+        if (isNull(match)) {
+            fail(future, failureOf(key, result));
+        } else {
+            complete(future, match);
+        }
+    }
+
+    private <K> RuntimeException failureOf(K key, BatchResult<K, ?> result) {
+        var failure = result.failed().get(key);
+
+        return isNull(failure) ? new ScoreboardException("Command was not applied.") : failure;
+    }
+
+    private <T> void complete(CompletableFuture<T> future, T value) {
+        try {
+            completionExecutor.execute(() -> future.complete(value));
+        } catch (RejectedExecutionException e) {
+            future.complete(value);
+        }
+    }
+
+    private void fail(CompletableFuture<?> future, Throwable failure) {
+        try {
+            completionExecutor.execute(() -> future.completeExceptionally(failure));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    private sealed interface Command permits StartCommand, UpdateCommand, FinishCommand {
+
+        Object key();
+
+        CompletableFuture<?> future();
+    }
+
+    private record StartCommand(MatchFixture fixture, CompletableFuture<Match> future) implements Command {
+
+        @Override
+        public Object key() {
+            return fixture;
+        }
+    }
+
+    private record UpdateCommand(UUID matchId, Score score, CompletableFuture<Match> future) implements Command {
+
+        @Override
+        public Object key() {
+            return matchId;
+        }
+    }
+
+    private record FinishCommand(UUID matchId, CompletableFuture<Void> future) implements Command {
+
+        @Override
+        public Object key() {
+            return matchId;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+
+class BasketballScoreboardValidatorImpl extends AbstractScoreboardValidator {
+
+    private static final long MAX_SCORE = 999;
+
+    @Override
+    protected void validateScores(long homeTeamScore, long awayTeamScore) {
+        if (homeTeamScore < 0 || awayTeamScore < 0) {
+            throw new ScoreboardException("Scores in basketball can't be negative.");
+        }
+
+        if (homeTeamScore > MAX_SCORE || awayTeamScore > MAX_SCORE) {
+            throw new ScoreboardException("Scores in basketball can't be greater than %d.".formatted(MAX_SCORE));
+        }
+    }
+}
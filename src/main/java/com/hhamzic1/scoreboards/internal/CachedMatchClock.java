@@ -0,0 +1,51 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+class CachedMatchClock implements MatchClock {
+
+    private final long resolutionMillis;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private volatile Tick tick;
+
+    CachedMatchClock(long resolutionMillis) {
+        this.resolutionMillis = resolutionMillis;
+        this.tick = tickAt(System.currentTimeMillis());
+    }
+
+    @Override
+    public OffsetDateTime now() {
+        return currentTick().time();
+    }
+
+    @Override
+    public long epochMillis() {
+        return currentTick().epochMillis();
+    }
+
+    private Tick currentTick() {
+        var millis = System.currentTimeMillis();
+        var current = tick;
+        if (millis - current.epochMillis() < resolutionMillis && millis >= current.epochMillis()) {
+            return current;
+        }
+
+        current = tickAt(millis);
+        tick = current;
+
+        return current;
+    }
+
+    private Tick tickAt(long millis) {
+        var tickMillis = millis - Math.floorMod(millis, resolutionMillis);
+
+        return new Tick(tickMillis, OffsetDateTime.ofInstant(Instant.ofEpochMilli(tickMillis), zone));
+    }
+
+    private record Tick(long epochMillis, OffsetDateTime time) {
+    }
+}
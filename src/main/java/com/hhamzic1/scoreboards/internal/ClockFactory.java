@@ -0,0 +1,53 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+import com.hhamzic1.scoreboards.common.clock.MatchIdGenerator;
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static java.util.Objects.isNull;
+
+public class ClockFactory {
+
+    public static MatchClock createSystemClock() {
+        return SystemMatchClock.INSTANCE;
+    }
+
+    public static MatchClock createCachedClock(Duration resolution) {
+        if (isNull(resolution) || resolution.toMillis() <= 0) {
+            throw new ScoreboardException("Clock resolution must be at least a millisecond.");
+        }
+
+        return new CachedMatchClock(resolution.toMillis());
+    }
+
+    public static MatchClock createMonotonicClock() {
+        return new MonotonicMatchClock();
+    }
+
+    public static MatchClock createDeterministicClock(OffsetDateTime start, Duration step) {
+        if (isNull(start)) {
+            throw new ScoreboardException("Start of a deterministic clock can't be null!");
+        }
+
+        if (isNull(step) || step.isNegative() || step.isZero()) {
+            throw new ScoreboardException("Step of a deterministic clock must be positive.");
+        }
+
+        return new DeterministicMatchClock(start, step.toNanos());
+    }
+
+    public static MatchIdGenerator createRandomIdGenerator() {
+        return RandomMatchIdGenerator.INSTANCE;
+    }
+
+    public static MatchIdGenerator createTimeOrderedIdGenerator() {
+        return new TimeOrderedMatchIdGenerator();
+    }
+
+    public static MatchIdGenerator createDeterministicIdGenerator(long seed) {
+        return new DeterministicMatchIdGenerator(seed);
+    }
+}
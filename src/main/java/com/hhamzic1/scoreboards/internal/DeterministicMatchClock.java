@@ -0,0 +1,23 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+class DeterministicMatchClock implements MatchClock {
+
+    private final OffsetDateTime start;
+    private final long stepNanos;
+    private final AtomicLong ticks = new AtomicLong();
+
+    DeterministicMatchClock(OffsetDateTime start, long stepNanos) {
+        this.start = start;
+        this.stepNanos = stepNanos;
+    }
+
+    @Override
+    public OffsetDateTime now() {
+        return start.plusNanos(ticks.getAndIncrement() * stepNanos);
+    }
+}
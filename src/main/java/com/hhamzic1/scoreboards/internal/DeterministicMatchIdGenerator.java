@@ -0,0 +1,21 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchIdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class DeterministicMatchIdGenerator implements MatchIdGenerator {
+
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong();
+
+    DeterministicMatchIdGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public UUID nextId() {
+        return new UUID(seed, sequence.incrementAndGet());
+    }
+}
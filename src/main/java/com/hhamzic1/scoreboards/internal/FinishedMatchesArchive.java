@@ -0,0 +1,241 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class FinishedMatchesArchive {
+
+    private static final Comparator<StoredMatch> END_TIME_ORDER =
+            Comparator.comparing(StoredMatch::endTime)
+                    .thenComparing(StoredMatch::storeOrderId);
+
+    private final FinishedMatchesArchivePolicy policy;
+    private final FinishedMatchesSpillFile spillFile;
+    private final Map<UUID, StoredMatch> finishedMatchesById = new ConcurrentHashMap<>();
+    private final NavigableSet<StoredMatch> finishedMatchesByEndTime = new ConcurrentSkipListSet<>(END_TIME_ORDER);
+    private final Map<UUID, NavigableSet<StoredMatch>> finishedMatchesByTeam = new ConcurrentHashMap<>();
+    private final Map<TeamPair, NavigableSet<StoredMatch>> finishedMatchesByTeamPair = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+
+    FinishedMatchesArchive(FinishedMatchesArchivePolicy policy) {
+        this.policy = policy;
+        this.spillFile = nonNull(policy.spillFile()) ? new FinishedMatchesSpillFile(policy.spillFile()) : null;
+    }
+
+    void add(StoredMatch finishedMatch) {
+        if (nonNull(finishedMatchesById.putIfAbsent(finishedMatch.id(), finishedMatch))) {
+            return;
+        }
+
+        index(finishedMatch);
+        finishedMatchesByEndTime.add(finishedMatch);
+        size.incrementAndGet();
+        evict();
+    }
+
+    List<Match> getAll() {
+        var cutoff = policy.maxAgeCutoff();
+
+        var matches = new ArrayList<Match>();
+        for (var finishedMatch : finishedMatchesByEndTime) {
+            if (!isAged(finishedMatch, cutoff)) {
+                matches.add(finishedMatch.toMatch());
+            }
+        }
+
+        return Collections.unmodifiableList(matches);
+    }
+
+    List<Match> getFinishedAfter(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        var cutoff = policy.maxAgeCutoff();
+
+        var matches = new ArrayList<Match>(Math.min(limit, 1024));
+        var finishedMatches = isNull(finishedAfter)
+                ? finishedMatchesByEndTime
+                : finishedMatchesByEndTime.tailSet(cursorOf(finishedAfter, afterMatchId), false);
+        for (var finishedMatch : finishedMatches) {
+            if (matches.size() == limit) {
+                break;
+            }
+            if (!isAged(finishedMatch, cutoff)) {
+                matches.add(finishedMatch.toMatch());
+            }
+        }
+
+        return Collections.unmodifiableList(matches);
+    }
+
+    List<Match> getLatestOfTeam(UUID teamId, int limit) {
+        return latest(finishedMatchesByTeam.get(teamId), limit, policy.maxAgeCutoff());
+    }
+
+    List<Match> getLatestBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return latest(finishedMatchesByTeamPair.get(TeamPair.of(teamId, otherTeamId)), limit, policy.maxAgeCutoff());
+    }
+
+    void spillEvicted() {
+        if (nonNull(spillFile)) {
+            spillFile.flush();
+        }
+    }
+
+    long size() {
+        var cutoff = policy.maxAgeCutoff();
+        var agedMatches = 0L;
+        for (var iterator = finishedMatchesByEndTime.iterator(); nonNull(cutoff) && iterator.hasNext() && isAged(iterator.next(), cutoff); ) {
+            agedMatches++;
+        }
+
+        return Math.max(0, size.get() - agedMatches);
+    }
+
+    boolean contains(UUID matchId) {
+        return finishedMatchesById.containsKey(matchId);
+    }
+
+    void forEach(Consumer<StoredMatch> action) {
+        finishedMatchesByEndTime.forEach(action);
+    }
+
+    void clear() {
+        finishedMatchesByEndTime.clear();
+        finishedMatchesById.clear();
+        finishedMatchesByTeam.clear();
+        finishedMatchesByTeamPair.clear();
+        size.set(0);
+    }
+
+    private void evict() {
+        var cutoff = policy.maxAgeCutoff();
+
+        while (true) {
+            var currentSize = size.get();
+            StoredMatch oldest;
+            if (currentSize > policy.maxMatches()) {
+                if (!size.compareAndSet(currentSize, currentSize - 1)) {
+                    continue;
+                }
+                oldest = finishedMatchesByEndTime.pollFirst();
+            } else {
+                oldest = pollIfOlderThan(cutoff);
+                if (nonNull(oldest)) {
+                    size.decrementAndGet();
+                }
+            }
+            if (isNull(oldest)) {
+                break;
+            }
+
+            finishedMatchesById.remove(oldest.id(), oldest);
+            unindex(oldest);
+            if (nonNull(spillFile)) {
+                spillFile.evicted(oldest);
+            }
+        }
+    }
+
+    private void index(StoredMatch finishedMatch) {
+        var homeTeamId = finishedMatch.homeTeam().id();
+        var awayTeamId = finishedMatch.awayTeam().id();
+        indexIn(finishedMatchesByTeam, homeTeamId, finishedMatch);
+        indexIn(finishedMatchesByTeam, awayTeamId, finishedMatch);
+        indexIn(finishedMatchesByTeamPair, TeamPair.of(homeTeamId, awayTeamId), finishedMatch);
+    }
+
+    private void unindex(StoredMatch finishedMatch) {
+        var homeTeamId = finishedMatch.homeTeam().id();
+        var awayTeamId = finishedMatch.awayTeam().id();
+        unindexFrom(finishedMatchesByTeam, homeTeamId, finishedMatch);
+        unindexFrom(finishedMatchesByTeam, awayTeamId, finishedMatch);
+        unindexFrom(finishedMatchesByTeamPair, TeamPair.of(homeTeamId, awayTeamId), finishedMatch);
+    }
+
+    private static <K> void indexIn(Map<K, NavigableSet<StoredMatch>> index, K key, StoredMatch finishedMatch) {
+        index.compute(key, (indexKey, finishedMatches) -> {
+            var matches = isNull(finishedMatches) ? new ConcurrentSkipListSet<>(END_TIME_ORDER) : finishedMatches;
+            matches.add(finishedMatch);
+            return matches;
+        });
+    }
+
+    private static <K> void unindexFrom(Map<K, NavigableSet<StoredMatch>> index, K key, StoredMatch finishedMatch) {
+        index.computeIfPresent(key, (indexKey, finishedMatches) -> {
+            finishedMatches.remove(finishedMatch);
+            return finishedMatches.isEmpty() ? null : finishedMatches;
+        });
+    }
+
+    private static List<Match> latest(NavigableSet<StoredMatch> finishedMatches, int limit, OffsetDateTime cutoff) {
+        if (isNull(finishedMatches)) {
+            return List.of();
+        }
+
+        var matches = new ArrayList<Match>(Math.min(limit, 64));
+        for (var finishedMatch : finishedMatches.descendingSet()) {
+            if (matches.size() == limit || isAged(finishedMatch, cutoff)) {
+                break;
+            }
+            matches.add(finishedMatch.toMatch());
+        }
+
+        return Collections.unmodifiableList(matches);
+    }
+
+    private static boolean isAged(StoredMatch finishedMatch, OffsetDateTime cutoff) {
+        return nonNull(cutoff) && finishedMatch.endTime().isBefore(cutoff);
+    }
+
+    private StoredMatch pollIfOlderThan(OffsetDateTime cutoff) {
+        if (isNull(cutoff)) {
+            return null;
+        }
+
+        var iterator = finishedMatchesByEndTime.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+
+        var oldest = iterator.next();
+
+        return isAged(oldest, cutoff) && finishedMatchesByEndTime.remove(oldest) ? oldest : null;
+    }
+
+    private StoredMatch cursorOf(OffsetDateTime finishedAfter, UUID afterMatchId) {
+        if (isNull(afterMatchId)) {
+            return boundOf(finishedAfter, Long.MAX_VALUE);
+        }
+
+        var afterMatch = finishedMatchesById.get(afterMatchId);
+
+        return nonNull(afterMatch) && afterMatch.endTime().compareTo(finishedAfter) == 0
+                ? afterMatch
+                : boundOf(finishedAfter, Long.MIN_VALUE);
+    }
+
+    private static StoredMatch boundOf(OffsetDateTime endTime, long storeOrderId) {
+        return new StoredMatch(null, null, endTime, null, null, null, storeOrderId, 0);
+    }
+
+    private record TeamPair(UUID firstTeamId, UUID secondTeamId) {
+
+        static TeamPair of(UUID teamId, UUID otherTeamId) {
+            return teamId.compareTo(otherTeamId) <= 0 ? new TeamPair(teamId, otherTeamId) : new TeamPair(otherTeamId, teamId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.Objects.nonNull;
+
+class FinishedMatchesSpillFile {
+
+    private final Path path;
+    private final Lock lock = new ReentrantLock();
+    private final Queue<StoredMatch> evictedMatches = new ConcurrentLinkedQueue<>();
+    private final List<StoredMatch> unspilledMatches = new ArrayList<>();
+    private volatile boolean retryPending;
+
+    FinishedMatchesSpillFile(Path path) {
+        this.path = path;
+    }
+
+    void evicted(StoredMatch evictedMatch) {
+        evictedMatches.add(evictedMatch);
+    }
+
+    void flush() {
+        if (evictedMatches.isEmpty() && !retryPending) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            for (var evictedMatch = evictedMatches.poll(); nonNull(evictedMatch); evictedMatch = evictedMatches.poll()) {
+                unspilledMatches.add(evictedMatch);
+            }
+            if (unspilledMatches.isEmpty()) {
+                return;
+            }
+
+            append(unspilledMatches);
+            unspilledMatches.clear();
+            retryPending = false;
+        } catch (IOException e) {
+            retryPending = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(List<StoredMatch> evictedMatches) throws IOException {
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path, CREATE, APPEND)))) {
+            for (var match : evictedMatches) {
+                writeUuid(output, match.id());
+                writeDateTime(output, match.startTime());
+                writeDateTime(output, match.endTime());
+                writeTeam(output, match.homeTeam());
+                writeTeam(output, match.awayTeam());
+                output.writeLong(match.score().homeTeamScore());
+                output.writeLong(match.score().awayTeamScore());
+            }
+        }
+    }
+
+    private static void writeUuid(DataOutputStream output, UUID uuid) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static void writeDateTime(DataOutputStream output, OffsetDateTime dateTime) throws IOException {
+        output.writeLong(dateTime.toEpochSecond());
+        output.writeInt(dateTime.getNano());
+        output.writeInt(dateTime.getOffset().getTotalSeconds());
+    }
+
+    private static void writeTeam(DataOutputStream output, Team team) throws IOException {
+        writeUuid(output, team.id());
+        output.writeUTF(team.name());
+    }
+}
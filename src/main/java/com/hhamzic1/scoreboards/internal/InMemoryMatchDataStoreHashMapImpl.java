@@ -1,41 +1,90 @@
 package com.hhamzic1.scoreboards.internal;
 
 import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.exception.MatchVersionConflictException;
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
 import com.hhamzic1.scoreboards.common.model.Match;
-import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
 import com.hhamzic1.scoreboards.common.store.InMemoryMatchDataStore;
 
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
-class InMemoryMatchDataStoreHashMapImpl implements InMemoryMatchDataStore {
+class InMemoryMatchDataStoreHashMapImpl implements InMemoryMatchDataStore, LockWaitObservable, StoreOrderAware {
 
     private final Map<UUID, StoredMatch> activeMatchesStore = new ConcurrentHashMap<>();
-    private final Map<UUID, StoredMatch> finishedMatchesStore = new ConcurrentHashMap<>();
-    private static long storeOrderIdCounter = 0;
+    private final FinishedMatchesArchive finishedMatchesStore;
+    private final ActiveTeamsIndex activeTeamsIndex;
+    private final AtomicLong storeOrderIdSequence;
+    private final ActiveMatchesSummaryIndex summaryIndex;
+    private final StoredMatchListener listener;
+    private final StampedLock batchVisibilityLock = new StampedLock();
+    private volatile LatencyTimer lockWaitTimer;
+
+    InMemoryMatchDataStoreHashMapImpl() {
+        this(null, FinishedMatchesArchivePolicy.unbounded());
+    }
+
+    InMemoryMatchDataStoreHashMapImpl(RankingOrder summaryOrder, FinishedMatchesArchivePolicy archivePolicy) {
+        this(summaryOrder, archivePolicy, null);
+    }
+
+    InMemoryMatchDataStoreHashMapImpl(RankingOrder summaryOrder, FinishedMatchesArchivePolicy archivePolicy,
+                                      StoredMatchListener listener) {
+        this(summaryOrder, new FinishedMatchesArchive(archivePolicy), listener, new AtomicLong(), new ActiveTeamsIndex());
+    }
+
+    InMemoryMatchDataStoreHashMapImpl(RankingOrder summaryOrder, FinishedMatchesArchive finishedMatchesStore,
+                                      StoredMatchListener listener, AtomicLong storeOrderIdSequence,
+                                      ActiveTeamsIndex activeTeamsIndex) {
+        this.summaryIndex = nonNull(summaryOrder) ? new ActiveMatchesSummaryIndex(summaryOrder) : null;
+        this.finishedMatchesStore = finishedMatchesStore;
+        this.listener = listener;
+        this.storeOrderIdSequence = storeOrderIdSequence;
+        this.activeTeamsIndex = activeTeamsIndex;
+    }
 
     @Override
     public Match save(UUID matchId, Match match) {
-        synchronized (this) {
-            if (isAnyTeamInAnotherActiveMatch(match.homeTeam(), match.awayTeam())) {
-                throw new MatchStoreException("Some of the teams are already in another ongoing match.");
-            }
+        activeTeamsIndex.claim(matchId, match.homeTeam(), match.awayTeam());
 
+        try {
             return activeMatchesStore.compute(matchId, (key, value) -> {
                 if (nonNull(value)) {
                     throw new MatchStoreException("Match with ID '%s' already exists!".formatted(matchId));
                 }
 
-                return new StoredMatch(match, ++storeOrderIdCounter);
+                var storedMatch = new StoredMatch(match, storeOrderIdSequence.incrementAndGet());
+                indexReplace(null, storedMatch);
+                if (nonNull(listener)) {
+                    listener.onSaved(storedMatch);
+                }
+
+                return storedMatch;
             }).toMatch();
+        } catch (RuntimeException e) {
+            activeTeamsIndex.release(matchId, match.homeTeam(), match.awayTeam());
+            throw e;
         }
     }
 
@@ -46,57 +95,375 @@ class InMemoryMatchDataStoreHashMapImpl implements InMemoryMatchDataStore {
                 throw new MatchStoreException("Match with ID '%s' does not exist!".formatted(matchId));
             }
 
-            return new StoredMatch(updater.apply(value.toMatch()), value.storeOrderId());
+            return replace(value, updater);
         }).toMatch();
     }
 
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        return activeMatchesStore.compute(matchId, (key, value) -> {
+            if (isNull(value)) {
+                throw new MatchStoreException("Match with ID '%s' does not exist!".formatted(matchId));
+            }
+            if (value.version() != expectedVersion) {
+                throw new MatchVersionConflictException("Match with ID '%s' is at version %d, expected %d!"
+                        .formatted(matchId, value.version(), expectedVersion), expectedVersion, value.version());
+            }
+
+            return replace(value, updater);
+        }).toVersionedMatch();
+    }
+
     @Override
     public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        var finishedMatchHolder = new StoredMatch[1];
         activeMatchesStore.compute(matchId, (key, value) -> {
             if (isNull(value)) {
                 throw new MatchStoreException("Match with ID '%s' doesn't exist!".formatted(matchId));
             }
 
-            finishedMatchesStore.putIfAbsent(matchId, new StoredMatch(value, OffsetDateTime.now()));
+            var finishedMatch = new StoredMatch(value, endTime);
+            indexReplace(value, null);
+            activeTeamsIndex.release(matchId, value.homeTeam(), value.awayTeam());
+            if (nonNull(listener)) {
+                listener.onDeleted(finishedMatch);
+            }
+            finishedMatchesStore.add(finishedMatch);
+            finishedMatchHolder[0] = finishedMatch;
 
             return null;
         });
+        finishedMatchesStore.spillEvicted();
+
+        return finishedMatchHolder[0].toMatch();
+    }
+
+    @Override
+    public BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        return inBatch(() -> InMemoryMatchDataStore.super.saveAll(matches));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        return inBatch(() -> InMemoryMatchDataStore.super.updateAll(updaters));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        return inBatch(() -> InMemoryMatchDataStore.super.deleteAll(matchIds, endTime));
     }
 
     @Override
     public List<Match> getAllActive() {
-        return activeMatchesStore.values().stream()
+        return batchVisible(() -> activeMatchesStore.values().stream()
                 .map(StoredMatch::toMatch)
-                .toList();
+                .toList());
     }
 
     @Override
     public List<Match> getAllActive(Comparator<?> comparator) {
-        return activeMatchesStore.values().stream()
-                .sorted((Comparator<StoredMatch>) comparator)
+        if (nonNull(summaryIndex) && summaryIndex.isOrderedBy(comparator)) {
+            return underReadLock(summaryIndex::toSortedMatches);
+        }
+
+        return batchVisible(() -> RankingOrder.sorted(activeMatchesStore.values(), comparator).stream()
                 .map(StoredMatch::toMatch)
+                .toList());
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        var topMatches = getTopRankedActive(comparator, TopMatchesSelector.rangeEnd(offset, limit));
+
+        return TopMatchesSelector.skip(topMatches, offset).stream()
+                .map(rankedMatch -> rankedMatch.match().toMatch())
                 .toList();
     }
 
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        Supplier<Optional<RankedMatch>> rankedRead = () -> {
+            var storedMatch = activeMatchesStore.get(matchId);
+            if (isNull(storedMatch)) {
+                return Optional.empty();
+            }
+
+            var matchesBefore = countBefore(storedMatch, comparator);
+
+            return Optional.of(new RankedMatch(storedMatch.toMatch(), (int) matchesBefore + 1));
+        };
+        if (nonNull(summaryIndex) && summaryIndex.isOrderedBy(comparator)) {
+            return underReadLock(rankedRead);
+        }
+
+        return batchVisible(rankedRead);
+    }
+
     @Override
     public List<Match> getAllFinished() {
-        return finishedMatchesStore.values().stream()
-                .map(StoredMatch::toMatch)
+        return batchVisible(finishedMatchesStore::getAll);
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getFinishedAfter(finishedAfter, afterMatchId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getLatestOfTeam(teamId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getLatestBetween(teamId, otherTeamId, limit));
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        return batchVisible(() -> Optional.ofNullable(activeMatchesStore.get(matchId)).map(StoredMatch::toVersionedMatch));
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        var activeMatch = activeMatchesStore.get(matchId);
+
+        return isNull(activeMatch) ? NO_STORE_ORDER_ID : activeMatch.storeOrderId();
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return getSortedRankedActive(comparator).stream()
+                .map(rankedMatch -> rankedMatch.match().toVersionedMatch())
                 .toList();
     }
 
+    @Override
+    public long countActive() {
+        return batchVisible(() -> (long) activeMatchesStore.size());
+    }
+
+    @Override
+    public long countFinished() {
+        return batchVisible(finishedMatchesStore::size);
+    }
+
+    @Override
+    public void observeLockWait(LatencyTimer lockWaitTimer) {
+        this.lockWaitTimer = lockWaitTimer;
+        if (nonNull(summaryIndex)) {
+            summaryIndex.observeLockWait(lockWaitTimer);
+        }
+    }
+
     @Override
     public void clear() {
         activeMatchesStore.clear();
+        activeTeamsIndex.clear();
         finishedMatchesStore.clear();
+        if (nonNull(summaryIndex)) {
+            summaryIndex.clear();
+        }
     }
 
-    private boolean isAnyTeamInAnotherActiveMatch(Team homeTeam, Team awayTeam) {
+    @Override
+    public void exportTo(WritableByteChannel channel) {
+        underReadLock(() -> {
+            MatchStateCodec.write(channel, this::forEachActive, this::forEachFinished);
+            return null;
+        });
+    }
+
+    @Override
+    public void importFrom(ReadableByteChannel channel) {
+        var importedState = MatchStateCodec.read(channel);
+        inBatch(() -> {
+            clear();
+            importedState.activeMatches().forEach(this::restoreActive);
+            importedState.finishedMatches().forEach(this::restoreFinished);
+            completeRestore();
+            return null;
+        });
+    }
+
+    StoredMatch getStoredActive(UUID matchId) {
+        return batchVisible(() -> activeMatchesStore.get(matchId));
+    }
+
+    List<RankingOrder.Ranked> getSortedRankedActive(Comparator<?> comparator) {
+        if (nonNull(summaryIndex) && summaryIndex.isOrderedBy(comparator)) {
+            return underReadLock(summaryIndex::toSortedRanked);
+        }
+
+        return batchVisible(() -> RankingOrder.from(comparator).sortedRanked(activeMatchesStore.values()));
+    }
+
+    List<RankingOrder.Ranked> getTopRankedActive(Comparator<?> comparator, int limit) {
+        if (nonNull(summaryIndex) && summaryIndex.isOrderedBy(comparator)) {
+            return underReadLock(() -> summaryIndex.toTopRanked(limit));
+        }
+
+        return batchVisible(() -> {
+            var selector = new TopMatchesSelector(RankingOrder.from(comparator), limit);
+            activeMatchesStore.values().forEach(selector::offer);
+            return selector.toSortedRankedList();
+        });
+    }
+
+    long countActiveBefore(StoredMatch storedMatch, Comparator<?> comparator) {
+        if (nonNull(summaryIndex) && summaryIndex.isOrderedBy(comparator)) {
+            return underReadLock(() -> countBefore(storedMatch, comparator));
+        }
+
+        return batchVisible(() -> countBefore(storedMatch, comparator));
+    }
+
+    private long countBefore(StoredMatch storedMatch, Comparator<?> comparator) {
+        if (nonNull(summaryIndex) && summaryIndex.isOrderedBy(comparator)) {
+            return summaryIndex.rankOf(storedMatch) - 1;
+        }
+
+        var order = RankingOrder.from(comparator);
+        var rankedMatch = order.rank(storedMatch);
+
         return activeMatchesStore.values().stream()
-                .anyMatch(activeMatch -> activeMatch.homeTeam().id().equals(homeTeam.id())
-                        || activeMatch.awayTeam().id().equals(homeTeam.id())
-                        || activeMatch.homeTeam().id().equals(awayTeam.id())
-                        || activeMatch.awayTeam().id().equals(awayTeam.id())
-                );
+                .filter(activeMatch -> order.ranksBefore(activeMatch, rankedMatch))
+                .count();
+    }
+
+    void forEachActive(Consumer<StoredMatch> action) {
+        activeMatchesStore.values().forEach(action);
+    }
+
+    void forEachFinished(Consumer<StoredMatch> action) {
+        finishedMatchesStore.forEach(action);
+    }
+
+    void restoreActive(StoredMatch activeMatch) {
+        if (!finishedMatchesStore.contains(activeMatch.id())) {
+            activeMatchesStore.put(activeMatch.id(), activeMatch);
+        }
+    }
+
+    void restoreScore(UUID matchId, Score score, long version) {
+        activeMatchesStore.computeIfPresent(matchId, (key, value) -> new StoredMatch(value, score, version));
+    }
+
+    void restoreFinished(UUID matchId, OffsetDateTime endTime) {
+        var activeMatch = activeMatchesStore.remove(matchId);
+        if (nonNull(activeMatch)) {
+            finishedMatchesStore.add(new StoredMatch(activeMatch, endTime));
+        }
+    }
+
+    void restoreFinished(StoredMatch finishedMatch) {
+        activeMatchesStore.remove(finishedMatch.id());
+        finishedMatchesStore.add(finishedMatch);
+    }
+
+    void replicateActive(StoredMatch activeMatch) {
+        if (finishedMatchesStore.contains(activeMatch.id())) {
+            return;
+        }
+
+        activeMatchesStore.compute(activeMatch.id(), (key, value) -> {
+            indexReplace(value, activeMatch);
+            return activeMatch;
+        });
+    }
+
+    void replicateScore(UUID matchId, Score score, long version) {
+        activeMatchesStore.computeIfPresent(matchId, (key, value) -> {
+            var storedMatch = new StoredMatch(value, score, version);
+            indexReplace(value, storedMatch);
+            return storedMatch;
+        });
+    }
+
+    void replicateFinished(UUID matchId, OffsetDateTime endTime) {
+        var alreadyFinished = finishedMatchesStore.contains(matchId);
+        activeMatchesStore.computeIfPresent(matchId, (key, value) -> {
+            indexReplace(value, null);
+            if (!alreadyFinished) {
+                finishedMatchesStore.add(new StoredMatch(value, endTime));
+            }
+            return null;
+        });
+    }
+
+    void completeRestore() {
+        activeTeamsIndex.clear();
+        if (nonNull(summaryIndex)) {
+            summaryIndex.clear();
+        }
+
+        activeMatchesStore.values().forEach(activeMatch -> {
+            activeTeamsIndex.restore(activeMatch.id(), activeMatch.homeTeam(), activeMatch.awayTeam());
+            indexReplace(null, activeMatch);
+            storeOrderIdSequence.accumulateAndGet(activeMatch.storeOrderId(), Math::max);
+        });
+        finishedMatchesStore.forEach(finishedMatch -> storeOrderIdSequence.accumulateAndGet(finishedMatch.storeOrderId(), Math::max));
+    }
+
+    private <T> T inBatch(Supplier<T> batch) {
+        var timer = lockWaitTimer;
+        var start = System.nanoTime();
+        var stamp = batchVisibilityLock.writeLock();
+        if (nonNull(timer)) {
+            timer.record(System.nanoTime() - start);
+        }
+        try {
+            return batch.get();
+        } finally {
+            batchVisibilityLock.unlockWrite(stamp);
+        }
+    }
+
+    private <T> T underReadLock(Supplier<T> read) {
+        var stamp = batchVisibilityLock.readLock();
+        try {
+            return read.get();
+        } finally {
+            batchVisibilityLock.unlockRead(stamp);
+        }
+    }
+
+    private <T> T batchVisible(Supplier<T> read) {
+        var stamp = batchVisibilityLock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                var result = read.get();
+                if (batchVisibilityLock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (batchVisibilityLock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        return underReadLock(read);
+    }
+
+    private StoredMatch replace(StoredMatch activeMatch, UnaryOperator<Match> updater) {
+        var storedMatch = new StoredMatch(updater.apply(activeMatch.toMatch()), activeMatch.storeOrderId(), activeMatch.version() + 1);
+        indexReplace(activeMatch, storedMatch);
+        if (nonNull(listener)) {
+            listener.onUpdated(activeMatch, storedMatch);
+        }
+
+        return storedMatch;
+    }
+
+    private void indexReplace(StoredMatch oldMatch, StoredMatch newMatch) {
+        if (nonNull(summaryIndex)) {
+            summaryIndex.replace(oldMatch, newMatch);
+        }
     }
-}
\ No newline at end of file
+}
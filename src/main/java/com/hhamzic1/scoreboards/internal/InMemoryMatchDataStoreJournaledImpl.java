@@ -0,0 +1,470 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.DurableMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.MatchJournalPolicy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.nonNull;
+
+class InMemoryMatchDataStoreJournaledImpl implements DurableMatchDataStore, StoredMatchListener, StoreOrderAware {
+
+    private static final Pattern SNAPSHOT_FILE_NAME = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final int SNAPSHOT_MAGIC = 0x53434232;
+    private static final byte SNAPSHOT_END = 0;
+    private static final byte SNAPSHOT_ACTIVE = 1;
+    private static final byte SNAPSHOT_FINISHED = 2;
+    private static final int SNAPSHOT_BUFFER_SIZE = 1024 * 1024;
+
+    private final MatchJournalPolicy journalPolicy;
+    private final InMemoryMatchDataStoreHashMapImpl delegate;
+    private final MatchJournal journal;
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService background;
+    private final AtomicLong eventsSinceSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotScheduled = new AtomicBoolean();
+    private final AtomicReference<RuntimeException> flushFailure = new AtomicReference<>();
+    private boolean journalTorn;
+
+    InMemoryMatchDataStoreJournaledImpl(RankingOrder summaryOrder, FinishedMatchesArchivePolicy archivePolicy,
+                                        MatchJournalPolicy journalPolicy) {
+        this.journalPolicy = journalPolicy;
+        this.delegate = new InMemoryMatchDataStoreHashMapImpl(summaryOrder, archivePolicy, this);
+        this.journal = new MatchJournal(journalPolicy.directory(), journalPolicy.segmentSizeBytes(), recover());
+        this.background = Executors.newScheduledThreadPool(2, runnable -> {
+            var thread = new Thread(runnable, "match-journal-" + journalPolicy.directory().getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        var flushIntervalNanos = journalPolicy.flushInterval().toNanos();
+        background.scheduleAtFixedRate(this::flush, flushIntervalNanos, flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (journalTorn) {
+            snapshot();
+        }
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        return journaled(() -> delegate.save(matchId, match));
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        return journaled(() -> delegate.update(matchId, updater));
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        return journaled(() -> delegate.updateIfVersion(matchId, expectedVersion, updater));
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        return journaled(() -> delegate.finish(matchId, endTime));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        return journaled(() -> delegate.saveAll(matches));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        return journaled(() -> delegate.updateAll(updaters));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        return journaled(() -> delegate.deleteAll(matchIds, endTime));
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        return delegate.getAllActive();
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        return delegate.getAllActive(comparator);
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        return delegate.getActiveRange(comparator, offset, limit);
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        return delegate.getVersionedActive(matchId);
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        return delegate.storeOrderIdOf(matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return delegate.getAllVersionedActive(comparator);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public long countFinished() {
+        return delegate.countFinished();
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        return delegate.getRankedActive(matchId, comparator);
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return delegate.getAllFinished();
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return delegate.getFinished(finishedAfter, afterMatchId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return delegate.getFinishedOfTeam(teamId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return delegate.getFinishedBetween(teamId, otherTeamId, limit);
+    }
+
+    @Override
+    public void clear() {
+        snapshotLock.writeLock().lock();
+        try {
+            throwIfFlushFailed();
+            delegate.clear();
+            journal.appendCleared();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void exportTo(WritableByteChannel channel) {
+        delegate.exportTo(channel);
+    }
+
+    @Override
+    public void importFrom(ReadableByteChannel channel) {
+        snapshotLock.writeLock().lock();
+        try {
+            throwIfFlushFailed();
+            delegate.importFrom(channel);
+            snapshot();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(StoredMatch savedMatch) {
+        journal.appendSaved(savedMatch);
+        onJournaled();
+    }
+
+    @Override
+    public void onUpdated(StoredMatch previousMatch, StoredMatch updatedMatch) {
+        journal.appendUpdated(previousMatch, updatedMatch);
+        onJournaled();
+    }
+
+    @Override
+    public void onDeleted(StoredMatch finishedMatch) {
+        journal.appendFinished(finishedMatch);
+        onJournaled();
+    }
+
+    @Override
+    public void snapshot() {
+        long segmentNumber;
+        snapshotLock.writeLock().lock();
+        try {
+            segmentNumber = journal.rollSegment();
+            eventsSinceSnapshot.set(0);
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+
+        writeSnapshot(segmentNumber);
+        deleteFilesBefore(segmentNumber);
+    }
+
+    @Override
+    public void close() {
+        background.shutdown();
+        try {
+            background.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    private <T> T journaled(Supplier<T> operation) {
+        snapshotLock.readLock().lock();
+        try {
+            throwIfFlushFailed();
+            return operation.get();
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    private void flush() {
+        try {
+            journal.force();
+        } catch (RuntimeException e) {
+            flushFailure.compareAndSet(null, e);
+        }
+    }
+
+    private void throwIfFlushFailed() {
+        var failure = flushFailure.getAndSet(null);
+        if (nonNull(failure)) {
+            throw new MatchStoreException("Couldn't flush the match journal!", failure);
+        }
+    }
+
+    private void onJournaled() {
+        if (eventsSinceSnapshot.incrementAndGet() >= journalPolicy.snapshotEveryEvents()
+                && snapshotScheduled.compareAndSet(false, true)) {
+            background.execute(() -> {
+                try {
+                    snapshot();
+                } finally {
+                    snapshotScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    private long recover() {
+        var directory = journalPolicy.directory();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't create journal directory '%s'!".formatted(directory), e);
+        }
+
+        var snapshotNumber = latestSnapshotNumber();
+        if (snapshotNumber >= 0) {
+            readSnapshot(snapshotPath(snapshotNumber));
+        }
+
+        var segmentNumbers = MatchJournal.segmentNumbers(directory);
+        var replayVisitor = new ReplayVisitor();
+        for (var segmentNumber : segmentNumbers) {
+            if (segmentNumber >= snapshotNumber && !MatchJournal.replay(MatchJournal.segmentPath(directory, segmentNumber), replayVisitor)) {
+                journalTorn = true;
+                break;
+            }
+        }
+        delegate.completeRestore();
+
+        var lastSegmentNumber = segmentNumbers.isEmpty() ? -1 : segmentNumbers.getLast();
+
+        return Math.max(lastSegmentNumber + 1, snapshotNumber + 1);
+    }
+
+    private long latestSnapshotNumber() {
+        try (var files = Files.list(journalPolicy.directory())) {
+            return files.map(file -> SNAPSHOT_FILE_NAME.matcher(file.getFileName().toString()))
+                    .filter(matcher -> matcher.matches())
+                    .mapToLong(matcher -> Long.parseLong(matcher.group(1)))
+                    .max()
+                    .orElse(-1);
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't list snapshots in '%s'!".formatted(journalPolicy.directory()), e);
+        }
+    }
+
+    private void readSnapshot(Path snapshotPath) {
+        try (var channel = FileChannel.open(snapshotPath, READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC) {
+                throw new MatchStoreException("'%s' is not a match store snapshot!".formatted(snapshotPath));
+            }
+
+            byte kind;
+            while ((kind = buffer.get()) != SNAPSHOT_END) {
+                var size = buffer.getInt();
+                var storedMatch = StoredMatchCodec.read(buffer.slice(buffer.position(), size));
+                buffer.position(buffer.position() + size);
+                if (kind == SNAPSHOT_ACTIVE) {
+                    delegate.restoreActive(storedMatch);
+                } else {
+                    delegate.restoreFinished(storedMatch);
+                }
+            }
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't read snapshot '%s'!".formatted(snapshotPath), e);
+        }
+    }
+
+    private void writeSnapshot(long segmentNumber) {
+        var snapshotPath = snapshotPath(segmentNumber);
+        var temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+        try (var channel = FileChannel.open(temporaryPath, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            var writer = new SnapshotWriter(channel);
+            writer.buffer.putInt(SNAPSHOT_MAGIC);
+            delegate.forEachActive(activeMatch -> writer.write(SNAPSHOT_ACTIVE, activeMatch));
+            delegate.forEachFinished(finishedMatch -> writer.write(SNAPSHOT_FINISHED, finishedMatch));
+            writer.buffer.put(SNAPSHOT_END);
+            writer.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't write snapshot '%s'!".formatted(snapshotPath), e);
+        }
+
+        try {
+            Files.move(temporaryPath, snapshotPath, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't publish snapshot '%s'!".formatted(snapshotPath), e);
+        }
+    }
+
+    private void deleteFilesBefore(long segmentNumber) {
+        var directory = journalPolicy.directory();
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                var fileName = file.getFileName().toString();
+                var snapshotMatcher = SNAPSHOT_FILE_NAME.matcher(fileName);
+                if (snapshotMatcher.matches() && Long.parseLong(snapshotMatcher.group(1)) < segmentNumber) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            for (var journalSegmentNumber : MatchJournal.segmentNumbers(directory)) {
+                if (journalSegmentNumber < segmentNumber) {
+                    Files.deleteIfExists(MatchJournal.segmentPath(directory, journalSegmentNumber));
+                }
+            }
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't delete compacted journal files in '%s'!".formatted(directory), e);
+        }
+    }
+
+    private Path snapshotPath(long segmentNumber) {
+        return journalPolicy.directory().resolve("snapshot-%020d.bin".formatted(segmentNumber));
+    }
+
+    private class ReplayVisitor implements JournalRecordVisitor {
+
+        @Override
+        public void onSaved(StoredMatch savedMatch) {
+            delegate.restoreActive(savedMatch);
+        }
+
+        @Override
+        public void onScoreUpdated(UUID matchId, Score score, long version) {
+            delegate.restoreScore(matchId, score, version);
+        }
+
+        @Override
+        public void onUpdated(StoredMatch updatedMatch) {
+            delegate.restoreActive(updatedMatch);
+        }
+
+        @Override
+        public void onFinished(UUID matchId, OffsetDateTime endTime) {
+            delegate.restoreFinished(matchId, endTime);
+        }
+
+        @Override
+        public void onCleared() {
+            delegate.clear();
+        }
+    }
+
+    private static class SnapshotWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_BUFFER_SIZE);
+
+        SnapshotWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void write(byte kind, StoredMatch storedMatch) {
+            var size = StoredMatchCodec.sizeOf(storedMatch);
+            if (buffer.remaining() < 1 + Integer.BYTES + size + 1) {
+                flush();
+            }
+
+            buffer.put(kind);
+            buffer.putInt(size);
+            StoredMatchCodec.write(buffer, storedMatch);
+        }
+
+        void flush() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new MatchStoreException("Couldn't write snapshot!", e);
+            }
+            buffer.clear();
+        }
+    }
+}
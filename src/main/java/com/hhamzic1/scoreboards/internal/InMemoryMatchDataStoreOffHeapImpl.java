@@ -0,0 +1,644 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.exception.MatchVersionConflictException;
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.InMemoryMatchDataStore;
+
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class InMemoryMatchDataStoreOffHeapImpl implements InMemoryMatchDataStore, LockWaitObservable, StoreOrderAware {
+
+    private static final Comparator<RankedRow> RANKED_ROW_ORDER = (left, right) -> {
+        if (left.sortKey() != right.sortKey()) {
+            return Long.compare(right.sortKey(), left.sortKey());
+        }
+        if (left.startTimeNanos() != right.startTimeNanos()) {
+            return Long.compare(right.startTimeNanos(), left.startTimeNanos());
+        }
+
+        return Long.compare(right.storeOrderId(), left.storeOrderId());
+    };
+
+    private final FinishedMatchesArchivePolicy archivePolicy;
+    private final FinishedMatchesSpillFile spillFile;
+    private final OffHeapMatchTable table = new OffHeapMatchTable();
+    private final UuidSlotIndex activeRowsById = new UuidSlotIndex();
+    private final TeamInternTable teams = new TeamInternTable();
+    private final ActiveTeamsIndex activeTeamsIndex = new ActiveTeamsIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int[] activeRows = new int[1024];
+    private int activeRowCount;
+    private int[] finishedRows = new int[1024];
+    private int finishedRowsHead;
+    private int finishedRowsTail;
+    private int[] latestFinishedRowOfTeam = new int[0];
+    private int[] finishedCountOfTeam = new int[0];
+    private long storeOrderIdSequence;
+    private volatile LatencyTimer lockWaitTimer;
+
+    InMemoryMatchDataStoreOffHeapImpl(FinishedMatchesArchivePolicy archivePolicy) {
+        this.archivePolicy = archivePolicy;
+        this.spillFile = nonNull(archivePolicy.spillFile()) ? new FinishedMatchesSpillFile(archivePolicy.spillFile()) : null;
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        lockForWrite();
+        try {
+            if (activeRowsById.get(matchId) != UuidSlotIndex.NO_SLOT) {
+                throw new MatchStoreException("Match with ID '%s' already exists!".formatted(matchId));
+            }
+            activeTeamsIndex.claim(matchId, match.homeTeam(), match.awayTeam());
+
+            var row = table.allocate();
+            table.write(row, new StoredMatch(match, ++storeOrderIdSequence), teams.intern(match.homeTeam()), teams.intern(match.awayTeam()));
+            activeRowsById.putIfAbsent(matchId, row);
+            addActiveRow(row);
+
+            return match;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        lockForWrite();
+        try {
+            var row = activeRowOf(matchId, "Match with ID '%s' does not exist!");
+            var activeMatch = table.read(row, teams);
+            var updatedMatch = updater.apply(activeMatch.toMatch());
+            if (!Objects.equals(updatedMatch.homeTeam(), activeMatch.homeTeam())
+                    || !Objects.equals(updatedMatch.awayTeam(), activeMatch.awayTeam())) {
+                throw new MatchStoreException("Only the score of an active match can be updated!");
+            }
+
+            table.setScore(row, updatedMatch.score().homeTeamScore(), updatedMatch.score().awayTeamScore());
+
+            return updatedMatch;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        lockForWrite();
+        try {
+            var row = activeRowOf(matchId, "Match with ID '%s' does not exist!");
+            var activeMatch = table.read(row, teams);
+            if (activeMatch.version() != expectedVersion) {
+                throw new MatchVersionConflictException("Match with ID '%s' is at version %d, expected %d!"
+                        .formatted(matchId, activeMatch.version(), expectedVersion), expectedVersion, activeMatch.version());
+            }
+
+            var updatedMatch = updater.apply(activeMatch.toMatch());
+            if (!Objects.equals(updatedMatch.homeTeam(), activeMatch.homeTeam())
+                    || !Objects.equals(updatedMatch.awayTeam(), activeMatch.awayTeam())) {
+                throw new MatchStoreException("Only the score of an active match can be updated!");
+            }
+
+            table.setScore(row, updatedMatch.score().homeTeamScore(), updatedMatch.score().awayTeamScore());
+
+            return new VersionedMatch(updatedMatch, table.version(row));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        lockForWrite();
+        try {
+            table.setScore(activeRowOf(matchId, "Match with ID '%s' does not exist!"), homeTeamScore, awayTeamScore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        lockForWrite();
+        try {
+            var row = activeRowOf(matchId, "Match with ID '%s' doesn't exist!");
+            table.setEndTime(row, OffHeapMatchTable.epochNanosOf(endTime), endTime.getOffset());
+
+            activeRowsById.remove(matchId);
+            removeActiveRow(row);
+            var finishedMatch = table.read(row, teams);
+            activeTeamsIndex.release(matchId, finishedMatch.homeTeam(), finishedMatch.awayTeam());
+            addFinishedRow(row);
+            evict();
+
+            return finishedMatch.toMatch();
+        } finally {
+            lock.writeLock().unlock();
+            spillEvicted();
+        }
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        lock.readLock().lock();
+        try {
+            var matches = new ArrayList<Match>(activeRowCount);
+            for (int i = 0; i < activeRowCount; i++) {
+                matches.add(table.read(activeRows[i], teams).toMatch());
+            }
+            return Collections.unmodifiableList(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        lock.readLock().lock();
+        try {
+            return sortedActiveRows(RankingOrder.from(comparator)).stream()
+                    .map(rankedRow -> table.read(rankedRow.row(), teams).toMatch())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            var topRows = topActiveRows(RankingOrder.from(comparator), TopMatchesSelector.rangeEnd(offset, limit));
+
+            return TopMatchesSelector.skip(topRows, offset).stream()
+                    .map(rankedRow -> table.read(rankedRow.row(), teams).toMatch())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        lock.readLock().lock();
+        try {
+            var row = activeRowsById.get(matchId);
+
+            return row == UuidSlotIndex.NO_SLOT ? Optional.empty() : Optional.of(table.read(row, teams).toVersionedMatch());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        lock.readLock().lock();
+        try {
+            var row = activeRowsById.get(matchId);
+
+            return row == UuidSlotIndex.NO_SLOT ? NO_STORE_ORDER_ID : table.storeOrderId(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        lock.readLock().lock();
+        try {
+            return sortedActiveRows(RankingOrder.from(comparator)).stream()
+                    .map(rankedRow -> table.read(rankedRow.row(), teams).toVersionedMatch())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        lock.readLock().lock();
+        try {
+            var row = activeRowsById.get(matchId);
+            if (row == UuidSlotIndex.NO_SLOT) {
+                return Optional.empty();
+            }
+
+            var order = RankingOrder.from(comparator);
+            var rankedRow = rankedRowOf(order, row);
+            var matchesBefore = 0;
+            for (int i = 0; i < activeRowCount; i++) {
+                if (ranksBefore(order, activeRows[i], rankedRow)) {
+                    matchesBefore++;
+                }
+            }
+
+            return Optional.of(new RankedMatch(table.read(row, teams).toMatch(), matchesBefore + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return getFinished(null, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        lock.readLock().lock();
+        try {
+            var from = isNull(finishedAfter) ? finishedRowsHead : firstFinishedAfter(OffHeapMatchTable.epochNanosOf(finishedAfter), afterMatchId);
+            var cutoffNanos = maxAgeCutoffNanos();
+            var matches = new ArrayList<Match>(Math.min(limit, finishedRowsTail - from));
+            for (int i = from; i < finishedRowsTail && matches.size() < limit; i++) {
+                if (table.endTimeNanos(finishedRows[i]) >= cutoffNanos) {
+                    matches.add(table.read(finishedRows[i], teams).toMatch());
+                }
+            }
+            return Collections.unmodifiableList(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        lock.readLock().lock();
+        try {
+            var teamRef = teams.refOf(teamId);
+            return teamRef < 0 ? List.of() : getLatestFinished(teamRef, -1, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        lock.readLock().lock();
+        try {
+            var teamRef = teams.refOf(teamId);
+            var otherTeamRef = teams.refOf(otherTeamId);
+            return teamRef < 0 || otherTeamRef < 0 ? List.of() : getLatestFinished(teamRef, otherTeamRef, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lockForWrite();
+        try {
+            table.clear();
+            activeRowsById.clear();
+            teams.clear();
+            activeTeamsIndex.clear();
+            activeRowCount = 0;
+            finishedRowsHead = 0;
+            finishedRowsTail = 0;
+            latestFinishedRowOfTeam = new int[0];
+            finishedCountOfTeam = new int[0];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long countActive() {
+        lock.readLock().lock();
+        try {
+            return activeRowCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long countFinished() {
+        lock.readLock().lock();
+        try {
+            return finishedRowsTail - finishedRowsHead;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void observeLockWait(LatencyTimer lockWaitTimer) {
+        this.lockWaitTimer = lockWaitTimer;
+    }
+
+    @Override
+    public void exportTo(WritableByteChannel channel) {
+        lock.readLock().lock();
+        try {
+            MatchStateCodec.write(channel, action -> {
+                for (int i = 0; i < activeRowCount; i++) {
+                    action.accept(table.read(activeRows[i], teams));
+                }
+            }, action -> {
+                for (int i = finishedRowsHead; i < finishedRowsTail; i++) {
+                    action.accept(table.read(finishedRows[i], teams));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void importFrom(ReadableByteChannel channel) {
+        var importedState = MatchStateCodec.read(channel);
+        lockForWrite();
+        try {
+            clear();
+            importedState.activeMatches().forEach(activeMatch -> {
+                var row = table.allocate();
+                table.write(row, activeMatch, teams.intern(activeMatch.homeTeam()), teams.intern(activeMatch.awayTeam()));
+                activeRowsById.putIfAbsent(activeMatch.id(), row);
+                addActiveRow(row);
+                activeTeamsIndex.restore(activeMatch.id(), activeMatch.homeTeam(), activeMatch.awayTeam());
+                storeOrderIdSequence = Math.max(storeOrderIdSequence, activeMatch.storeOrderId());
+            });
+            importedState.finishedMatches().forEach(finishedMatch -> {
+                var row = table.allocate();
+                table.write(row, finishedMatch, teams.intern(finishedMatch.homeTeam()), teams.intern(finishedMatch.awayTeam()));
+                table.setEndTime(row, OffHeapMatchTable.epochNanosOf(finishedMatch.endTime()), finishedMatch.endTime().getOffset());
+                addFinishedRow(row);
+                storeOrderIdSequence = Math.max(storeOrderIdSequence, finishedMatch.storeOrderId());
+            });
+            evict();
+        } finally {
+            lock.writeLock().unlock();
+            spillEvicted();
+        }
+    }
+
+    long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return table.offHeapBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void lockForWrite() {
+        var timer = lockWaitTimer;
+        if (isNull(timer)) {
+            lock.writeLock().lock();
+            return;
+        }
+
+        var start = System.nanoTime();
+        lock.writeLock().lock();
+        timer.record(System.nanoTime() - start);
+    }
+
+    private List<RankedRow> sortedActiveRows(RankingOrder order) {
+        var rankedRows = new ArrayList<RankedRow>(activeRowCount);
+        for (int i = 0; i < activeRowCount; i++) {
+            rankedRows.add(rankedRowOf(order, activeRows[i]));
+        }
+        rankedRows.sort(RANKED_ROW_ORDER);
+
+        return rankedRows;
+    }
+
+    private List<RankedRow> topActiveRows(RankingOrder order, int limit) {
+        if (limit == 0) {
+            return List.of();
+        }
+
+        var worstFirst = new PriorityQueue<RankedRow>(Math.min(limit, 1024) + 1, RANKED_ROW_ORDER.reversed());
+        for (int i = 0; i < activeRowCount; i++) {
+            var row = activeRows[i];
+            if (worstFirst.size() < limit) {
+                worstFirst.add(rankedRowOf(order, row));
+            } else if (ranksBefore(order, row, worstFirst.peek())) {
+                worstFirst.poll();
+                worstFirst.add(rankedRowOf(order, row));
+            }
+        }
+
+        var topRows = new ArrayList<>(worstFirst);
+        topRows.sort(RANKED_ROW_ORDER);
+
+        return topRows;
+    }
+
+    private RankedRow rankedRowOf(RankingOrder order, int row) {
+        return new RankedRow(sortKeyOf(order, row), table.startTimeNanos(row), table.storeOrderId(row), row);
+    }
+
+    private boolean ranksBefore(RankingOrder order, int row, RankedRow rankedRow) {
+        var sortKey = sortKeyOf(order, row);
+        if (sortKey != rankedRow.sortKey()) {
+            return sortKey > rankedRow.sortKey();
+        }
+
+        var startTimeNanos = table.startTimeNanos(row);
+        if (startTimeNanos != rankedRow.startTimeNanos()) {
+            return startTimeNanos > rankedRow.startTimeNanos();
+        }
+
+        return table.storeOrderId(row) > rankedRow.storeOrderId();
+    }
+
+    private long sortKeyOf(RankingOrder order, int row) {
+        return order.strategy().sortKey(table.homeTeamScore(row), table.awayTeamScore(row), table.startTime(row));
+    }
+
+    private int activeRowOf(UUID matchId, String missingMessage) {
+        var row = activeRowsById.get(matchId);
+        if (row == UuidSlotIndex.NO_SLOT) {
+            throw new MatchStoreException(missingMessage.formatted(matchId));
+        }
+
+        return row;
+    }
+
+    private void addActiveRow(int row) {
+        if (activeRowCount == activeRows.length) {
+            activeRows = Arrays.copyOf(activeRows, activeRowCount * 2);
+        }
+        table.setActivePosition(row, activeRowCount);
+        activeRows[activeRowCount++] = row;
+    }
+
+    private void removeActiveRow(int row) {
+        var position = table.activePosition(row);
+        var lastRow = activeRows[--activeRowCount];
+        activeRows[position] = lastRow;
+        table.setActivePosition(lastRow, position);
+    }
+
+    private void addFinishedRow(int row) {
+        if (finishedRowsTail == finishedRows.length) {
+            var finishedRowCount = finishedRowsTail - finishedRowsHead;
+            var compacted = finishedRowCount * 2 <= finishedRows.length
+                    ? finishedRows
+                    : new int[finishedRows.length * 2];
+            System.arraycopy(finishedRows, finishedRowsHead, compacted, 0, finishedRowCount);
+            finishedRows = compacted;
+            finishedRowsHead = 0;
+            finishedRowsTail = finishedRowCount;
+        }
+        var position = finishedRowsTail;
+        while (position > finishedRowsHead && finishesAfter(finishedRows[position - 1], row)) {
+            position--;
+        }
+        System.arraycopy(finishedRows, position, finishedRows, position + 1, finishedRowsTail - position);
+        finishedRows[position] = row;
+        finishedRowsTail++;
+        linkFinishedRow(row, table.homeTeamRef(row));
+        linkFinishedRow(row, table.awayTeamRef(row));
+    }
+
+    private void linkFinishedRow(int row, int teamRef) {
+        if (teamRef >= latestFinishedRowOfTeam.length) {
+            var previousLength = latestFinishedRowOfTeam.length;
+            var length = Math.max(teamRef + 1, previousLength * 2);
+            latestFinishedRowOfTeam = Arrays.copyOf(latestFinishedRowOfTeam, length);
+            Arrays.fill(latestFinishedRowOfTeam, previousLength, length, OffHeapMatchTable.NO_ROW);
+            finishedCountOfTeam = Arrays.copyOf(finishedCountOfTeam, length);
+        }
+
+        var newerRow = OffHeapMatchTable.NO_ROW;
+        var olderRow = latestFinishedRowOfTeam[teamRef];
+        while (olderRow != OffHeapMatchTable.NO_ROW && finishesAfter(olderRow, row)) {
+            newerRow = olderRow;
+            olderRow = table.olderFinishedRow(olderRow, teamRef);
+        }
+        table.setNewerFinishedRow(row, teamRef, newerRow);
+        table.setOlderFinishedRow(row, teamRef, olderRow);
+        if (olderRow != OffHeapMatchTable.NO_ROW) {
+            table.setNewerFinishedRow(olderRow, teamRef, row);
+        }
+        if (newerRow == OffHeapMatchTable.NO_ROW) {
+            latestFinishedRowOfTeam[teamRef] = row;
+        } else {
+            table.setOlderFinishedRow(newerRow, teamRef, row);
+        }
+        finishedCountOfTeam[teamRef]++;
+    }
+
+    private void unlinkFinishedRow(int row, int teamRef) {
+        var newerRow = table.newerFinishedRow(row, teamRef);
+        var olderRow = table.olderFinishedRow(row, teamRef);
+        if (olderRow != OffHeapMatchTable.NO_ROW) {
+            table.setNewerFinishedRow(olderRow, teamRef, newerRow);
+        }
+        if (newerRow == OffHeapMatchTable.NO_ROW) {
+            latestFinishedRowOfTeam[teamRef] = olderRow;
+        } else {
+            table.setOlderFinishedRow(newerRow, teamRef, olderRow);
+        }
+        finishedCountOfTeam[teamRef]--;
+    }
+
+    private boolean finishesAfter(int row, int otherRow) {
+        var byEndTime = Long.compare(table.endTimeNanos(row), table.endTimeNanos(otherRow));
+
+        return byEndTime != 0 ? byEndTime > 0 : table.storeOrderId(row) > table.storeOrderId(otherRow);
+    }
+
+    private int firstFinishedAfter(long finishedAfterNanos, UUID afterMatchId) {
+        var low = finishedRowsHead;
+        var high = finishedRowsTail;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (table.endTimeNanos(finishedRows[middle]) >= finishedAfterNanos) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        var firstTie = low;
+        while (low < finishedRowsTail && table.endTimeNanos(finishedRows[low]) == finishedAfterNanos) {
+            if (nonNull(afterMatchId) && table.hasId(finishedRows[low], afterMatchId)) {
+                return low + 1;
+            }
+            low++;
+        }
+
+        return isNull(afterMatchId) ? low : firstTie;
+    }
+
+    private List<Match> getLatestFinished(int teamRef, int otherTeamRef, int limit) {
+        if (teamRef >= latestFinishedRowOfTeam.length || otherTeamRef >= latestFinishedRowOfTeam.length) {
+            return List.of();
+        }
+
+        var chainTeamRef = otherTeamRef >= 0 && finishedCountOfTeam[otherTeamRef] < finishedCountOfTeam[teamRef] ? otherTeamRef : teamRef;
+        var opponentRef = chainTeamRef == teamRef ? otherTeamRef : teamRef;
+        var cutoffNanos = maxAgeCutoffNanos();
+        var matches = new ArrayList<Match>(Math.min(limit, 64));
+        var row = latestFinishedRowOfTeam[chainTeamRef];
+        while (row != OffHeapMatchTable.NO_ROW && matches.size() < limit && table.endTimeNanos(row) >= cutoffNanos) {
+            var homeTeamRef = table.homeTeamRef(row);
+            if (opponentRef < 0 || (homeTeamRef == chainTeamRef ? table.awayTeamRef(row) : homeTeamRef) == opponentRef) {
+                matches.add(table.read(row, teams).toMatch());
+            }
+            row = table.olderFinishedRow(row, chainTeamRef);
+        }
+
+        return Collections.unmodifiableList(matches);
+    }
+
+    private long maxAgeCutoffNanos() {
+        return isNull(archivePolicy.maxAge())
+                ? Long.MIN_VALUE
+                : OffHeapMatchTable.epochNanosOf(archivePolicy.maxAgeCutoff());
+    }
+
+    private void evict() {
+        var cutoffNanos = maxAgeCutoffNanos();
+        while (finishedRowsHead < finishedRowsTail
+                && (finishedRowsTail - finishedRowsHead > archivePolicy.maxMatches()
+                || table.endTimeNanos(finishedRows[finishedRowsHead]) < cutoffNanos)) {
+            var row = finishedRows[finishedRowsHead++];
+            unlinkFinishedRow(row, table.homeTeamRef(row));
+            unlinkFinishedRow(row, table.awayTeamRef(row));
+            if (nonNull(spillFile)) {
+                spillFile.evicted(table.read(row, teams));
+            }
+            table.free(row);
+        }
+    }
+
+    private void spillEvicted() {
+        if (nonNull(spillFile)) {
+            spillFile.flush();
+        }
+    }
+
+    private record RankedRow(long sortKey, long startTimeNanos, long storeOrderId, int row) {
+    }
+}
@@ -0,0 +1,462 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+import com.hhamzic1.scoreboards.common.store.ReplicatedMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.ReplicationPolicy;
+import com.hhamzic1.scoreboards.common.store.ReplicationStats;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class InMemoryMatchDataStoreReplicatedImpl implements ReplicatedMatchDataStore, StoredMatchListener, StoreOrderAware {
+
+    private static final long SENDER_POLL_MILLIS = 10;
+    private static final long AWAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int FRAME_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int DELTA_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final ReplicationPolicy replicationPolicy;
+    private final InMemoryMatchDataStoreHashMapImpl delegate;
+    private final List<FollowerLink> followerLinks = new ArrayList<>();
+    private final List<MatchDataStore> followers = new ArrayList<>();
+    private final ReadWriteLock resyncLock = new ReentrantReadWriteLock();
+    private final Lock sequenceLock = new ReentrantLock();
+    private volatile long sequence;
+
+    InMemoryMatchDataStoreReplicatedImpl(RankingOrder summaryOrder, FinishedMatchesArchivePolicy archivePolicy,
+                                         ReplicationPolicy replicationPolicy) {
+        this.replicationPolicy = replicationPolicy;
+        this.delegate = new InMemoryMatchDataStoreHashMapImpl(summaryOrder, archivePolicy, this);
+
+        var followerArchivePolicy = archivePolicy.withSpillFile(null);
+        for (int i = 0; i < replicationPolicy.followerCount(); i++) {
+            var channel = ReplicationChannel.open(replicationPolicy.transport());
+            var follower = new ReplicaMatchDataStore(new InMemoryMatchDataStoreHashMapImpl(summaryOrder, followerArchivePolicy),
+                    channel, "match-replication-follower-" + i);
+            followerLinks.add(new FollowerLink(channel, follower, "match-replication-sender-" + i));
+            followers.add(follower);
+        }
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        return replicated(() -> delegate.save(matchId, match));
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        return replicated(() -> delegate.update(matchId, updater));
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        return replicated(() -> delegate.updateIfVersion(matchId, expectedVersion, updater));
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        return replicated(() -> delegate.finish(matchId, endTime));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        return replicated(() -> delegate.saveAll(matches));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        return replicated(() -> delegate.updateAll(updaters));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        return replicated(() -> delegate.deleteAll(matchIds, endTime));
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        return delegate.getAllActive();
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        return delegate.getAllActive(comparator);
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        return delegate.getActiveRange(comparator, offset, limit);
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        return delegate.getVersionedActive(matchId);
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        return delegate.storeOrderIdOf(matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return delegate.getAllVersionedActive(comparator);
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        return delegate.getRankedActive(matchId, comparator);
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return delegate.getAllFinished();
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return delegate.getFinished(finishedAfter, afterMatchId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return delegate.getFinishedOfTeam(teamId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return delegate.getFinishedBetween(teamId, otherTeamId, limit);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public long countFinished() {
+        return delegate.countFinished();
+    }
+
+    @Override
+    public void clear() {
+        resyncLock.writeLock().lock();
+        try {
+            delegate.clear();
+            publish(delta(MatchJournal.CLEARED, 0, buffer -> {
+            }));
+        } finally {
+            resyncLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void exportTo(WritableByteChannel channel) {
+        delegate.exportTo(channel);
+    }
+
+    @Override
+    public void importFrom(ReadableByteChannel channel) {
+        resyncLock.writeLock().lock();
+        try {
+            delegate.importFrom(channel);
+            followerLinks.forEach(this::resync);
+        } finally {
+            resyncLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MatchDataStore> getFollowers() {
+        return List.copyOf(followers);
+    }
+
+    @Override
+    public List<ReplicationStats> getReplicationStats() {
+        var leaderSequence = sequence;
+
+        return followerLinks.stream()
+                .map(followerLink -> followerLink.follower.getStats(leaderSequence, followerLink.failure))
+                .toList();
+    }
+
+    @Override
+    public boolean awaitReplication(Duration timeout) {
+        var leaderSequence = sequence;
+        var deadline = System.nanoTime() + timeout.toNanos();
+        for (var followerLink : followerLinks) {
+            while (followerLink.follower.getAppliedSequence() < leaderSequence) {
+                if (System.nanoTime() - deadline >= 0 || nonNull(followerLink.failure) || nonNull(followerLink.follower.getFailure())) {
+                    return false;
+                }
+                LockSupport.parkNanos(AWAIT_PARK_NANOS);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void resync(int follower) {
+        if (follower < 0 || follower >= followerLinks.size()) {
+            throw new MatchStoreException("Follower %d doesn't exist!".formatted(follower));
+        }
+
+        resync(followerLinks.get(follower));
+    }
+
+    @Override
+    public void close() {
+        followerLinks.forEach(FollowerLink::close);
+        followerLinks.forEach(followerLink -> followerLink.follower.awaitTermination());
+    }
+
+    @Override
+    public void onSaved(StoredMatch savedMatch) {
+        publish(delta(MatchJournal.SAVED, StoredMatchCodec.sizeOf(savedMatch),
+                buffer -> StoredMatchCodec.write(buffer, savedMatch)));
+    }
+
+    @Override
+    public void onUpdated(StoredMatch previousMatch, StoredMatch updatedMatch) {
+        if (!MatchJournal.isOnlyScoreChanged(previousMatch, updatedMatch)) {
+            publish(delta(MatchJournal.UPDATED, StoredMatchCodec.sizeOf(updatedMatch),
+                    buffer -> StoredMatchCodec.write(buffer, updatedMatch)));
+            return;
+        }
+
+        publish(delta(MatchJournal.SCORE_UPDATED, StoredMatchCodec.UUID_SIZE + Long.BYTES + StoredMatchCodec.SCORE_SIZE, buffer -> {
+            StoredMatchCodec.writeUuid(buffer, updatedMatch.id());
+            buffer.putLong(updatedMatch.version());
+            StoredMatchCodec.writeScore(buffer, updatedMatch.score());
+        }));
+    }
+
+    @Override
+    public void onDeleted(StoredMatch finishedMatch) {
+        publish(delta(MatchJournal.FINISHED, StoredMatchCodec.UUID_SIZE + StoredMatchCodec.DATE_TIME_SIZE, buffer -> {
+            StoredMatchCodec.writeUuid(buffer, finishedMatch.id());
+            StoredMatchCodec.writeDateTime(buffer, finishedMatch.endTime());
+        }));
+    }
+
+    private <T> T replicated(Supplier<T> operation) {
+        resyncLock.readLock().lock();
+        try {
+            return operation.get();
+        } finally {
+            resyncLock.readLock().unlock();
+        }
+    }
+
+    private void publish(byte[] delta) {
+        sequenceLock.lock();
+        try {
+            var replicationDelta = new ReplicationDelta(sequence + 1, System.nanoTime(), delta);
+            sequence = replicationDelta.sequence();
+            followerLinks.forEach(followerLink -> followerLink.offer(replicationDelta));
+        } finally {
+            sequenceLock.unlock();
+        }
+    }
+
+    private void resync(FollowerLink followerLink) {
+        long snapshotSequence;
+        resyncLock.writeLock().lock();
+        try {
+            followerLink.snapshotLock.lock();
+            sequenceLock.lock();
+            try {
+                snapshotSequence = sequence;
+                followerLink.beginSnapshot();
+            } finally {
+                sequenceLock.unlock();
+            }
+        } finally {
+            resyncLock.writeLock().unlock();
+        }
+
+        try {
+            ReplicationDelta snapshotDelta = null;
+            try {
+                var snapshot = new ByteArrayOutputStream();
+                MatchStateCodec.write(Channels.newChannel(snapshot), delegate::forEachActive, delegate::forEachFinished);
+                var snapshotBytes = snapshot.toByteArray();
+                snapshotDelta = new ReplicationDelta(snapshotSequence, System.nanoTime(),
+                        delta(ReplicaMatchDataStore.RESYNC, snapshotBytes.length, buffer -> buffer.put(snapshotBytes)));
+            } finally {
+                sequenceLock.lock();
+                try {
+                    followerLink.endSnapshot(snapshotDelta);
+                } finally {
+                    sequenceLock.unlock();
+                }
+            }
+        } finally {
+            followerLink.snapshotLock.unlock();
+        }
+    }
+
+    private static byte[] delta(byte type, int payloadSize, Consumer<ByteBuffer> payloadWriter) {
+        var buffer = ByteBuffer.allocate(1 + payloadSize);
+        buffer.put(type);
+        payloadWriter.accept(buffer);
+
+        return buffer.array();
+    }
+
+    private static ByteBuffer frameOf(List<ReplicationDelta> batch) {
+        var size = FRAME_HEADER_SIZE;
+        for (var replicationDelta : batch) {
+            size += DELTA_HEADER_SIZE + replicationDelta.delta().length;
+        }
+
+        var frame = ByteBuffer.allocate(size);
+        frame.putLong(batch.getFirst().createdNanos());
+        frame.putInt(batch.size());
+        for (var replicationDelta : batch) {
+            frame.putLong(replicationDelta.sequence());
+            frame.putInt(replicationDelta.delta().length);
+            frame.put(replicationDelta.delta());
+        }
+
+        return frame.flip();
+    }
+
+    private record ReplicationDelta(long sequence, long createdNanos, byte[] delta) {
+    }
+
+    private class FollowerLink {
+
+        private final ReplicationChannel channel;
+        private final ReplicaMatchDataStore follower;
+        private final BlockingQueue<ReplicationDelta> pendingDeltas;
+        private final Lock snapshotLock = new ReentrantLock();
+        private final Thread sender;
+        private List<ReplicationDelta> snapshotDeltas;
+        private volatile boolean overflowed;
+        private volatile boolean running = true;
+        private volatile Throwable failure;
+
+        FollowerLink(ReplicationChannel channel, ReplicaMatchDataStore follower, String name) {
+            this.channel = channel;
+            this.follower = follower;
+            this.pendingDeltas = new ArrayBlockingQueue<>(replicationPolicy.maxPendingDeltas());
+            this.sender = new Thread(this::send, name);
+            this.sender.setDaemon(true);
+            this.sender.start();
+        }
+
+        void offer(ReplicationDelta replicationDelta) {
+            if (nonNull(snapshotDeltas)) {
+                if (snapshotDeltas.size() < replicationPolicy.maxPendingDeltas()) {
+                    snapshotDeltas.add(replicationDelta);
+                } else {
+                    overflowed = true;
+                }
+            } else if (!overflowed && !pendingDeltas.offer(replicationDelta)) {
+                overflowed = true;
+            }
+        }
+
+        void beginSnapshot() {
+            pendingDeltas.clear();
+            snapshotDeltas = new ArrayList<>();
+            overflowed = false;
+        }
+
+        void endSnapshot(ReplicationDelta snapshotDelta) {
+            var bufferedDeltas = snapshotDeltas;
+            snapshotDeltas = null;
+            if (isNull(snapshotDelta)) {
+                overflowed = true;
+                return;
+            }
+
+            pendingDeltas.add(snapshotDelta);
+            for (var replicationDelta : bufferedDeltas) {
+                offer(replicationDelta);
+            }
+        }
+
+        void close() {
+            running = false;
+            try {
+                sender.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.close();
+        }
+
+        private void send() {
+            try {
+                sendPending();
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+
+        private void sendPending() {
+            var batch = new ArrayList<ReplicationDelta>(replicationPolicy.maxBatchSize());
+            while (running || !pendingDeltas.isEmpty()) {
+                if (overflowed) {
+                    resync(this);
+                    continue;
+                }
+
+                ReplicationDelta first;
+                try {
+                    first = pendingDeltas.poll(SENDER_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (isNull(first)) {
+                    continue;
+                }
+
+                batch.add(first);
+                pendingDeltas.drainTo(batch, replicationPolicy.maxBatchSize() - 1);
+                channel.send(frameOf(batch));
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.ShardedMatchDataStore;
+
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class InMemoryMatchDataStoreShardedImpl implements ShardedMatchDataStore, StoreOrderAware {
+
+    private final RankingOrder summaryOrder;
+    private final Function<Match, String> shardKeyOf;
+    private final FinishedMatchesArchive finishedMatchesStore;
+    private final AtomicLong storeOrderIdSequence = new AtomicLong();
+    private final ActiveTeamsIndex activeTeamsIndex = new ActiveTeamsIndex();
+    private final Map<String, InMemoryMatchDataStoreHashMapImpl> shards = new ConcurrentHashMap<>();
+    private final Map<UUID, String> shardKeysByMatchId = new ConcurrentHashMap<>();
+    private final StampedLock batchVisibilityLock = new StampedLock();
+
+    InMemoryMatchDataStoreShardedImpl(RankingOrder summaryOrder, Function<Match, String> shardKeyOf,
+                                      FinishedMatchesArchivePolicy archivePolicy) {
+        this.summaryOrder = summaryOrder;
+        this.shardKeyOf = shardKeyOf;
+        this.finishedMatchesStore = new FinishedMatchesArchive(archivePolicy);
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        var shardKey = shardKeyOf.apply(match);
+        if (isNull(shardKey)) {
+            throw new MatchStoreException("Shard key of match with ID '%s' can't be null!".formatted(matchId));
+        }
+
+        if (nonNull(shardKeysByMatchId.putIfAbsent(matchId, shardKey))) {
+            throw new MatchStoreException("Match with ID '%s' already exists!".formatted(matchId));
+        }
+
+        var savedMatch = new Match[1];
+        try {
+            activeTeamsIndex.claim(matchId, match.homeTeam(), match.awayTeam());
+            try {
+                shards.compute(shardKey, (key, shard) -> {
+                    var target = isNull(shard) ? newShard() : shard;
+                    savedMatch[0] = target.save(matchId, match);
+                    return target;
+                });
+            } catch (RuntimeException e) {
+                activeTeamsIndex.release(matchId, match.homeTeam(), match.awayTeam());
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            shardKeysByMatchId.remove(matchId, shardKey);
+            throw e;
+        }
+
+        return savedMatch[0];
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        return shardOf(matchId).update(matchId, updater);
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        return shardOf(matchId).updateIfVersion(matchId, expectedVersion, updater);
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        var shardKey = shardKeysByMatchId.get(matchId);
+        var finishedMatch = new Match[1];
+        if (nonNull(shardKey)) {
+            shards.computeIfPresent(shardKey, (key, shard) -> {
+                finishedMatch[0] = shard.finish(matchId, endTime);
+                return shard.countActive() == 0 ? null : shard;
+            });
+        }
+        if (isNull(finishedMatch[0])) {
+            throw new MatchStoreException("Match with ID '%s' doesn't exist!".formatted(matchId));
+        }
+
+        shardKeysByMatchId.remove(matchId, shardKey);
+        activeTeamsIndex.release(matchId, finishedMatch[0].homeTeam(), finishedMatch[0].awayTeam());
+
+        return finishedMatch[0];
+    }
+
+    @Override
+    public BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        return inBatch(() -> ShardedMatchDataStore.super.saveAll(matches));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        return inBatch(() -> ShardedMatchDataStore.super.updateAll(updaters));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        return inBatch(() -> ShardedMatchDataStore.super.deleteAll(matchIds, endTime));
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        return batchVisible(() -> shards.values().stream()
+                .flatMap(shard -> shard.getAllActive().stream())
+                .toList());
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        return underReadLock(() -> getSortedRankedActive(RankingOrder.from(comparator))).stream()
+                .map(rankedMatch -> rankedMatch.match().toMatch())
+                .toList();
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        return batchVisible(() -> {
+            var shard = shardWith(matchId);
+
+            return isNull(shard) ? Optional.empty() : shard.getVersionedActive(matchId);
+        });
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        var shard = shardWith(matchId);
+
+        return isNull(shard) ? NO_STORE_ORDER_ID : shard.storeOrderIdOf(matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return underReadLock(() -> getSortedRankedActive(RankingOrder.from(comparator))).stream()
+                .map(rankedMatch -> rankedMatch.match().toVersionedMatch())
+                .toList();
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        var order = RankingOrder.from(comparator);
+        var rangeEnd = TopMatchesSelector.rangeEnd(offset, limit);
+        var merged = underReadLock(() -> {
+            var topOfShards = shards.values().parallelStream()
+                    .map(shard -> shard.getTopRankedActive(order, rangeEnd))
+                    .toList();
+
+            return SortedRunsMerger.merge(topOfShards, RankingOrder.RANKED_ORDER, rangeEnd);
+        });
+
+        return TopMatchesSelector.skip(merged, offset).stream()
+                .map(rankedMatch -> rankedMatch.match().toMatch())
+                .toList();
+    }
+
+    @Override
+    public List<Match> getActiveSummary(String shardKey) {
+        return underReadLock(() -> {
+            var shard = shards.get(shardKey);
+
+            return isNull(shard) ? List.of() : shard.getAllActive(summaryOrder);
+        });
+    }
+
+    @Override
+    public Set<String> getShardKeys() {
+        return Set.copyOf(shards.keySet());
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        var order = RankingOrder.from(comparator);
+
+        return underReadLock(() -> {
+            var shard = shardWith(matchId);
+            var storedMatch = isNull(shard) ? null : shard.getStoredActive(matchId);
+            if (isNull(storedMatch)) {
+                return Optional.empty();
+            }
+
+            var matchesBefore = shards.values().stream()
+                    .mapToLong(anyShard -> anyShard.countActiveBefore(storedMatch, order))
+                    .sum();
+
+            return Optional.of(new RankedMatch(storedMatch.toMatch(), (int) matchesBefore + 1));
+        });
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return batchVisible(finishedMatchesStore::getAll);
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getFinishedAfter(finishedAfter, afterMatchId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getLatestOfTeam(teamId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getLatestBetween(teamId, otherTeamId, limit));
+    }
+
+    @Override
+    public void clear() {
+        inBatch(() -> {
+            clearShards();
+            return null;
+        });
+    }
+
+    @Override
+    public void exportTo(WritableByteChannel channel) {
+        underReadLock(() -> {
+            MatchStateCodec.write(channel, action -> shards.values().forEach(shard -> shard.forEachActive(action)),
+                    finishedMatchesStore::forEach);
+            return null;
+        });
+    }
+
+    @Override
+    public void importFrom(ReadableByteChannel channel) {
+        var importedState = MatchStateCodec.read(channel);
+        var shardKeys = new ArrayList<String>(importedState.activeMatches().size());
+        for (var activeMatch : importedState.activeMatches()) {
+            var shardKey = shardKeyOf.apply(activeMatch.toMatch());
+            if (isNull(shardKey)) {
+                throw new MatchStoreException("Shard key of match with ID '%s' can't be null!".formatted(activeMatch.id()));
+            }
+            shardKeys.add(shardKey);
+        }
+
+        inBatch(() -> {
+            clearShards();
+            for (int i = 0; i < shardKeys.size(); i++) {
+                var activeMatch = importedState.activeMatches().get(i);
+                var shard = shards.computeIfAbsent(shardKeys.get(i), key -> newShard());
+                shard.restoreActive(activeMatch);
+                shardKeysByMatchId.put(activeMatch.id(), shardKeys.get(i));
+            }
+            importedState.finishedMatches().forEach(finishedMatchesStore::add);
+
+            shards.values().forEach(shard -> {
+                shard.completeRestore();
+                shard.forEachActive(activeMatch -> activeTeamsIndex.restore(activeMatch.id(), activeMatch.homeTeam(), activeMatch.awayTeam()));
+            });
+            return null;
+        });
+        finishedMatchesStore.spillEvicted();
+    }
+
+    private void clearShards() {
+        shards.values().forEach(InMemoryMatchDataStoreHashMapImpl::clear);
+        shards.clear();
+        shardKeysByMatchId.clear();
+        activeTeamsIndex.clear();
+        finishedMatchesStore.clear();
+    }
+
+    private InMemoryMatchDataStoreHashMapImpl newShard() {
+        return new InMemoryMatchDataStoreHashMapImpl(summaryOrder, finishedMatchesStore, null, storeOrderIdSequence, new ActiveTeamsIndex());
+    }
+
+    private List<RankingOrder.Ranked> getSortedRankedActive(RankingOrder order) {
+        var sortedShards = shards.values().parallelStream()
+                .map(shard -> shard.getSortedRankedActive(order))
+                .toList();
+
+        return SortedRunsMerger.merge(sortedShards, RankingOrder.RANKED_ORDER);
+    }
+
+    private <T> T inBatch(Supplier<T> batch) {
+        var stamp = batchVisibilityLock.writeLock();
+        try {
+            return batch.get();
+        } finally {
+            batchVisibilityLock.unlockWrite(stamp);
+        }
+    }
+
+    private <T> T underReadLock(Supplier<T> read) {
+        var stamp = batchVisibilityLock.readLock();
+        try {
+            return read.get();
+        } finally {
+            batchVisibilityLock.unlockRead(stamp);
+        }
+    }
+
+    private <T> T batchVisible(Supplier<T> read) {
+        var stamp = batchVisibilityLock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                var result = read.get();
+                if (batchVisibilityLock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (batchVisibilityLock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        return underReadLock(read);
+    }
+
+    private InMemoryMatchDataStoreHashMapImpl shardWith(UUID matchId) {
+        var shardKey = shardKeysByMatchId.get(matchId);
+
+        return isNull(shardKey) ? null : shards.get(shardKey);
+    }
+
+    private InMemoryMatchDataStoreHashMapImpl shardOf(UUID matchId) {
+        var shard = shardWith(matchId);
+        if (isNull(shard)) {
+            throw new MatchStoreException("Match with ID '%s' does not exist!".formatted(matchId));
+        }
+
+        return shard;
+    }
+}
@@ -0,0 +1,290 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.exception.MatchVersionConflictException;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.InMemoryMatchDataStore;
+
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class InMemoryMatchDataStoreSlotImpl implements InMemoryMatchDataStore, StoreOrderAware {
+
+    private final Map<UUID, ActiveMatchSlot> activeMatchSlots = new ConcurrentHashMap<>();
+    private final FinishedMatchesArchive finishedMatchesStore;
+    private final ActiveTeamsIndex activeTeamsIndex = new ActiveTeamsIndex();
+    private final AtomicLong storeOrderIdSequence = new AtomicLong();
+    private final ReadWriteLock batchVisibilityLock = new ReentrantReadWriteLock();
+
+    InMemoryMatchDataStoreSlotImpl(FinishedMatchesArchivePolicy archivePolicy) {
+        this.finishedMatchesStore = new FinishedMatchesArchive(archivePolicy);
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        activeTeamsIndex.claim(matchId, match.homeTeam(), match.awayTeam());
+
+        var slot = new ActiveMatchSlot(new StoredMatch(match, storeOrderIdSequence.incrementAndGet()));
+        if (nonNull(activeMatchSlots.putIfAbsent(matchId, slot))) {
+            activeTeamsIndex.release(matchId, match.homeTeam(), match.awayTeam());
+            throw new MatchStoreException("Match with ID '%s' already exists!".formatted(matchId));
+        }
+
+        return match;
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        var slot = activeMatchSlots.get(matchId);
+        while (true) {
+            var activeMatch = isNull(slot) ? null : slot.toStoredMatch();
+            if (isNull(activeMatch)) {
+                throw new MatchStoreException("Match with ID '%s' does not exist!".formatted(matchId));
+            }
+
+            var updatedMatch = updater.apply(activeMatch.toMatch());
+            if (!Objects.equals(updatedMatch.homeTeam(), activeMatch.homeTeam())
+                    || !Objects.equals(updatedMatch.awayTeam(), activeMatch.awayTeam())) {
+                throw new MatchStoreException("Only the score of an active match can be updated!");
+            }
+
+            if (slot.setScoreIfVersion(activeMatch.version(), updatedMatch.score().homeTeamScore(), updatedMatch.score().awayTeamScore())) {
+                return updatedMatch;
+            }
+        }
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        var slot = activeMatchSlots.get(matchId);
+        var activeMatch = isNull(slot) ? null : slot.toStoredMatch();
+        if (isNull(activeMatch)) {
+            throw new MatchStoreException("Match with ID '%s' does not exist!".formatted(matchId));
+        }
+        if (activeMatch.version() != expectedVersion) {
+            throw versionConflict(matchId, expectedVersion, activeMatch.version());
+        }
+
+        var updatedMatch = updater.apply(activeMatch.toMatch());
+        if (!Objects.equals(updatedMatch.homeTeam(), activeMatch.homeTeam())
+                || !Objects.equals(updatedMatch.awayTeam(), activeMatch.awayTeam())) {
+            throw new MatchStoreException("Only the score of an active match can be updated!");
+        }
+
+        if (!slot.setScoreIfVersion(expectedVersion, updatedMatch.score().homeTeamScore(), updatedMatch.score().awayTeamScore())) {
+            var actualVersion = slot.version();
+            if (actualVersion == ActiveMatchSlot.FINISHED) {
+                throw new MatchStoreException("Match with ID '%s' does not exist!".formatted(matchId));
+            }
+            throw versionConflict(matchId, expectedVersion, actualVersion);
+        }
+
+        return new VersionedMatch(updatedMatch, expectedVersion + 1);
+    }
+
+    @Override
+    public void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        var slot = activeMatchSlots.get(matchId);
+        if (isNull(slot) || !slot.setScore(homeTeamScore, awayTeamScore)) {
+            throw new MatchStoreException("Match with ID '%s' does not exist!".formatted(matchId));
+        }
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        var slot = activeMatchSlots.get(matchId);
+        var finishedMatch = isNull(slot) ? null : slot.finish(endTime);
+        if (isNull(finishedMatch)) {
+            throw new MatchStoreException("Match with ID '%s' doesn't exist!".formatted(matchId));
+        }
+
+        activeMatchSlots.remove(matchId, slot);
+        activeTeamsIndex.release(matchId, slot.homeTeam(), slot.awayTeam());
+        finishedMatchesStore.add(finishedMatch);
+        finishedMatchesStore.spillEvicted();
+
+        return finishedMatch.toMatch();
+    }
+
+    @Override
+    public BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        return inBatch(() -> InMemoryMatchDataStore.super.saveAll(matches));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        return inBatch(() -> InMemoryMatchDataStore.super.updateAll(updaters));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        return inBatch(() -> InMemoryMatchDataStore.super.deleteAll(matchIds, endTime));
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        return activeStoredMatches().stream()
+                .map(StoredMatch::toMatch)
+                .toList();
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        return RankingOrder.sorted(activeStoredMatches(), comparator).stream()
+                .map(StoredMatch::toMatch)
+                .toList();
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        var selector = new TopMatchesSelector(RankingOrder.from(comparator), TopMatchesSelector.rangeEnd(offset, limit));
+        batchVisible(() -> {
+            for (var slot : activeMatchSlots.values()) {
+                var storedMatch = slot.toStoredMatch();
+                if (nonNull(storedMatch)) {
+                    selector.offer(storedMatch);
+                }
+            }
+            return null;
+        });
+
+        return TopMatchesSelector.skip(selector.toSortedList(), offset).stream()
+                .map(StoredMatch::toMatch)
+                .toList();
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        var slot = activeMatchSlots.get(matchId);
+
+        return isNull(slot) ? Optional.empty() : Optional.ofNullable(slot.toStoredMatch()).map(StoredMatch::toVersionedMatch);
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        var slot = activeMatchSlots.get(matchId);
+
+        return isNull(slot) ? NO_STORE_ORDER_ID : slot.storeOrderId();
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return RankingOrder.sorted(activeStoredMatches(), comparator).stream()
+                .map(StoredMatch::toVersionedMatch)
+                .toList();
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return batchVisible(finishedMatchesStore::getAll);
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getFinishedAfter(finishedAfter, afterMatchId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getLatestOfTeam(teamId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return batchVisible(() -> finishedMatchesStore.getLatestBetween(teamId, otherTeamId, limit));
+    }
+
+    @Override
+    public void clear() {
+        activeMatchSlots.clear();
+        activeTeamsIndex.clear();
+        finishedMatchesStore.clear();
+    }
+
+    @Override
+    public void exportTo(WritableByteChannel channel) {
+        batchVisible(() -> {
+            MatchStateCodec.write(channel, action -> activeMatchSlots.values().forEach(slot -> {
+                var activeMatch = slot.toStoredMatch();
+                if (nonNull(activeMatch)) {
+                    action.accept(activeMatch);
+                }
+            }), finishedMatchesStore::forEach);
+            return null;
+        });
+    }
+
+    @Override
+    public void importFrom(ReadableByteChannel channel) {
+        var importedState = MatchStateCodec.read(channel);
+        inBatch(() -> {
+            clear();
+            importedState.activeMatches().forEach(activeMatch -> {
+                activeMatchSlots.put(activeMatch.id(), new ActiveMatchSlot(activeMatch));
+                activeTeamsIndex.restore(activeMatch.id(), activeMatch.homeTeam(), activeMatch.awayTeam());
+                storeOrderIdSequence.accumulateAndGet(activeMatch.storeOrderId(), Math::max);
+            });
+            importedState.finishedMatches().forEach(finishedMatch -> {
+                finishedMatchesStore.add(finishedMatch);
+                storeOrderIdSequence.accumulateAndGet(finishedMatch.storeOrderId(), Math::max);
+            });
+            return null;
+        });
+        finishedMatchesStore.spillEvicted();
+    }
+
+    private List<StoredMatch> activeStoredMatches() {
+        return batchVisible(() -> activeMatchSlots.values().stream()
+                .map(ActiveMatchSlot::toStoredMatch)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    private <T> T inBatch(Supplier<T> batch) {
+        batchVisibilityLock.writeLock().lock();
+        try {
+            return batch.get();
+        } finally {
+            batchVisibilityLock.writeLock().unlock();
+        }
+    }
+
+    private <T> T batchVisible(Supplier<T> read) {
+        batchVisibilityLock.readLock().lock();
+        try {
+            return read.get();
+        } finally {
+            batchVisibilityLock.readLock().unlock();
+        }
+    }
+
+    private static MatchVersionConflictException versionConflict(UUID matchId, long expectedVersion, long actualVersion) {
+        return new MatchVersionConflictException("Match with ID '%s' is at version %d, expected %d!"
+                .formatted(matchId, actualVersion, expectedVersion), expectedVersion, actualVersion);
+    }
+}
@@ -0,0 +1,60 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.metrics.InMemoryMetricsRegistry;
+import com.hhamzic1.scoreboards.common.metrics.LatencySnapshot;
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+import com.hhamzic1.scoreboards.common.metrics.MetricCounter;
+import com.hhamzic1.scoreboards.common.metrics.MetricsSnapshot;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+class InMemoryMetricsRegistryImpl implements InMemoryMetricsRegistry {
+
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    @Override
+    public LatencyTimer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    @Override
+    public MetricCounter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder())::increment;
+    }
+
+    @Override
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        var latencies = new TreeMap<String, LatencySnapshot>();
+        timers.forEach((name, histogram) -> latencies.put(name, histogram.snapshot()));
+        var counterValues = new TreeMap<String, Long>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.sum()));
+        var gaugeValues = new TreeMap<String, Long>();
+        gauges.forEach((name, gauge) -> gaugeValues.put(name, gauge.getAsLong()));
+
+        return new MetricsSnapshot(Collections.unmodifiableMap(latencies), Collections.unmodifiableMap(counterValues),
+                Collections.unmodifiableMap(gaugeValues));
+    }
+}
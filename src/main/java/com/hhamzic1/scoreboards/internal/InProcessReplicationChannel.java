@@ -0,0 +1,50 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+class InProcessReplicationChannel implements ReplicationChannel {
+
+    private static final ByteBuffer CLOSED = ByteBuffer.allocate(0);
+    private static final int MAX_IN_FLIGHT_FRAMES = 64;
+
+    private final BlockingQueue<ByteBuffer> frames = new ArrayBlockingQueue<>(MAX_IN_FLIGHT_FRAMES);
+
+    @Override
+    public void send(ByteBuffer frame) {
+        put(frame);
+    }
+
+    @Override
+    public ByteBuffer receive() {
+        try {
+            var frame = frames.take();
+            if (frame == CLOSED) {
+                frames.offer(CLOSED);
+                return null;
+            }
+
+            return frame;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MatchStoreException("Interrupted while waiting for replication deltas!", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        put(CLOSED);
+    }
+
+    private void put(ByteBuffer frame) {
+        try {
+            frames.put(frame);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MatchStoreException("Interrupted while sending replication deltas!", e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+import com.hhamzic1.scoreboards.common.metrics.MetricsRegistry;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+class InstrumentedMatchDataStore implements MatchDataStore, StoreOrderAware {
+
+    private final MatchDataStore matchDataStore;
+    private final MetricsRegistry metricsRegistry;
+    private final LatencyTimer saveTimer;
+    private final LatencyTimer updateTimer;
+    private final LatencyTimer updateIfVersionTimer;
+    private final LatencyTimer setScoreTimer;
+    private final LatencyTimer deleteTimer;
+    private final LatencyTimer saveAllTimer;
+    private final LatencyTimer updateAllTimer;
+    private final LatencyTimer deleteAllTimer;
+    private final LatencyTimer getAllActiveTimer;
+    private final LatencyTimer getAllActiveSortedTimer;
+    private final LatencyTimer getActiveRangeTimer;
+    private final LatencyTimer getAllVersionedActiveTimer;
+    private final LatencyTimer getRankedActiveTimer;
+    private final LatencyTimer getAllFinishedTimer;
+    private final LatencyTimer getFinishedTimer;
+    private final LatencyTimer getFinishedOfTeamTimer;
+    private final LatencyTimer getFinishedBetweenTimer;
+
+    InstrumentedMatchDataStore(MatchDataStore matchDataStore, MetricsRegistry metricsRegistry) {
+        this.matchDataStore = matchDataStore;
+        this.metricsRegistry = metricsRegistry;
+        this.saveTimer = metricsRegistry.timer("store.save");
+        this.updateTimer = metricsRegistry.timer("store.update");
+        this.updateIfVersionTimer = metricsRegistry.timer("store.updateIfVersion");
+        this.setScoreTimer = metricsRegistry.timer("store.setScore");
+        this.deleteTimer = metricsRegistry.timer("store.delete");
+        this.saveAllTimer = metricsRegistry.timer("store.saveAll");
+        this.updateAllTimer = metricsRegistry.timer("store.updateAll");
+        this.deleteAllTimer = metricsRegistry.timer("store.deleteAll");
+        this.getAllActiveTimer = metricsRegistry.timer("store.getAllActive");
+        this.getAllActiveSortedTimer = metricsRegistry.timer("store.getAllActiveSorted");
+        this.getActiveRangeTimer = metricsRegistry.timer("store.getActiveRange");
+        this.getAllVersionedActiveTimer = metricsRegistry.timer("store.getAllVersionedActive");
+        this.getRankedActiveTimer = metricsRegistry.timer("store.getRankedActive");
+        this.getAllFinishedTimer = metricsRegistry.timer("store.getAllFinished");
+        this.getFinishedTimer = metricsRegistry.timer("store.getFinished");
+        this.getFinishedOfTeamTimer = metricsRegistry.timer("store.getFinishedOfTeam");
+        this.getFinishedBetweenTimer = metricsRegistry.timer("store.getFinishedBetween");
+
+        metricsRegistry.gauge("store.activeMatches", matchDataStore::countActive);
+        metricsRegistry.gauge("store.finishedMatches", matchDataStore::countFinished);
+        if (matchDataStore instanceof LockWaitObservable observable) {
+            var lockWaitTimer = metricsRegistry.timer("store.writeLockWait");
+            observable.observeLockWait(nanos -> {
+                if (metricsRegistry.isEnabled()) {
+                    lockWaitTimer.record(nanos);
+                }
+            });
+        }
+        if (matchDataStore instanceof InMemoryMatchDataStoreOffHeapImpl offHeapStore) {
+            metricsRegistry.gauge("store.offHeapBytes", offHeapStore::offHeapBytes);
+        }
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        return timed(saveTimer, () -> matchDataStore.save(matchId, match));
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        return timed(updateTimer, () -> matchDataStore.update(matchId, updater));
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        return timed(updateIfVersionTimer, () -> matchDataStore.updateIfVersion(matchId, expectedVersion, updater));
+    }
+
+    @Override
+    public void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        if (!metricsRegistry.isEnabled()) {
+            matchDataStore.setScore(matchId, homeTeamScore, awayTeamScore);
+            return;
+        }
+
+        var start = System.nanoTime();
+        try {
+            matchDataStore.setScore(matchId, homeTeamScore, awayTeamScore);
+        } finally {
+            setScoreTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        return timed(deleteTimer, () -> matchDataStore.finish(matchId, endTime));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        return timed(saveAllTimer, () -> matchDataStore.saveAll(matches));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        return timed(updateAllTimer, () -> matchDataStore.updateAll(updaters));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        return timed(deleteAllTimer, () -> matchDataStore.deleteAll(matchIds, endTime));
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        return timed(getAllActiveTimer, matchDataStore::getAllActive);
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        return timed(getAllActiveSortedTimer, () -> matchDataStore.getAllActive(comparator));
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        return timed(getActiveRangeTimer, () -> matchDataStore.getActiveRange(comparator, offset, limit));
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        return matchDataStore.getVersionedActive(matchId);
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        return StoreOrderAware.storeOrderIdOf(matchDataStore, matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return timed(getAllVersionedActiveTimer, () -> matchDataStore.getAllVersionedActive(comparator));
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        return timed(getRankedActiveTimer, () -> matchDataStore.getRankedActive(matchId, comparator));
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return timed(getAllFinishedTimer, matchDataStore::getAllFinished);
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return timed(getFinishedTimer, () -> matchDataStore.getFinished(finishedAfter, afterMatchId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return timed(getFinishedOfTeamTimer, () -> matchDataStore.getFinishedOfTeam(teamId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return timed(getFinishedBetweenTimer, () -> matchDataStore.getFinishedBetween(teamId, otherTeamId, limit));
+    }
+
+    @Override
+    public long countActive() {
+        return matchDataStore.countActive();
+    }
+
+    @Override
+    public long countFinished() {
+        return matchDataStore.countFinished();
+    }
+
+    private <T> T timed(LatencyTimer timer, Supplier<T> operation) {
+        if (!metricsRegistry.isEnabled()) {
+            return operation.get();
+        }
+
+        var start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            timer.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.common.event.MatchEvent;
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.exception.MatchVersionConflictException;
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+import com.hhamzic1.scoreboards.common.metrics.MetricCounter;
+import com.hhamzic1.scoreboards.common.metrics.MetricsRegistry;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.MatchFixture;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.ScoreChange;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+class InstrumentedScoreboard implements Scoreboard {
+
+    private final Scoreboard scoreboard;
+    private final MetricsRegistry metricsRegistry;
+    private final LatencyTimer startMatchTimer;
+    private final LatencyTimer finishMatchTimer;
+    private final LatencyTimer updateScoreTimer;
+    private final LatencyTimer updateScoreIfVersionTimer;
+    private final LatencyTimer setScoreTimer;
+    private final LatencyTimer startMatchesTimer;
+    private final LatencyTimer updateScoresTimer;
+    private final LatencyTimer finishMatchesTimer;
+    private final LatencyTimer activeMatchesSummaryTimer;
+    private final LatencyTimer versionedActiveMatchesSummaryTimer;
+    private final LatencyTimer topMatchesTimer;
+    private final LatencyTimer activeMatchesSummaryPageTimer;
+    private final LatencyTimer rankedMatchTimer;
+    private final LatencyTimer activeMatchesSummaryAtTimer;
+    private final LatencyTimer scoreHistoryTimer;
+    private final LatencyTimer allFinishedMatchesTimer;
+    private final LatencyTimer finishedMatchesTimer;
+    private final LatencyTimer finishedMatchesOfTimer;
+    private final LatencyTimer finishedMatchesBetweenTimer;
+    private final MetricCounter validationFailures;
+    private final MetricCounter storeFailures;
+    private final MetricCounter versionConflicts;
+
+    InstrumentedScoreboard(Scoreboard scoreboard, MetricsRegistry metricsRegistry) {
+        this.scoreboard = scoreboard;
+        this.metricsRegistry = metricsRegistry;
+        this.startMatchTimer = metricsRegistry.timer("scoreboard.startMatch");
+        this.finishMatchTimer = metricsRegistry.timer("scoreboard.finishMatch");
+        this.updateScoreTimer = metricsRegistry.timer("scoreboard.updateScore");
+        this.updateScoreIfVersionTimer = metricsRegistry.timer("scoreboard.updateScoreIfVersion");
+        this.setScoreTimer = metricsRegistry.timer("scoreboard.setScore");
+        this.startMatchesTimer = metricsRegistry.timer("scoreboard.startMatches");
+        this.updateScoresTimer = metricsRegistry.timer("scoreboard.updateScores");
+        this.finishMatchesTimer = metricsRegistry.timer("scoreboard.finishMatches");
+        this.activeMatchesSummaryTimer = metricsRegistry.timer("scoreboard.getActiveMatchesSummary");
+        this.versionedActiveMatchesSummaryTimer = metricsRegistry.timer("scoreboard.getVersionedActiveMatchesSummary");
+        this.topMatchesTimer = metricsRegistry.timer("scoreboard.getTopMatches");
+        this.activeMatchesSummaryPageTimer = metricsRegistry.timer("scoreboard.getActiveMatchesSummaryPage");
+        this.rankedMatchTimer = metricsRegistry.timer("scoreboard.getRankedMatch");
+        this.activeMatchesSummaryAtTimer = metricsRegistry.timer("scoreboard.getActiveMatchesSummaryAt");
+        this.scoreHistoryTimer = metricsRegistry.timer("scoreboard.getScoreHistory");
+        this.allFinishedMatchesTimer = metricsRegistry.timer("scoreboard.getAllFinishedMatches");
+        this.finishedMatchesTimer = metricsRegistry.timer("scoreboard.getFinishedMatches");
+        this.finishedMatchesOfTimer = metricsRegistry.timer("scoreboard.getFinishedMatchesOf");
+        this.finishedMatchesBetweenTimer = metricsRegistry.timer("scoreboard.getFinishedMatchesBetween");
+        this.validationFailures = metricsRegistry.counter("scoreboard.validationFailures");
+        this.storeFailures = metricsRegistry.counter("scoreboard.storeFailures");
+        this.versionConflicts = metricsRegistry.counter("scoreboard.versionConflicts");
+    }
+
+    @Override
+    public Match startMatch(Team homeTeam, Team awayTeam) {
+        return timed(startMatchTimer, () -> scoreboard.startMatch(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void finishMatch(UUID matchId) {
+        timed(finishMatchTimer, () -> {
+            scoreboard.finishMatch(matchId);
+            return null;
+        });
+    }
+
+    @Override
+    public Match updateScore(UUID matchId, Score score) {
+        return timed(updateScoreTimer, () -> scoreboard.updateScore(matchId, score));
+    }
+
+    @Override
+    public VersionedMatch updateScoreIfVersion(UUID matchId, long expectedVersion, Score score) {
+        return timed(updateScoreIfVersionTimer, () -> scoreboard.updateScoreIfVersion(matchId, expectedVersion, score));
+    }
+
+    @Override
+    public void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        if (!metricsRegistry.isEnabled()) {
+            scoreboard.setScore(matchId, homeTeamScore, awayTeamScore);
+            return;
+        }
+
+        var start = System.nanoTime();
+        try {
+            scoreboard.setScore(matchId, homeTeamScore, awayTeamScore);
+        } catch (ScoreboardException e) {
+            validationFailures.increment();
+            throw e;
+        } catch (MatchStoreException e) {
+            storeFailures.increment();
+            throw e;
+        } finally {
+            setScoreTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public BatchResult<MatchFixture, Match> startMatches(List<MatchFixture> fixtures) {
+        return timed(startMatchesTimer, () -> scoreboard.startMatches(fixtures));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateScores(Map<UUID, Score> scores) {
+        return timed(updateScoresTimer, () -> scoreboard.updateScores(scores));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> finishMatches(Collection<UUID> matchIds) {
+        return timed(finishMatchesTimer, () -> scoreboard.finishMatches(matchIds));
+    }
+
+    @Override
+    public List<Match> getActiveMatchesSummary() {
+        return timed(activeMatchesSummaryTimer, scoreboard::getActiveMatchesSummary);
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedMatch(UUID matchId) {
+        return scoreboard.getVersionedMatch(matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getVersionedActiveMatchesSummary() {
+        return timed(versionedActiveMatchesSummaryTimer, scoreboard::getVersionedActiveMatchesSummary);
+    }
+
+    @Override
+    public List<Match> getTopMatches(int limit) {
+        return timed(topMatchesTimer, () -> scoreboard.getTopMatches(limit));
+    }
+
+    @Override
+    public List<Match> getActiveMatchesSummary(int offset, int limit) {
+        return timed(activeMatchesSummaryPageTimer, () -> scoreboard.getActiveMatchesSummary(offset, limit));
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedMatch(UUID matchId) {
+        return timed(rankedMatchTimer, () -> scoreboard.getRankedMatch(matchId));
+    }
+
+    @Override
+    public List<Match> getActiveMatchesSummaryAt(Instant instant) {
+        return timed(activeMatchesSummaryAtTimer, () -> scoreboard.getActiveMatchesSummaryAt(instant));
+    }
+
+    @Override
+    public List<ScoreChange> getScoreHistory(UUID matchId) {
+        return timed(scoreHistoryTimer, () -> scoreboard.getScoreHistory(matchId));
+    }
+
+    @Override
+    public List<Match> getAllFinishedMatches() {
+        return timed(allFinishedMatchesTimer, scoreboard::getAllFinishedMatches);
+    }
+
+    @Override
+    public List<Match> getFinishedMatches(OffsetDateTime finishedAfter, int limit) {
+        return timed(finishedMatchesTimer, () -> scoreboard.getFinishedMatches(finishedAfter, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedMatches(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return timed(finishedMatchesTimer, () -> scoreboard.getFinishedMatches(finishedAfter, afterMatchId, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedMatchesOf(Team team, int limit) {
+        return timed(finishedMatchesOfTimer, () -> scoreboard.getFinishedMatchesOf(team, limit));
+    }
+
+    @Override
+    public List<Match> getFinishedMatchesBetween(Team team, Team otherTeam, int limit) {
+        return timed(finishedMatchesBetweenTimer, () -> scoreboard.getFinishedMatchesBetween(team, otherTeam, limit));
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getMatchEvents() {
+        return scoreboard.getMatchEvents();
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getUnrankedMatchEvents() {
+        return scoreboard.getUnrankedMatchEvents();
+    }
+
+    private <T> T timed(LatencyTimer timer, Supplier<T> operation) {
+        if (!metricsRegistry.isEnabled()) {
+            return operation.get();
+        }
+
+        var start = System.nanoTime();
+        try {
+            return operation.get();
+        } catch (MatchVersionConflictException e) {
+            versionConflicts.increment();
+            throw e;
+        } catch (ScoreboardException e) {
+            validationFailures.increment();
+            throw e;
+        } catch (MatchStoreException e) {
+            storeFailures.increment();
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - start);
+        }
+    }
+}
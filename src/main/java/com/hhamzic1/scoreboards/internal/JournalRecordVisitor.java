@@ -0,0 +1,19 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.Score;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+interface JournalRecordVisitor {
+
+    void onSaved(StoredMatch savedMatch);
+
+    void onScoreUpdated(UUID matchId, Score score, long version);
+
+    void onUpdated(StoredMatch updatedMatch);
+
+    void onFinished(UUID matchId, OffsetDateTime endTime);
+
+    void onCleared();
+}
@@ -0,0 +1,85 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.metrics.LatencySnapshot;
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyHistogram implements LatencyTimer {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    @Override
+    public void record(long nanos) {
+        var value = Math.max(nanos, 0);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        if (value > maxNanos.get()) {
+            maxNanos.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    LatencySnapshot snapshot() {
+        var bucketCounts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = counts.get(i);
+            count += bucketCounts[i];
+        }
+        var mean = count == 0 ? 0 : (double) totalNanos.sum() / totalCount.sum();
+
+        return new LatencySnapshot(count, mean,
+                percentile(bucketCounts, count, 50.0),
+                percentile(bucketCounts, count, 90.0),
+                percentile(bucketCounts, count, 99.0),
+                percentile(bucketCounts, count, 99.9),
+                maxNanos.get());
+    }
+
+    private static long percentile(long[] bucketCounts, long count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        var target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= target) {
+                return highestValueOf(i);
+            }
+        }
+
+        return highestValueOf(bucketCounts.length - 1);
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        var shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        var shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        var subBucket = index - shift * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1L) << shift) - 1;
+    }
+}
@@ -0,0 +1,8 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.metrics.LatencyTimer;
+
+interface LockWaitObservable {
+
+    void observeLockWait(LatencyTimer lockWaitTimer);
+}
@@ -0,0 +1,120 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.TeamRegistry;
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.metrics.MetricsRegistry;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.ranking.RankingStrategy;
+import com.hhamzic1.scoreboards.common.store.DurableMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.InMemoryMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+import com.hhamzic1.scoreboards.common.store.MatchJournalPolicy;
+import com.hhamzic1.scoreboards.common.store.ReplicatedMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.ReplicationPolicy;
+import com.hhamzic1.scoreboards.common.store.ShardedMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.SummaryCachePolicy;
+import com.hhamzic1.scoreboards.common.store.SummaryCachingMatchDataStore;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class MatchDataStoreFactory {
+
+    public static InMemoryMatchDataStore createInMemoryMatchDataStore() {
+        return createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.unbounded());
+    }
+
+    public static InMemoryMatchDataStore createInMemoryMatchDataStore(FinishedMatchesArchivePolicy archivePolicy) {
+        return new InMemoryMatchDataStoreHashMapImpl(null, archivePolicy);
+    }
+
+    public static InMemoryMatchDataStore createInMemoryMatchDataStore(FinishedMatchesArchivePolicy archivePolicy,
+                                                                      TeamRegistry teamRegistry) {
+        return new InMemoryMatchDataStoreHashMapImpl(null, new FinishedMatchesArchive(archivePolicy), null,
+                new AtomicLong(), new SurrogateActiveTeamsIndex(teamRegistry));
+    }
+
+    public static InMemoryMatchDataStore createSummaryIndexedInMemoryMatchDataStore(SportType sportType) {
+        return createSummaryIndexedInMemoryMatchDataStore(sportType, FinishedMatchesArchivePolicy.unbounded());
+    }
+
+    public static InMemoryMatchDataStore createSummaryIndexedInMemoryMatchDataStore(SportType sportType,
+                                                                                    FinishedMatchesArchivePolicy archivePolicy) {
+        return new InMemoryMatchDataStoreHashMapImpl(summaryOrderOf(sportType), archivePolicy);
+    }
+
+    public static InMemoryMatchDataStore createSummaryIndexedInMemoryMatchDataStore(RankingStrategy rankingStrategy,
+                                                                                    FinishedMatchesArchivePolicy archivePolicy) {
+        return new InMemoryMatchDataStoreHashMapImpl(new RankingOrder(rankingStrategy), archivePolicy);
+    }
+
+    public static InMemoryMatchDataStore createSlotInMemoryMatchDataStore() {
+        return createSlotInMemoryMatchDataStore(FinishedMatchesArchivePolicy.unbounded());
+    }
+
+    public static InMemoryMatchDataStore createSlotInMemoryMatchDataStore(FinishedMatchesArchivePolicy archivePolicy) {
+        return new InMemoryMatchDataStoreSlotImpl(archivePolicy);
+    }
+
+    public static InMemoryMatchDataStore createOffHeapInMemoryMatchDataStore() {
+        return createOffHeapInMemoryMatchDataStore(FinishedMatchesArchivePolicy.unbounded());
+    }
+
+    public static InMemoryMatchDataStore createOffHeapInMemoryMatchDataStore(FinishedMatchesArchivePolicy archivePolicy) {
+        return new InMemoryMatchDataStoreOffHeapImpl(archivePolicy);
+    }
+
+    public static ShardedMatchDataStore createShardedInMemoryMatchDataStore(SportType sportType, int shardCount) {
+        if (shardCount <= 0) {
+            throw new MatchStoreException("Number of shards must be positive.");
+        }
+
+        return createShardedInMemoryMatchDataStore(sportType,
+                match -> "shard-" + Math.floorMod(match.id().hashCode(), shardCount),
+                FinishedMatchesArchivePolicy.unbounded());
+    }
+
+    public static ShardedMatchDataStore createShardedInMemoryMatchDataStore(SportType sportType, Function<Match, String> shardKeyOf,
+                                                                            FinishedMatchesArchivePolicy archivePolicy) {
+        return new InMemoryMatchDataStoreShardedImpl(summaryOrderOf(sportType), shardKeyOf, archivePolicy);
+    }
+
+    public static DurableMatchDataStore createDurableInMemoryMatchDataStore(MatchJournalPolicy journalPolicy) {
+        return new InMemoryMatchDataStoreJournaledImpl(null, FinishedMatchesArchivePolicy.unbounded(), journalPolicy);
+    }
+
+    public static DurableMatchDataStore createDurableSummaryIndexedInMemoryMatchDataStore(SportType sportType,
+                                                                                         FinishedMatchesArchivePolicy archivePolicy,
+                                                                                         MatchJournalPolicy journalPolicy) {
+        return new InMemoryMatchDataStoreJournaledImpl(summaryOrderOf(sportType), archivePolicy, journalPolicy);
+    }
+
+    public static ReplicatedMatchDataStore createReplicatedInMemoryMatchDataStore(ReplicationPolicy replicationPolicy) {
+        return new InMemoryMatchDataStoreReplicatedImpl(null, FinishedMatchesArchivePolicy.unbounded(), replicationPolicy);
+    }
+
+    public static ReplicatedMatchDataStore createReplicatedSummaryIndexedInMemoryMatchDataStore(SportType sportType,
+                                                                                               FinishedMatchesArchivePolicy archivePolicy,
+                                                                                               ReplicationPolicy replicationPolicy) {
+        return new InMemoryMatchDataStoreReplicatedImpl(summaryOrderOf(sportType), archivePolicy, replicationPolicy);
+    }
+
+    public static SummaryCachingMatchDataStore createSummaryCachingMatchDataStore(MatchDataStore matchDataStore) {
+        return createSummaryCachingMatchDataStore(matchDataStore, SummaryCachePolicy.perMutation());
+    }
+
+    public static SummaryCachingMatchDataStore createSummaryCachingMatchDataStore(MatchDataStore matchDataStore,
+                                                                                  SummaryCachePolicy cachePolicy) {
+        return new SummaryCachingMatchDataStoreImpl(matchDataStore, cachePolicy);
+    }
+
+    public static MatchDataStore createInstrumentedMatchDataStore(MatchDataStore matchDataStore, MetricsRegistry metricsRegistry) {
+        return new InstrumentedMatchDataStore(matchDataStore, metricsRegistry);
+    }
+
+    private static RankingOrder summaryOrderOf(SportType sportType) {
+        return RankingOrder.of(sportType);
+    }
+}
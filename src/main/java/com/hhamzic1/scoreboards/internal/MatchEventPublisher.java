@@ -0,0 +1,216 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.event.MatchEvent;
+import com.hhamzic1.scoreboards.common.event.MatchEventType;
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+class MatchEventPublisher implements Flow.Publisher<MatchEvent> {
+
+    private final Executor executor;
+    private final int finishedEventCapacity;
+    private final List<CoalescingSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    MatchEventPublisher(Executor executor, int finishedEventCapacity) {
+        this.executor = executor;
+        this.finishedEventCapacity = finishedEventCapacity;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber) {
+        subscribe(subscriber, true);
+    }
+
+    Flow.Publisher<MatchEvent> unranked() {
+        return subscriber -> subscribe(subscriber, false);
+    }
+
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    void publish(MatchEventType type, UUID matchId, MatchEventResolver eventResolver) {
+        var event = new PendingEvent(type, matchId, eventResolver);
+        subscriptions.forEach(subscription -> subscription.offer(event));
+    }
+
+    private void subscribe(Flow.Subscriber<? super MatchEvent> subscriber, boolean ranked) {
+        requireNonNull(subscriber);
+
+        var subscription = new CoalescingSubscription(subscriber, ranked);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static PendingEvent coalesce(PendingEvent pendingEvent, PendingEvent newEvent) {
+        if (pendingEvent.type() == MatchEventType.FINISHED) {
+            return pendingEvent;
+        }
+        if (pendingEvent.type() == MatchEventType.STARTED && newEvent.type() == MatchEventType.SCORE_CHANGED) {
+            return new PendingEvent(MatchEventType.STARTED, newEvent.matchId(), newEvent.resolver());
+        }
+
+        return newEvent;
+    }
+
+    interface MatchEventResolver {
+
+        MatchEvent resolve(MatchEventType type, boolean ranked);
+    }
+
+    private record PendingEvent(MatchEventType type, UUID matchId, MatchEventResolver resolver) {
+
+        MatchEvent resolve(boolean ranked) {
+            return resolver.resolve(type, ranked);
+        }
+    }
+
+    private class CoalescingSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super MatchEvent> subscriber;
+        private final boolean ranked;
+        private final Lock lock = new ReentrantLock();
+        private final LinkedHashMap<UUID, PendingEvent> pendingEvents = new LinkedHashMap<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private volatile boolean cancelled;
+        private int pendingFinishedEvents;
+        private Throwable failure;
+
+        CoalescingSubscription(Flow.Subscriber<? super MatchEvent> subscriber, boolean ranked) {
+            this.subscriber = subscriber;
+            this.ranked = ranked;
+        }
+
+        void offer(PendingEvent event) {
+            if (cancelled) {
+                return;
+            }
+
+            lock.lock();
+            try {
+                var pendingEvent = pendingEvents.get(event.matchId());
+                var coalescedEvent = isNull(pendingEvent) ? event : coalesce(pendingEvent, event);
+                var newlyFinished = coalescedEvent.type() == MatchEventType.FINISHED
+                        && (isNull(pendingEvent) || pendingEvent.type() != MatchEventType.FINISHED);
+                if (newlyFinished && pendingFinishedEvents == finishedEventCapacity) {
+                    pendingEvents.clear();
+                    failure = new ScoreboardException("Match event subscriber fell behind by more than %d finished matches."
+                            .formatted(finishedEventCapacity));
+                } else {
+                    if (newlyFinished) {
+                        pendingFinishedEvents++;
+                    }
+                    pendingEvents.put(event.matchId(), coalescedEvent);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            scheduleDrain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                lock.lock();
+                try {
+                    failure = new IllegalArgumentException("Requested number of match events must be positive.");
+                } finally {
+                    lock.unlock();
+                }
+            } else {
+                demand.accumulateAndGet(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+            }
+
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+
+            lock.lock();
+            try {
+                pendingEvents.clear();
+                pendingFinishedEvents = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (drainRequests.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            var missed = 1;
+            do {
+                while (!cancelled) {
+                    Throwable error;
+                    PendingEvent nextEvent = null;
+                    lock.lock();
+                    try {
+                        error = failure;
+                        if (isNull(error) && demand.get() > 0 && !pendingEvents.isEmpty()) {
+                            var iterator = pendingEvents.values().iterator();
+                            nextEvent = iterator.next();
+                            iterator.remove();
+                            if (nextEvent.type() == MatchEventType.FINISHED) {
+                                pendingFinishedEvents--;
+                            }
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+
+                    if (nonNull(error)) {
+                        cancel();
+                        subscriber.onError(error);
+                        return;
+                    }
+
+                    if (isNull(nextEvent)) {
+                        break;
+                    }
+
+                    var event = nextEvent.resolve(ranked);
+                    if (isNull(event)) {
+                        continue;
+                    }
+
+                    demand.decrementAndGet();
+                    try {
+                        subscriber.onNext(event);
+                    } catch (RuntimeException e) {
+                        try {
+                            subscriber.onError(e);
+                        } finally {
+                            cancel();
+                        }
+                        return;
+                    }
+                }
+
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
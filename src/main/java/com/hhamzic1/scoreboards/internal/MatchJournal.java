@@ -0,0 +1,241 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+class MatchJournal implements AutoCloseable {
+
+    static final byte SAVED = 1;
+    static final byte SCORE_UPDATED = 2;
+    static final byte UPDATED = 3;
+    static final byte FINISHED = 4;
+    static final byte CLEARED = 5;
+
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("journal-(\\d+)\\.log");
+    private static final int CHECKSUM_OFFSET = Integer.BYTES;
+    private static final int TYPE_OFFSET = CHECKSUM_OFFSET + Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = TYPE_OFFSET + 1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Lock lock = new ReentrantLock();
+    private final CRC32C checksum = new CRC32C();
+    private long segmentNumber;
+    private MappedByteBuffer segment;
+
+    MatchJournal(Path directory, int segmentSize, long firstSegmentNumber) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.segment = openSegment(firstSegmentNumber);
+        this.segmentNumber = firstSegmentNumber;
+    }
+
+    void appendSaved(StoredMatch savedMatch) {
+        appendStoredMatch(SAVED, savedMatch);
+    }
+
+    void appendUpdated(StoredMatch previousMatch, StoredMatch updatedMatch) {
+        if (!isOnlyScoreChanged(previousMatch, updatedMatch)) {
+            appendStoredMatch(UPDATED, updatedMatch);
+            return;
+        }
+
+        lock.lock();
+        try {
+            var start = reserve(StoredMatchCodec.UUID_SIZE + Long.BYTES + StoredMatchCodec.SCORE_SIZE);
+            StoredMatchCodec.writeUuid(segment, updatedMatch.id());
+            segment.putLong(updatedMatch.version());
+            StoredMatchCodec.writeScore(segment, updatedMatch.score());
+            commit(start, SCORE_UPDATED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void appendFinished(StoredMatch finishedMatch) {
+        lock.lock();
+        try {
+            var start = reserve(StoredMatchCodec.UUID_SIZE + StoredMatchCodec.DATE_TIME_SIZE);
+            StoredMatchCodec.writeUuid(segment, finishedMatch.id());
+            StoredMatchCodec.writeDateTime(segment, finishedMatch.endTime());
+            commit(start, FINISHED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void appendCleared() {
+        lock.lock();
+        try {
+            commit(reserve(0), CLEARED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long rollSegment() {
+        lock.lock();
+        try {
+            segment.force();
+            segment = openSegment(segmentNumber + 1);
+            return ++segmentNumber;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void force() {
+        MappedByteBuffer currentSegment;
+        lock.lock();
+        try {
+            currentSegment = segment;
+        } finally {
+            lock.unlock();
+        }
+
+        currentSegment.force();
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    static List<Long> segmentNumbers(Path directory) {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_FILE_NAME.matcher(file.getFileName().toString()))
+                    .filter(matcher -> matcher.matches())
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't list journal segments in '%s'!".formatted(directory), e);
+        }
+    }
+
+    static Path segmentPath(Path directory, long segmentNumber) {
+        return directory.resolve("journal-%020d.log".formatted(segmentNumber));
+    }
+
+    static boolean replay(Path segmentPath, JournalRecordVisitor visitor) {
+        var checksum = new CRC32C();
+        try (var channel = FileChannel.open(segmentPath, READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                var length = buffer.getInt();
+                if (length == 0) {
+                    return true;
+                }
+
+                var expectedChecksum = buffer.getInt();
+                if (length < 1 || length > buffer.remaining()) {
+                    return false;
+                }
+
+                var record = buffer.slice(buffer.position(), length);
+                checksum.reset();
+                checksum.update(record.duplicate());
+                if ((int) checksum.getValue() != expectedChecksum) {
+                    return false;
+                }
+
+                buffer.position(buffer.position() + length);
+                var type = record.get();
+                if (!visit(type, record.slice(), visitor)) {
+                    throw new MatchStoreException("Unknown journal record type %d in '%s'!".formatted(type, segmentPath));
+                }
+            }
+
+            return true;
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't replay journal segment '%s'!".formatted(segmentPath), e);
+        }
+    }
+
+    static boolean visit(byte type, ByteBuffer payload, JournalRecordVisitor visitor) {
+        switch (type) {
+            case SAVED -> visitor.onSaved(StoredMatchCodec.read(payload));
+            case SCORE_UPDATED -> {
+                var matchId = StoredMatchCodec.readUuid(payload);
+                var version = payload.getLong();
+                visitor.onScoreUpdated(matchId, StoredMatchCodec.readScore(payload), version);
+            }
+            case UPDATED -> visitor.onUpdated(StoredMatchCodec.read(payload));
+            case FINISHED -> visitor.onFinished(StoredMatchCodec.readUuid(payload), StoredMatchCodec.readDateTime(payload));
+            case CLEARED -> visitor.onCleared();
+            default -> {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void appendStoredMatch(byte type, StoredMatch storedMatch) {
+        var size = StoredMatchCodec.sizeOf(storedMatch);
+
+        lock.lock();
+        try {
+            var start = reserve(size);
+            StoredMatchCodec.write(segment, storedMatch);
+            commit(start, type);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int reserve(int payloadSize) {
+        if (RECORD_HEADER_SIZE + payloadSize + Integer.BYTES > segmentSize) {
+            throw new MatchStoreException("Journal record of %d bytes doesn't fit into a journal segment!".formatted(payloadSize));
+        }
+
+        if (segment.remaining() < RECORD_HEADER_SIZE + payloadSize + Integer.BYTES) {
+            segment.force();
+            segment = openSegment(++segmentNumber);
+        }
+
+        var start = segment.position();
+        segment.position(start + RECORD_HEADER_SIZE);
+
+        return start;
+    }
+
+    private void commit(int start, byte type) {
+        segment.put(start + TYPE_OFFSET, type);
+        var length = segment.position() - start - TYPE_OFFSET;
+        checksum.reset();
+        checksum.update(segment.slice(start + TYPE_OFFSET, length));
+        segment.putInt(start + CHECKSUM_OFFSET, (int) checksum.getValue());
+        segment.putInt(start, length);
+    }
+
+    private MappedByteBuffer openSegment(long number) {
+        try (var channel = FileChannel.open(segmentPath(directory, number), CREATE_NEW, READ, WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't open journal segment %d in '%s'!".formatted(number, directory), e);
+        }
+    }
+
+    static boolean isOnlyScoreChanged(StoredMatch previousMatch, StoredMatch updatedMatch) {
+        return previousMatch.id().equals(updatedMatch.id())
+                && previousMatch.startTime().equals(updatedMatch.startTime())
+                && previousMatch.homeTeam().equals(updatedMatch.homeTeam())
+                && previousMatch.awayTeam().equals(updatedMatch.awayTeam());
+    }
+}
@@ -0,0 +1,286 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+
+final class MatchStateCodec {
+
+    private static final int MAGIC = 0x53434d53;
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte END = 0;
+    private static final byte TEAM = 1;
+    private static final byte ACTIVE = 2;
+    private static final byte FINISHED = 3;
+    private static final int MAX_TEAM_NAME_SIZE = 0xFFFF;
+    private static final int MAX_VARINT_SIZE = 10;
+    private static final int MAX_DATE_TIME_SIZE = 3 * MAX_VARINT_SIZE;
+    private static final int MAX_MATCH_RECORD_SIZE = 1 + StoredMatchCodec.UUID_SIZE + 2 * MAX_DATE_TIME_SIZE + 6 * MAX_VARINT_SIZE;
+    private static final int BUFFER_SIZE = 1 << 17;
+
+    private MatchStateCodec() {
+    }
+
+    static void write(WritableByteChannel channel, Consumer<Consumer<StoredMatch>> activeMatches,
+                      Consumer<Consumer<StoredMatch>> finishedMatches) {
+        var writer = new Writer(channel);
+        try {
+            writer.header();
+            activeMatches.accept(activeMatch -> writer.match(ACTIVE, activeMatch));
+            finishedMatches.accept(finishedMatch -> writer.match(FINISHED, finishedMatch));
+            writer.end();
+        } catch (UncheckedIOException e) {
+            throw new MatchStoreException("Couldn't export match store state!", e.getCause());
+        }
+    }
+
+    static MatchState read(ReadableByteChannel channel) {
+        var activeMatches = new ArrayList<StoredMatch>();
+        var finishedMatches = new ArrayList<StoredMatch>();
+        read(channel, activeMatches::add, finishedMatches::add);
+
+        return new MatchState(activeMatches, finishedMatches);
+    }
+
+    private static void read(ReadableByteChannel channel, Consumer<StoredMatch> onActive, Consumer<StoredMatch> onFinished) {
+        var reader = new Reader(channel);
+        try {
+            reader.header();
+            byte kind;
+            while ((kind = reader.kind()) != END) {
+                switch (kind) {
+                    case TEAM -> reader.team();
+                    case ACTIVE -> onActive.accept(reader.match(false));
+                    case FINISHED -> onFinished.accept(reader.match(true));
+                    default -> throw new MatchStoreException("Unknown match state record type %d!".formatted(kind));
+                }
+            }
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't import match store state!", e);
+        } catch (BufferUnderflowException e) {
+            throw new MatchStoreException("Match store state is truncated!", e);
+        }
+    }
+
+    private static class Writer {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final Map<Team, Integer> teamRefs = new HashMap<>();
+
+        private Writer(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        private void header() {
+            buffer.putInt(MAGIC);
+            buffer.put(FORMAT_VERSION);
+        }
+
+        private void match(byte kind, StoredMatch storedMatch) {
+            var homeTeamRef = teamRef(storedMatch.homeTeam());
+            var awayTeamRef = teamRef(storedMatch.awayTeam());
+
+            reserve(MAX_MATCH_RECORD_SIZE);
+            buffer.put(kind);
+            StoredMatchCodec.writeUuid(buffer, storedMatch.id());
+            putVarLong(buffer, storedMatch.storeOrderId());
+            putVarLong(buffer, storedMatch.version());
+            putDateTime(buffer, storedMatch.startTime());
+            if (kind == FINISHED) {
+                putDateTime(buffer, storedMatch.endTime());
+            }
+            putVarLong(buffer, homeTeamRef);
+            putVarLong(buffer, awayTeamRef);
+            putVarLong(buffer, zigZag(storedMatch.score().homeTeamScore()));
+            putVarLong(buffer, zigZag(storedMatch.score().awayTeamScore()));
+        }
+
+        private int teamRef(Team team) {
+            var teamRef = teamRefs.get(team);
+            if (nonNull(teamRef)) {
+                return teamRef;
+            }
+
+            var name = team.name().getBytes(UTF_8);
+            if (name.length > MAX_TEAM_NAME_SIZE) {
+                throw new MatchStoreException("Team name of team '%s' is too long to be exported!".formatted(team.id()));
+            }
+            reserve(1 + StoredMatchCodec.UUID_SIZE + MAX_VARINT_SIZE + name.length);
+            buffer.put(TEAM);
+            StoredMatchCodec.writeUuid(buffer, team.id());
+            putVarLong(buffer, name.length);
+            buffer.put(name);
+
+            teamRef = teamRefs.size();
+            teamRefs.put(team, teamRef);
+
+            return teamRef;
+        }
+
+        private void end() {
+            reserve(1);
+            buffer.put(END);
+            flush();
+        }
+
+        private void reserve(int bytes) {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static class Reader {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+        private final List<Team> teams = new ArrayList<>();
+
+        private Reader(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        private void header() throws IOException {
+            fill(Integer.BYTES + 1);
+            if (buffer.getInt() != MAGIC) {
+                throw new MatchStoreException("Input is not an exported match store state!");
+            }
+            var formatVersion = buffer.get();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new MatchStoreException("Unsupported match store state format version %d!".formatted(formatVersion));
+            }
+        }
+
+        private byte kind() throws IOException {
+            fill(MAX_MATCH_RECORD_SIZE);
+            return buffer.get();
+        }
+
+        private void team() throws IOException {
+            fill(StoredMatchCodec.UUID_SIZE + MAX_VARINT_SIZE);
+            var id = StoredMatchCodec.readUuid(buffer);
+            var nameSize = (int) getVarLong(buffer);
+            if (nameSize < 0 || nameSize > MAX_TEAM_NAME_SIZE) {
+                throw new MatchStoreException("Team name of team '%s' is too long to be imported!".formatted(id));
+            }
+            fill(nameSize);
+            var name = new byte[nameSize];
+            buffer.get(name);
+
+            teams.add(new Team(id, new String(name, UTF_8)));
+        }
+
+        private StoredMatch match(boolean finished) {
+            var id = StoredMatchCodec.readUuid(buffer);
+            var storeOrderId = getVarLong(buffer);
+            var version = getVarLong(buffer);
+            var startTime = getDateTime(buffer);
+            var endTime = finished ? getDateTime(buffer) : null;
+            var homeTeam = teamOf(getVarLong(buffer));
+            var awayTeam = teamOf(getVarLong(buffer));
+            var score = new Score(unZigZag(getVarLong(buffer)), unZigZag(getVarLong(buffer)));
+
+            return new StoredMatch(id, startTime, endTime, homeTeam, awayTeam, score, storeOrderId, version);
+        }
+
+        private Team teamOf(long teamRef) {
+            if (teamRef < 0 || teamRef >= teams.size()) {
+                throw new MatchStoreException("Unknown team reference %d in match store state!".formatted(teamRef));
+            }
+
+            return teams.get((int) teamRef);
+        }
+
+        private void fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+        }
+    }
+
+    private static void putDateTime(ByteBuffer buffer, OffsetDateTime dateTime) {
+        putVarLong(buffer, zigZag(dateTime.toEpochSecond()));
+        putVarLong(buffer, dateTime.getNano());
+        putVarLong(buffer, zigZag(dateTime.getOffset().getTotalSeconds()));
+    }
+
+    private static OffsetDateTime getDateTime(ByteBuffer buffer) {
+        var epochSecond = unZigZag(getVarLong(buffer));
+        var nano = getVarLong(buffer);
+        var offset = ZoneOffset.ofTotalSeconds((int) unZigZag(getVarLong(buffer)));
+
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new MatchStoreException("Malformed varint in match store state!");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    record MatchState(List<StoredMatch> activeMatches, List<StoredMatch> finishedMatches) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.metrics.InMemoryMetricsRegistry;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class MetricsFactory {
+
+    public static InMemoryMetricsRegistry createInMemoryMetricsRegistry() {
+        return new InMemoryMetricsRegistryImpl();
+    }
+
+    public static ObjectName registerMBean(InMemoryMetricsRegistry metricsRegistry, String objectName) {
+        try {
+            var name = new ObjectName(objectName);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(metricsRegistry), name);
+            return name;
+        } catch (JMException e) {
+            throw new ScoreboardException("Couldn't register metrics MBean '%s'.".formatted(objectName), e);
+        }
+    }
+}
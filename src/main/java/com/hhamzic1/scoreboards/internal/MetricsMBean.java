@@ -0,0 +1,117 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.metrics.InMemoryMetricsRegistry;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InvalidAttributeValueException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+class MetricsMBean implements DynamicMBean {
+
+    private static final String ENABLED = "Enabled";
+
+    private final InMemoryMetricsRegistry metricsRegistry;
+
+    MetricsMBean(InMemoryMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        if (ENABLED.equals(attribute)) {
+            return metricsRegistry.isEnabled();
+        }
+
+        var value = attributes().get(attribute);
+        if (isNull(value)) {
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException, InvalidAttributeValueException {
+        if (!ENABLED.equals(attribute.getName())) {
+            throw new AttributeNotFoundException(attribute.getName());
+        }
+        if (!(attribute.getValue() instanceof Boolean enabled)) {
+            throw new InvalidAttributeValueException("Enabled must be a boolean.");
+        }
+
+        metricsRegistry.setEnabled(enabled);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributeNames) {
+        var values = attributes();
+        var attributes = new AttributeList();
+        for (var name : attributeNames) {
+            if (ENABLED.equals(name)) {
+                attributes.add(new Attribute(name, metricsRegistry.isEnabled()));
+            } else if (values.containsKey(name)) {
+                attributes.add(new Attribute(name, values.get(name)));
+            }
+        }
+
+        return attributes;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        var updated = new AttributeList();
+        for (var attribute : attributes.asList()) {
+            if (ENABLED.equals(attribute.getName()) && attribute.getValue() instanceof Boolean enabled) {
+                metricsRegistry.setEnabled(enabled);
+                updated.add(attribute);
+            }
+        }
+
+        return updated;
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        var attributeInfos = new ArrayList<MBeanAttributeInfo>();
+        attributeInfos.add(new MBeanAttributeInfo(ENABLED, Boolean.class.getName(), ENABLED, true, true, true));
+        attributes().forEach((name, value) ->
+                attributeInfos.add(new MBeanAttributeInfo(name, value.getClass().getName(), name, true, false, false)));
+
+        return new MBeanInfo(getClass().getName(), "Scoreboard metrics", attributeInfos.toArray(MBeanAttributeInfo[]::new),
+                null, new MBeanOperationInfo[0], null);
+    }
+
+    private Map<String, Object> attributes() {
+        var snapshot = metricsRegistry.snapshot();
+        var attributes = new LinkedHashMap<String, Object>();
+        snapshot.latencies().forEach((name, latency) -> {
+            attributes.put(name + ".count", latency.count());
+            attributes.put(name + ".meanNanos", latency.meanNanos());
+            attributes.put(name + ".p50Nanos", latency.p50Nanos());
+            attributes.put(name + ".p90Nanos", latency.p90Nanos());
+            attributes.put(name + ".p99Nanos", latency.p99Nanos());
+            attributes.put(name + ".p999Nanos", latency.p999Nanos());
+            attributes.put(name + ".maxNanos", latency.maxNanos());
+        });
+        attributes.putAll(snapshot.counters());
+        attributes.putAll(snapshot.gauges());
+
+        return attributes;
+    }
+}
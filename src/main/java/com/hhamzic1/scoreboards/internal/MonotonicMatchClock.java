@@ -0,0 +1,48 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class MonotonicMatchClock implements MatchClock {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final long baseEpochNanos;
+    private final long baseNanoTime;
+    private final ZoneOffset offset;
+    private final AtomicLong lastEpochNanos = new AtomicLong(Long.MIN_VALUE);
+
+    MonotonicMatchClock() {
+        var base = Instant.now();
+        this.baseEpochNanos = ChronoUnit.NANOS.between(Instant.EPOCH, base);
+        this.baseNanoTime = System.nanoTime();
+        this.offset = ZoneId.systemDefault().getRules().getOffset(base);
+    }
+
+    @Override
+    public OffsetDateTime now() {
+        var epochNanos = epochNanos();
+
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), offset), offset);
+    }
+
+    @Override
+    public long epochMillis() {
+        return Math.floorDiv(epochNanos(), NANOS_PER_MILLI);
+    }
+
+    long epochNanos() {
+        var epochNanos = baseEpochNanos + (System.nanoTime() - baseNanoTime);
+
+        return lastEpochNanos.accumulateAndGet(epochNanos, (last, next) -> Math.max(last + 1, next));
+    }
+}
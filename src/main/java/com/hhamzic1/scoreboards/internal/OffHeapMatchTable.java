@@ -0,0 +1,216 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.Score;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+class OffHeapMatchTable {
+
+    static final int ROW_SIZE = 104;
+    static final int NO_ROW = -1;
+    static final long NO_END_TIME = Long.MIN_VALUE;
+    private static final int ID_MOST_SIGNIFICANT_BITS = 0;
+    private static final int ID_LEAST_SIGNIFICANT_BITS = 8;
+    private static final int START_TIME_NANOS = 16;
+    private static final int END_TIME_NANOS = 24;
+    private static final int STORE_ORDER_ID = 32;
+    private static final int HOME_TEAM_SCORE = 40;
+    private static final int AWAY_TEAM_SCORE = 48;
+    private static final int VERSION = 56;
+    private static final int HOME_TEAM_REF = 64;
+    private static final int AWAY_TEAM_REF = 68;
+    private static final int START_TIME_OFFSET = 72;
+    private static final int END_TIME_OFFSET = 76;
+    private static final int ACTIVE_POSITION = 80;
+    private static final int HOME_TEAM_NEWER_FINISHED_ROW = 84;
+    private static final int HOME_TEAM_OLDER_FINISHED_ROW = 88;
+    private static final int AWAY_TEAM_NEWER_FINISHED_ROW = 92;
+    private static final int AWAY_TEAM_OLDER_FINISHED_ROW = 96;
+    private static final int PAGE_SHIFT = 16;
+    private static final int ROWS_PER_PAGE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = ROWS_PER_PAGE - 1;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final List<ByteBuffer> pages = new ArrayList<>();
+    private int[] freeRows = new int[16];
+    private int freeRowCount;
+    private int highWaterMark;
+
+    int allocate() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+
+        if (highWaterMark == pages.size() * ROWS_PER_PAGE) {
+            pages.add(ByteBuffer.allocateDirect(ROWS_PER_PAGE * ROW_SIZE).order(ByteOrder.nativeOrder()));
+        }
+
+        return highWaterMark++;
+    }
+
+    void free(int row) {
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRowCount * 2);
+        }
+        freeRows[freeRowCount++] = row;
+    }
+
+    void write(int row, StoredMatch storedMatch, int homeTeamRef, int awayTeamRef) {
+        var page = pageOf(row);
+        var base = offsetOf(row);
+        page.putLong(base + ID_MOST_SIGNIFICANT_BITS, storedMatch.id().getMostSignificantBits());
+        page.putLong(base + ID_LEAST_SIGNIFICANT_BITS, storedMatch.id().getLeastSignificantBits());
+        page.putLong(base + START_TIME_NANOS, epochNanosOf(storedMatch.startTime()));
+        page.putInt(base + START_TIME_OFFSET, storedMatch.startTime().getOffset().getTotalSeconds());
+        page.putLong(base + END_TIME_NANOS, NO_END_TIME);
+        page.putInt(base + END_TIME_OFFSET, 0);
+        page.putLong(base + STORE_ORDER_ID, storedMatch.storeOrderId());
+        page.putInt(base + HOME_TEAM_REF, homeTeamRef);
+        page.putInt(base + AWAY_TEAM_REF, awayTeamRef);
+        page.putLong(base + HOME_TEAM_SCORE, storedMatch.score().homeTeamScore());
+        page.putLong(base + AWAY_TEAM_SCORE, storedMatch.score().awayTeamScore());
+        page.putLong(base + VERSION, storedMatch.version());
+    }
+
+    void setScore(int row, long homeTeamScore, long awayTeamScore) {
+        var page = pageOf(row);
+        var base = offsetOf(row);
+        page.putLong(base + HOME_TEAM_SCORE, homeTeamScore);
+        page.putLong(base + AWAY_TEAM_SCORE, awayTeamScore);
+        page.putLong(base + VERSION, page.getLong(base + VERSION) + 1);
+    }
+
+    long version(int row) {
+        return pageOf(row).getLong(offsetOf(row) + VERSION);
+    }
+
+    long homeTeamScore(int row) {
+        return pageOf(row).getLong(offsetOf(row) + HOME_TEAM_SCORE);
+    }
+
+    long awayTeamScore(int row) {
+        return pageOf(row).getLong(offsetOf(row) + AWAY_TEAM_SCORE);
+    }
+
+    long startTimeNanos(int row) {
+        return pageOf(row).getLong(offsetOf(row) + START_TIME_NANOS);
+    }
+
+    OffsetDateTime startTime(int row) {
+        var page = pageOf(row);
+        var base = offsetOf(row);
+        return dateTimeOf(page.getLong(base + START_TIME_NANOS), page.getInt(base + START_TIME_OFFSET));
+    }
+
+    void setEndTime(int row, long endTimeNanos, ZoneOffset offset) {
+        var page = pageOf(row);
+        var base = offsetOf(row);
+        page.putLong(base + END_TIME_NANOS, endTimeNanos);
+        page.putInt(base + END_TIME_OFFSET, offset.getTotalSeconds());
+    }
+
+    long endTimeNanos(int row) {
+        return pageOf(row).getLong(offsetOf(row) + END_TIME_NANOS);
+    }
+
+    long storeOrderId(int row) {
+        return pageOf(row).getLong(offsetOf(row) + STORE_ORDER_ID);
+    }
+
+    int homeTeamRef(int row) {
+        return pageOf(row).getInt(offsetOf(row) + HOME_TEAM_REF);
+    }
+
+    int awayTeamRef(int row) {
+        return pageOf(row).getInt(offsetOf(row) + AWAY_TEAM_REF);
+    }
+
+    UUID idOf(int row) {
+        var page = pageOf(row);
+        var base = offsetOf(row);
+        return new UUID(page.getLong(base + ID_MOST_SIGNIFICANT_BITS), page.getLong(base + ID_LEAST_SIGNIFICANT_BITS));
+    }
+
+    boolean hasId(int row, UUID id) {
+        var page = pageOf(row);
+        var base = offsetOf(row);
+        return page.getLong(base + ID_MOST_SIGNIFICANT_BITS) == id.getMostSignificantBits()
+                && page.getLong(base + ID_LEAST_SIGNIFICANT_BITS) == id.getLeastSignificantBits();
+    }
+
+    int activePosition(int row) {
+        return pageOf(row).getInt(offsetOf(row) + ACTIVE_POSITION);
+    }
+
+    void setActivePosition(int row, int position) {
+        pageOf(row).putInt(offsetOf(row) + ACTIVE_POSITION, position);
+    }
+
+    int newerFinishedRow(int row, int teamRef) {
+        return pageOf(row).getInt(offsetOf(row) + (teamRef == homeTeamRef(row) ? HOME_TEAM_NEWER_FINISHED_ROW : AWAY_TEAM_NEWER_FINISHED_ROW));
+    }
+
+    void setNewerFinishedRow(int row, int teamRef, int newerRow) {
+        pageOf(row).putInt(offsetOf(row) + (teamRef == homeTeamRef(row) ? HOME_TEAM_NEWER_FINISHED_ROW : AWAY_TEAM_NEWER_FINISHED_ROW), newerRow);
+    }
+
+    int olderFinishedRow(int row, int teamRef) {
+        return pageOf(row).getInt(offsetOf(row) + (teamRef == homeTeamRef(row) ? HOME_TEAM_OLDER_FINISHED_ROW : AWAY_TEAM_OLDER_FINISHED_ROW));
+    }
+
+    void setOlderFinishedRow(int row, int teamRef, int olderRow) {
+        pageOf(row).putInt(offsetOf(row) + (teamRef == homeTeamRef(row) ? HOME_TEAM_OLDER_FINISHED_ROW : AWAY_TEAM_OLDER_FINISHED_ROW), olderRow);
+    }
+
+    StoredMatch read(int row, TeamInternTable teams) {
+        var page = pageOf(row);
+        var base = offsetOf(row);
+        var endTimeNanos = page.getLong(base + END_TIME_NANOS);
+
+        return new StoredMatch(
+                new UUID(page.getLong(base + ID_MOST_SIGNIFICANT_BITS), page.getLong(base + ID_LEAST_SIGNIFICANT_BITS)),
+                dateTimeOf(page.getLong(base + START_TIME_NANOS), page.getInt(base + START_TIME_OFFSET)),
+                endTimeNanos == NO_END_TIME ? null : dateTimeOf(endTimeNanos, page.getInt(base + END_TIME_OFFSET)),
+                teams.teamOf(page.getInt(base + HOME_TEAM_REF)),
+                teams.teamOf(page.getInt(base + AWAY_TEAM_REF)),
+                new Score(page.getLong(base + HOME_TEAM_SCORE), page.getLong(base + AWAY_TEAM_SCORE)),
+                page.getLong(base + STORE_ORDER_ID),
+                page.getLong(base + VERSION));
+    }
+
+    long offHeapBytes() {
+        return (long) pages.size() * ROWS_PER_PAGE * ROW_SIZE;
+    }
+
+    void clear() {
+        pages.clear();
+        freeRowCount = 0;
+        highWaterMark = 0;
+    }
+
+    static long epochNanosOf(OffsetDateTime dateTime) {
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(), NANOS_PER_SECOND), dateTime.getNano());
+    }
+
+    private static OffsetDateTime dateTimeOf(long epochNanos, int offsetSeconds) {
+        var instant = Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+
+        return instant.atOffset(ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    private ByteBuffer pageOf(int row) {
+        return pages.get(row >>> PAGE_SHIFT);
+    }
+
+    private static int offsetOf(int row) {
+        return (row & PAGE_MASK) * ROW_SIZE;
+    }
+}
@@ -0,0 +1,190 @@
+package com.hhamzic1.scoreboards.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+    private boolean modified;
+
+    OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    boolean add(T value) {
+        modified = false;
+        root = insert(root, value);
+        return modified;
+    }
+
+    boolean remove(T value) {
+        modified = false;
+        root = delete(root, value);
+        return modified;
+    }
+
+    int countBefore(T value) {
+        var count = 0;
+        var node = root;
+        while (nonNull(node)) {
+            if (comparator.compare(value, node.value) <= 0) {
+                node = node.left;
+            } else {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    List<T> first(int limit) {
+        var values = new ArrayList<T>(Math.min(limit, size()));
+        collect(root, values, limit);
+        return values;
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    private void collect(Node<T> node, List<T> values, int limit) {
+        if (isNull(node) || values.size() >= limit) {
+            return;
+        }
+        collect(node.left, values, limit);
+        if (values.size() < limit) {
+            values.add(node.value);
+            collect(node.right, values, limit);
+        }
+    }
+
+    private Node<T> insert(Node<T> node, T value) {
+        if (isNull(node)) {
+            modified = true;
+            return new Node<>(value);
+        }
+
+        var comparison = comparator.compare(value, node.value);
+        if (comparison < 0) {
+            node.left = insert(node.left, value);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, value);
+        } else {
+            return node;
+        }
+
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, T value) {
+        if (isNull(node)) {
+            return null;
+        }
+
+        var comparison = comparator.compare(value, node.value);
+        if (comparison < 0) {
+            node.left = delete(node.left, value);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, value);
+        } else {
+            modified = true;
+            if (isNull(node.left)) {
+                return node.right;
+            }
+            if (isNull(node.right)) {
+                return node.left;
+            }
+
+            var successor = node.right;
+            while (nonNull(successor.left)) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = deleteFirst(node.right);
+        }
+
+        return rebalance(node);
+    }
+
+    private Node<T> deleteFirst(Node<T> node) {
+        if (isNull(node.left)) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        var balance = heightOf(node.left) - heightOf(node.right);
+        if (balance > 1) {
+            if (heightOf(node.left.left) < heightOf(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (heightOf(node.right.right) < heightOf(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        var left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        var right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = Math.max(heightOf(node.left), heightOf(node.right)) + 1;
+        node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return isNull(node) ? 0 : node.height;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return isNull(node) ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+
+        private T value;
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(T value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchIdGenerator;
+
+import java.util.UUID;
+
+class RandomMatchIdGenerator implements MatchIdGenerator {
+
+    static final RandomMatchIdGenerator INSTANCE = new RandomMatchIdGenerator();
+
+    private RandomMatchIdGenerator() {
+    }
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
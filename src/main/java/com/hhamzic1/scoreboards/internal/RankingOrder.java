@@ -0,0 +1,124 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.SportType;
+import com.hhamzic1.scoreboards.common.ranking.RankingStrategy;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+record RankingOrder(RankingStrategy strategy) implements Comparator<StoredMatch> {
+
+    static final RankingOrder FOOTBALL = new RankingOrder(SportRankingStrategy.FOOTBALL);
+    static final RankingOrder BASKETBALL = new RankingOrder(SportRankingStrategy.BASKETBALL);
+    static final RankingOrder HANDBALL = new RankingOrder(SportRankingStrategy.HANDBALL);
+    static final Comparator<Ranked> RANKED_ORDER = (left, right) -> compareRanks(
+            left.sortKey(), left.startSecond(), left.startNano(), left.storeOrderId(),
+            right.sortKey(), right.startSecond(), right.startNano(), right.storeOrderId());
+    private static final OffsetDateTime RANKED_EPOCH = OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+    static RankingOrder of(SportType sportType) {
+        return switch (sportType) {
+            case FOOTBALL -> FOOTBALL;
+            case BASKETBALL -> BASKETBALL;
+            case HANDBALL -> HANDBALL;
+        };
+    }
+
+    static RankingOrder from(Comparator<?> comparator) {
+        if (comparator instanceof RankingOrder order) {
+            return order;
+        }
+
+        throw new MatchStoreException("Active matches can only be ordered by a ranking order!");
+    }
+
+    static List<StoredMatch> sorted(Collection<StoredMatch> storedMatches, Comparator<?> comparator) {
+        return from(comparator).sorted(storedMatches);
+    }
+
+    static List<StoredMatch> matchesOf(List<Ranked> rankedMatches) {
+        var matches = new ArrayList<StoredMatch>(rankedMatches.size());
+        for (var rankedMatch : rankedMatches) {
+            matches.add(rankedMatch.match());
+        }
+
+        return Collections.unmodifiableList(matches);
+    }
+
+    @Override
+    public int compare(StoredMatch left, StoredMatch right) {
+        var leftStart = left.startTime();
+        var rightStart = right.startTime();
+
+        return compareRanks(sortKeyOf(left), leftStart.toEpochSecond(), leftStart.getNano(), left.storeOrderId(),
+                sortKeyOf(right), rightStart.toEpochSecond(), rightStart.getNano(), right.storeOrderId());
+    }
+
+    void validate(Match match) {
+        strategy.sortKey(match.score().homeTeamScore(), match.score().awayTeamScore(), match.startTime());
+    }
+
+    void validate(long homeTeamScore, long awayTeamScore) {
+        strategy.sortKey(homeTeamScore, awayTeamScore, RANKED_EPOCH);
+    }
+
+    Ranked rank(StoredMatch storedMatch) {
+        var startTime = storedMatch.startTime();
+
+        return new Ranked(sortKeyOf(storedMatch), startTime.toEpochSecond(), startTime.getNano(),
+                storedMatch.storeOrderId(), storedMatch);
+    }
+
+    boolean ranksBefore(StoredMatch storedMatch, Ranked rankedMatch) {
+        var startTime = storedMatch.startTime();
+
+        return compareRanks(sortKeyOf(storedMatch), startTime.toEpochSecond(), startTime.getNano(), storedMatch.storeOrderId(),
+                rankedMatch.sortKey(), rankedMatch.startSecond(), rankedMatch.startNano(), rankedMatch.storeOrderId()) < 0;
+    }
+
+    List<StoredMatch> sorted(Collection<StoredMatch> storedMatches) {
+        return matchesOf(sortedRanked(storedMatches));
+    }
+
+    List<Ranked> sortedRanked(Collection<StoredMatch> storedMatches) {
+        var ranked = new ArrayList<Ranked>(storedMatches.size());
+        for (var storedMatch : storedMatches) {
+            ranked.add(rank(storedMatch));
+        }
+        ranked.sort(RANKED_ORDER);
+
+        return Collections.unmodifiableList(ranked);
+    }
+
+    private long sortKeyOf(StoredMatch storedMatch) {
+        var score = storedMatch.score();
+
+        return strategy.sortKey(score.homeTeamScore(), score.awayTeamScore(), storedMatch.startTime());
+    }
+
+    private static int compareRanks(long leftSortKey, long leftStartSecond, int leftStartNano, long leftStoreOrderId,
+                                    long rightSortKey, long rightStartSecond, int rightStartNano, long rightStoreOrderId) {
+        if (leftSortKey != rightSortKey) {
+            return Long.compare(rightSortKey, leftSortKey);
+        }
+        if (leftStartSecond != rightStartSecond) {
+            return Long.compare(rightStartSecond, leftStartSecond);
+        }
+        if (leftStartNano != rightStartNano) {
+            return Integer.compare(rightStartNano, leftStartNano);
+        }
+
+        return Long.compare(rightStoreOrderId, leftStoreOrderId);
+    }
+
+    record Ranked(long sortKey, long startSecond, int startNano, long storeOrderId, StoredMatch match) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+import com.hhamzic1.scoreboards.common.store.ReplicationStats;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class ReplicaMatchDataStore implements MatchDataStore, JournalRecordVisitor {
+
+    static final byte RESYNC = 6;
+
+    private final InMemoryMatchDataStoreHashMapImpl delegate;
+    private final ReplicationChannel channel;
+    private final Thread receiver;
+    private volatile long appliedSequence;
+    private volatile long lagNanos;
+    private volatile long appliedBatches;
+    private volatile long appliedDeltas;
+    private volatile long resyncs;
+    private volatile Throwable failure;
+
+    ReplicaMatchDataStore(InMemoryMatchDataStoreHashMapImpl delegate, ReplicationChannel channel, String name) {
+        this.delegate = delegate;
+        this.channel = channel;
+        this.receiver = new Thread(this::receive, name);
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        throw readOnly();
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        throw readOnly();
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        throw readOnly();
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        return delegate.getAllActive();
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        return delegate.getAllActive(comparator);
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        return delegate.getActiveRange(comparator, offset, limit);
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        return delegate.getRankedActive(matchId, comparator);
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        return delegate.getVersionedActive(matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return delegate.getAllVersionedActive(comparator);
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return delegate.getAllFinished();
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return delegate.getFinished(finishedAfter, afterMatchId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return delegate.getFinishedOfTeam(teamId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return delegate.getFinishedBetween(teamId, otherTeamId, limit);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public long countFinished() {
+        return delegate.countFinished();
+    }
+
+    @Override
+    public void onSaved(StoredMatch savedMatch) {
+        delegate.replicateActive(savedMatch);
+    }
+
+    @Override
+    public void onScoreUpdated(UUID matchId, Score score, long version) {
+        delegate.replicateScore(matchId, score, version);
+    }
+
+    @Override
+    public void onUpdated(StoredMatch updatedMatch) {
+        delegate.replicateActive(updatedMatch);
+    }
+
+    @Override
+    public void onFinished(UUID matchId, OffsetDateTime endTime) {
+        delegate.replicateFinished(matchId, endTime);
+    }
+
+    @Override
+    public void onCleared() {
+        delegate.clear();
+    }
+
+    long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    Throwable getFailure() {
+        return failure;
+    }
+
+    ReplicationStats getStats(long leaderSequence, Throwable senderFailure) {
+        return new ReplicationStats(leaderSequence, appliedSequence, Duration.ofNanos(lagNanos), appliedBatches,
+                appliedDeltas, resyncs, isNull(senderFailure) ? failure : senderFailure);
+    }
+
+    void awaitTermination() {
+        try {
+            receiver.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void receive() {
+        try {
+            for (var frame = channel.receive(); nonNull(frame); frame = channel.receive()) {
+                apply(frame);
+            }
+        } catch (Throwable e) {
+            failure = e;
+        }
+    }
+
+    private void apply(ByteBuffer frame) {
+        var leaderNanos = frame.getLong();
+        var count = frame.getInt();
+        for (int i = 0; i < count; i++) {
+            var sequence = frame.getLong();
+            var length = frame.getInt();
+            var type = frame.get();
+            var payload = frame.slice(frame.position(), length - 1);
+            frame.position(frame.position() + length - 1);
+
+            if (type == RESYNC) {
+                delegate.importFrom(Channels.newChannel(new ByteArrayInputStream(payload.array(),
+                        payload.arrayOffset(), payload.remaining())));
+                resyncs++;
+            } else if (sequence <= appliedSequence) {
+                continue;
+            } else if (!MatchJournal.visit(type, payload, this)) {
+                throw new MatchStoreException("Unknown replication delta type %d!".formatted(type));
+            }
+            appliedSequence = sequence;
+        }
+
+        appliedDeltas += count;
+        appliedBatches++;
+        lagNanos = System.nanoTime() - leaderNanos;
+    }
+
+    private MatchStoreException readOnly() {
+        return new MatchStoreException("Follower match stores are read-only, write to the leader instead!");
+    }
+}
@@ -0,0 +1,22 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.store.ReplicationTransport;
+
+import java.nio.ByteBuffer;
+
+interface ReplicationChannel extends AutoCloseable {
+
+    void send(ByteBuffer frame);
+
+    ByteBuffer receive();
+
+    @Override
+    void close();
+
+    static ReplicationChannel open(ReplicationTransport transport) {
+        return switch (transport) {
+            case IN_PROCESS -> new InProcessReplicationChannel();
+            case TCP_LOOPBACK -> TcpReplicationChannel.open();
+        };
+    }
+}
@@ -0,0 +1,223 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.ScoreChange;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+
+class ScoreTimeline {
+
+    private static final int FIRST_CHUNK_CAPACITY = 4;
+    private static final int MAX_CHUNK_CAPACITY = 256;
+    private static final int ENTRY_SIZE = 3;
+
+    private final Match match;
+    private final long order;
+    private final long startMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Chunk[] chunks = new Chunk[1];
+    private int chunkCount;
+    private long storeOrderId;
+    private long lastMillis;
+    private long endMillis = Long.MAX_VALUE;
+
+    ScoreTimeline(Match match, long order) {
+        this.match = match;
+        this.order = order;
+        this.storeOrderId = order;
+        this.startMillis = toMillis(match);
+        this.lastMillis = startMillis;
+        append(startMillis, match.score().homeTeamScore(), match.score().awayTeamScore());
+    }
+
+    ReentrantLock lock() {
+        return lock;
+    }
+
+    UUID matchId() {
+        return match.id();
+    }
+
+    long order() {
+        return order;
+    }
+
+    long endMillis() {
+        return endMillis;
+    }
+
+    void setStoreOrderId(long storeOrderId) {
+        this.storeOrderId = storeOrderId;
+    }
+
+    void append(long millis, long homeTeamScore, long awayTeamScore) {
+        millis = Math.max(millis, lastMillis);
+        var chunk = chunkCount == 0 ? null : chunks[chunkCount - 1];
+        if (isNull(chunk) || !chunk.tryAppend(millis, homeTeamScore, awayTeamScore)) {
+            var capacity = isNull(chunk) ? FIRST_CHUNK_CAPACITY : Math.min(chunk.capacity() * 2, MAX_CHUNK_CAPACITY);
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount++] = new Chunk(millis, homeTeamScore, awayTeamScore, capacity);
+        }
+        lastMillis = millis;
+    }
+
+    void finish(long millis) {
+        endMillis = Math.max(millis, lastMillis);
+        chunks = Arrays.copyOf(chunks, chunkCount);
+        chunks[chunkCount - 1] = chunks[chunkCount - 1].trimmed();
+    }
+
+    void discard() {
+        endMillis = startMillis;
+    }
+
+    StoredMatch activeAt(long millis) {
+        lock.lock();
+        try {
+            if (millis < startMillis || millis >= endMillis) {
+                return null;
+            }
+
+            var chunk = chunks[chunkBefore(millis)];
+            var entry = chunk.entryBefore(millis);
+            var score = new Score(chunk.homeTeamScore(entry), chunk.awayTeamScore(entry));
+
+            return new StoredMatch(match.id(), match.startTime(), null, match.homeTeam(), match.awayTeam(), score, storeOrderId, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<ScoreChange> history() {
+        lock.lock();
+        try {
+            var history = new ArrayList<ScoreChange>();
+            for (int i = 0; i < chunkCount; i++) {
+                var chunk = chunks[i];
+                for (int entry = 0; entry < chunk.size(); entry++) {
+                    history.add(new ScoreChange(Instant.ofEpochMilli(chunk.millis(entry)),
+                            new Score(chunk.homeTeamScore(entry), chunk.awayTeamScore(entry))));
+                }
+            }
+            return Collections.unmodifiableList(history);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int chunkBefore(long millis) {
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low < high) {
+            var middle = (low + high + 1) >>> 1;
+            if (chunks[middle].baseMillis() <= millis) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private static long toMillis(Match match) {
+        return match.startTime().toEpochSecond() * 1000 + match.startTime().getNano() / 1_000_000;
+    }
+
+    private static class Chunk {
+
+        private final long baseMillis;
+        private final long baseHomeTeamScore;
+        private final long baseAwayTeamScore;
+        private final int[] deltas;
+        private int size;
+
+        private Chunk(long baseMillis, long baseHomeTeamScore, long baseAwayTeamScore, int capacity) {
+            this(baseMillis, baseHomeTeamScore, baseAwayTeamScore, new int[capacity * ENTRY_SIZE], 1);
+        }
+
+        private Chunk(long baseMillis, long baseHomeTeamScore, long baseAwayTeamScore, int[] deltas, int size) {
+            this.baseMillis = baseMillis;
+            this.baseHomeTeamScore = baseHomeTeamScore;
+            this.baseAwayTeamScore = baseAwayTeamScore;
+            this.deltas = deltas;
+            this.size = size;
+        }
+
+        private Chunk trimmed() {
+            return new Chunk(baseMillis, baseHomeTeamScore, baseAwayTeamScore, Arrays.copyOf(deltas, size * ENTRY_SIZE), size);
+        }
+
+        private boolean tryAppend(long millis, long homeTeamScore, long awayTeamScore) {
+            var millisDelta = millis - baseMillis;
+            var homeTeamScoreDelta = homeTeamScore - baseHomeTeamScore;
+            var awayTeamScoreDelta = awayTeamScore - baseAwayTeamScore;
+            if (size == capacity() || !fitsInt(millisDelta) || !fitsInt(homeTeamScoreDelta) || !fitsInt(awayTeamScoreDelta)) {
+                return false;
+            }
+
+            var offset = size * ENTRY_SIZE;
+            deltas[offset] = (int) millisDelta;
+            deltas[offset + 1] = (int) homeTeamScoreDelta;
+            deltas[offset + 2] = (int) awayTeamScoreDelta;
+            size++;
+
+            return true;
+        }
+
+        private int entryBefore(long millis) {
+            var millisDelta = millis - baseMillis;
+            int low = 0;
+            int high = size - 1;
+            while (low < high) {
+                var middle = (low + high + 1) >>> 1;
+                if (deltas[middle * ENTRY_SIZE] <= millisDelta) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return low;
+        }
+
+        private long baseMillis() {
+            return baseMillis;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int capacity() {
+            return deltas.length / ENTRY_SIZE;
+        }
+
+        private long millis(int entry) {
+            return baseMillis + deltas[entry * ENTRY_SIZE];
+        }
+
+        private long homeTeamScore(int entry) {
+            return baseHomeTeamScore + deltas[entry * ENTRY_SIZE + 1];
+        }
+
+        private long awayTeamScore(int entry) {
+            return baseAwayTeamScore + deltas[entry * ENTRY_SIZE + 2];
+        }
+
+        private static boolean fitsInt(long value) {
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.ScoreTimelinePolicy;
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.ScoreChange;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class ScoreTimelines {
+
+    private final ScoreTimelinePolicy policy;
+    private final MatchClock clock;
+    private final ToLongFunction<UUID> storeOrderIds;
+    private final Map<UUID, ScoreTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<UUID, ScoreTimeline> activeTimelines = new ConcurrentHashMap<>();
+    private final NavigableMap<FinishedKey, ScoreTimeline> finishedTimelinesByEnd = new ConcurrentSkipListMap<>();
+    private final Queue<ScoreTimeline> finishedTimelines = new ConcurrentLinkedQueue<>();
+    private final AtomicLong finishedCount = new AtomicLong();
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    ScoreTimelines(ScoreTimelinePolicy policy, MatchClock clock, ToLongFunction<UUID> storeOrderIds) {
+        this.policy = policy;
+        this.clock = clock;
+        this.storeOrderIds = storeOrderIds;
+    }
+
+    boolean enabled() {
+        return policy.enabled();
+    }
+
+    Match start(Match match, Supplier<Match> save) {
+        var timeline = open(match);
+        if (isNull(timeline)) {
+            return save.get();
+        }
+
+        try {
+            var savedMatch = save.get();
+            carryStoreOrderId(timeline);
+            return savedMatch;
+        } catch (RuntimeException e) {
+            discard(timeline);
+            throw e;
+        } finally {
+            timeline.lock().unlock();
+        }
+    }
+
+    BatchResult<UUID, Match> startAll(Collection<Match> matches, Supplier<BatchResult<UUID, Match>> saveAll) {
+        if (!policy.enabled()) {
+            return saveAll.get();
+        }
+
+        var openedTimelines = new ArrayList<ScoreTimeline>(matches.size());
+        for (var match : matches) {
+            var timeline = open(match);
+            if (nonNull(timeline)) {
+                openedTimelines.add(timeline);
+            }
+        }
+
+        try {
+            var saved = saveAll.get();
+            for (var timeline : openedTimelines) {
+                if (saved.succeeded().containsKey(timeline.matchId())) {
+                    carryStoreOrderId(timeline);
+                } else {
+                    discard(timeline);
+                }
+            }
+            return saved;
+        } catch (RuntimeException e) {
+            openedTimelines.forEach(this::discard);
+            throw e;
+        } finally {
+            openedTimelines.forEach(timeline -> timeline.lock().unlock());
+        }
+    }
+
+    <T> T record(UUID matchId, Supplier<T> update, Function<T, Match> updatedMatchOf) {
+        var timeline = timelines.get(matchId);
+        if (isNull(timeline)) {
+            return update.get();
+        }
+
+        timeline.lock().lock();
+        try {
+            var result = update.get();
+            var score = updatedMatchOf.apply(result).score();
+            timeline.append(clock.epochMillis(), score.homeTeamScore(), score.awayTeamScore());
+            return result;
+        } finally {
+            timeline.lock().unlock();
+        }
+    }
+
+    void record(UUID matchId, long homeTeamScore, long awayTeamScore, Runnable update) {
+        var timeline = timelines.get(matchId);
+        if (isNull(timeline)) {
+            update.run();
+            return;
+        }
+
+        timeline.lock().lock();
+        try {
+            update.run();
+            timeline.append(clock.epochMillis(), homeTeamScore, awayTeamScore);
+        } finally {
+            timeline.lock().unlock();
+        }
+    }
+
+    BatchResult<UUID, Match> recordAll(Collection<UUID> matchIds, Supplier<BatchResult<UUID, Match>> updateAll) {
+        if (!policy.enabled()) {
+            return updateAll.get();
+        }
+
+        var lockedTimelines = lockAll(matchIds);
+        try {
+            var updated = updateAll.get();
+            for (var timeline : lockedTimelines) {
+                var updatedMatch = updated.succeeded().get(timeline.matchId());
+                if (nonNull(updatedMatch)) {
+                    var score = updatedMatch.score();
+                    timeline.append(clock.epochMillis(), score.homeTeamScore(), score.awayTeamScore());
+                }
+            }
+            return updated;
+        } finally {
+            lockedTimelines.forEach(timeline -> timeline.lock().unlock());
+        }
+    }
+
+    Match finish(UUID matchId, Supplier<Match> delete) {
+        var timeline = timelines.get(matchId);
+        if (isNull(timeline)) {
+            return delete.get();
+        }
+
+        timeline.lock().lock();
+        try {
+            var finishedMatch = delete.get();
+            finish(timeline, finishedMatch);
+            return finishedMatch;
+        } finally {
+            timeline.lock().unlock();
+        }
+    }
+
+    BatchResult<UUID, Match> finishAll(Collection<UUID> matchIds, Supplier<BatchResult<UUID, Match>> deleteAll) {
+        if (!policy.enabled()) {
+            return deleteAll.get();
+        }
+
+        var lockedTimelines = lockAll(matchIds);
+        try {
+            var finished = deleteAll.get();
+            for (var timeline : lockedTimelines) {
+                var finishedMatch = finished.succeeded().get(timeline.matchId());
+                if (nonNull(finishedMatch)) {
+                    finish(timeline, finishedMatch);
+                }
+            }
+            return finished;
+        } finally {
+            lockedTimelines.forEach(timeline -> timeline.lock().unlock());
+        }
+    }
+
+    List<StoredMatch> activeAt(Instant instant) {
+        var millis = instant.toEpochMilli();
+        var activeMatches = new ArrayList<StoredMatch>();
+        var activeMatchIds = new HashSet<UUID>();
+        for (var timeline : activeTimelines.values()) {
+            var activeMatch = timeline.activeAt(millis);
+            if (nonNull(activeMatch)) {
+                activeMatches.add(activeMatch);
+                activeMatchIds.add(activeMatch.id());
+            }
+        }
+
+        for (var timeline : finishedTimelinesByEnd.tailMap(new FinishedKey(millis, Long.MAX_VALUE), false).values()) {
+            var activeMatch = timeline.activeAt(millis);
+            if (nonNull(activeMatch) && !activeMatchIds.contains(activeMatch.id())) {
+                activeMatches.add(activeMatch);
+            }
+        }
+
+        return activeMatches;
+    }
+
+    List<ScoreChange> historyOf(UUID matchId) {
+        var timeline = timelines.get(matchId);
+
+        return isNull(timeline) ? List.of() : timeline.history();
+    }
+
+    private ScoreTimeline open(Match match) {
+        if (!policy.enabled()) {
+            return null;
+        }
+
+        var timeline = new ScoreTimeline(match, orderSequence.incrementAndGet());
+        timeline.lock().lock();
+        if (nonNull(timelines.putIfAbsent(match.id(), timeline))) {
+            timeline.lock().unlock();
+            return null;
+        }
+        activeTimelines.put(match.id(), timeline);
+
+        return timeline;
+    }
+
+    private Collection<ScoreTimeline> lockAll(Collection<UUID> matchIds) {
+        var timelinesByOrder = new TreeMap<Long, ScoreTimeline>();
+        for (var matchId : matchIds) {
+            var timeline = timelines.get(matchId);
+            if (nonNull(timeline)) {
+                timelinesByOrder.put(timeline.order(), timeline);
+            }
+        }
+
+        timelinesByOrder.values().forEach(timeline -> timeline.lock().lock());
+
+        return timelinesByOrder.values();
+    }
+
+    private void carryStoreOrderId(ScoreTimeline timeline) {
+        var storeOrderId = storeOrderIds.applyAsLong(timeline.matchId());
+        if (storeOrderId != StoreOrderAware.NO_STORE_ORDER_ID) {
+            timeline.setStoreOrderId(storeOrderId);
+        }
+    }
+
+    private void finish(ScoreTimeline timeline, Match finishedMatch) {
+        timeline.finish(finishedMatch.endTime().toInstant().toEpochMilli());
+        finishedTimelinesByEnd.put(FinishedKey.of(timeline), timeline);
+        activeTimelines.remove(timeline.matchId(), timeline);
+        evictBeyondLimit(timeline);
+    }
+
+    private void discard(ScoreTimeline timeline) {
+        timeline.discard();
+        activeTimelines.remove(timeline.matchId(), timeline);
+        timelines.remove(timeline.matchId(), timeline);
+    }
+
+    private void evictBeyondLimit(ScoreTimeline finishedTimeline) {
+        finishedTimelines.add(finishedTimeline);
+        if (finishedCount.incrementAndGet() <= policy.maxFinishedMatches()) {
+            return;
+        }
+
+        var evictedTimeline = finishedTimelines.poll();
+        if (nonNull(evictedTimeline)) {
+            finishedCount.decrementAndGet();
+            timelines.remove(evictedTimeline.matchId(), evictedTimeline);
+            finishedTimelinesByEnd.remove(FinishedKey.of(evictedTimeline), evictedTimeline);
+        }
+    }
+
+    private record FinishedKey(long endMillis, long order) implements Comparable<FinishedKey> {
+
+        static FinishedKey of(ScoreTimeline timeline) {
+            return new FinishedKey(timeline.endMillis(), timeline.order());
+        }
+
+        @Override
+        public int compareTo(FinishedKey other) {
+            var byEnd = Long.compare(endMillis, other.endMillis);
+
+            return byEnd != 0 ? byEnd : Long.compare(order, other.order);
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package com.hhamzic1.scoreboards.internal;
 
+import com.hhamzic1.scoreboards.AsyncScoreboard;
+import com.hhamzic1.scoreboards.AsyncScoreboardPolicy;
 import com.hhamzic1.scoreboards.Scoreboard;
-import com.hhamzic1.scoreboards.common.exception.UnsupportedSportTypeException;
+import com.hhamzic1.scoreboards.ScoreboardOptions;
+import com.hhamzic1.scoreboards.TeamRegistry;
+import com.hhamzic1.scoreboards.common.metrics.MetricsRegistry;
 import com.hhamzic1.scoreboards.common.model.SportType;
 import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+import com.hhamzic1.scoreboards.common.store.SummaryCachingMatchDataStore;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Objects.isNull;
 
 public class ScoreboardFactory {
 
@@ -12,9 +21,48 @@ public class ScoreboardFactory {
     }
 
     public static Scoreboard createScoreboard(SportType sportType, MatchDataStore matchDataStore) {
+        return createScoreboard(sportType, matchDataStore, ScoreboardOptions.defaults());
+    }
+
+    public static Scoreboard createScoreboard(SportType sportType, MatchDataStore matchDataStore, ScoreboardOptions options) {
+        var rankingOrder = isNull(options.rankingStrategy())
+                ? RankingOrder.of(sportType)
+                : new RankingOrder(options.rankingStrategy());
+
+        return new ScoreboardImpl(matchDataStore, validatorOf(sportType), rankingOrder,
+                options.teamRegistry(), options.timelinePolicy(),
+                isNull(options.clock()) ? SystemMatchClock.INSTANCE : options.clock(),
+                isNull(options.idGenerator()) ? RandomMatchIdGenerator.INSTANCE : options.idGenerator(),
+                isNull(options.eventExecutor()) ? ForkJoinPool.commonPool() : options.eventExecutor());
+    }
+
+    public static AsyncScoreboard createAsyncScoreboard(SportType sportType) {
+        return createAsyncScoreboard(sportType, new InMemoryMatchDataStoreHashMapImpl(), AsyncScoreboardPolicy.defaults());
+    }
+
+    public static AsyncScoreboard createAsyncScoreboard(SportType sportType, MatchDataStore matchDataStore,
+                                                        AsyncScoreboardPolicy policy) {
+        var snapshotStore = matchDataStore instanceof SummaryCachingMatchDataStore
+                ? matchDataStore
+                : MatchDataStoreFactory.createSummaryCachingMatchDataStore(matchDataStore);
+
+        return new AsyncScoreboardImpl(createScoreboard(sportType, snapshotStore), policy,
+                isNull(policy.completionExecutor()) ? ForkJoinPool.commonPool() : policy.completionExecutor());
+    }
+
+    public static Scoreboard createInstrumentedScoreboard(Scoreboard scoreboard, MetricsRegistry metricsRegistry) {
+        return new InstrumentedScoreboard(scoreboard, metricsRegistry);
+    }
+
+    public static TeamRegistry createTeamRegistry() {
+        return new TeamRegistryImpl();
+    }
+
+    private static ScoreboardValidator validatorOf(SportType sportType) {
         return switch (sportType) {
-            case FOOTBALL -> new FootballScoreboardImpl(matchDataStore, new FootballScoreboardValidatorImpl());
-            default -> throw new UnsupportedSportTypeException();
+            case FOOTBALL -> new FootballScoreboardValidatorImpl();
+            case BASKETBALL -> new BasketballScoreboardValidatorImpl();
+            case HANDBALL -> new HandballScoreboardValidatorImpl();
         };
     }
 }
\ No newline at end of file
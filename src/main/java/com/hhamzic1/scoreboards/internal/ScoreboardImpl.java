@@ -0,0 +1,350 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.ScoreTimelinePolicy;
+import com.hhamzic1.scoreboards.Scoreboard;
+import com.hhamzic1.scoreboards.TeamRegistry;
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+import com.hhamzic1.scoreboards.common.clock.MatchIdGenerator;
+import com.hhamzic1.scoreboards.common.event.MatchEvent;
+import com.hhamzic1.scoreboards.common.event.MatchEventType;
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.MatchFixture;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.ScoreChange;
+import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class ScoreboardImpl implements Scoreboard {
+
+    private static final int MATCH_EVENT_FINISHED_CAPACITY = 4096;
+    private final MatchDataStore matchDataStore;
+    private final ScoreboardValidator validator;
+    private final RankingOrder rankingOrder;
+    private final ScoreTimelines scoreTimelines;
+    private final TeamRegistry teamRegistry;
+    private final MatchClock clock;
+    private final MatchIdGenerator idGenerator;
+    private final MatchEventPublisher matchEventPublisher;
+
+    ScoreboardImpl(MatchDataStore matchDataStore, ScoreboardValidator validator, RankingOrder rankingOrder,
+                   TeamRegistry teamRegistry, ScoreTimelinePolicy timelinePolicy, MatchClock clock, MatchIdGenerator idGenerator,
+                   Executor eventExecutor) {
+        this.matchDataStore = matchDataStore;
+        this.validator = validator;
+        this.rankingOrder = rankingOrder;
+        this.teamRegistry = teamRegistry;
+        this.clock = clock;
+        this.idGenerator = idGenerator;
+        this.scoreTimelines = new ScoreTimelines(timelinePolicy, clock,
+                matchId -> StoreOrderAware.storeOrderIdOf(matchDataStore, matchId));
+        this.matchEventPublisher = new MatchEventPublisher(eventExecutor, MATCH_EVENT_FINISHED_CAPACITY);
+    }
+
+    @Override
+    public Match startMatch(Team homeTeam, Team awayTeam) {
+        validator.validateOnStartMatch(homeTeam, awayTeam);
+
+        var initialScore = new Score(0, 0);
+        var match = new Match(idGenerator.nextId(), clock.now(), null, intern(homeTeam), intern(awayTeam), initialScore);
+        rankingOrder.validate(match);
+
+        var savedMatch = scoreTimelines.start(match, () -> matchDataStore.save(match.id(), match));
+        publishActiveMatchEvent(MatchEventType.STARTED, savedMatch.id());
+
+        return savedMatch;
+    }
+
+    @Override
+    public void finishMatch(UUID matchId) {
+        validator.validateOnFinishMatch(matchId);
+
+        var finishedMatch = scoreTimelines.finish(matchId, () -> matchDataStore.finish(matchId, clock.now()));
+        publishFinishedMatchEvent(finishedMatch);
+    }
+
+    @Override
+    public Match updateScore(UUID matchId, Score score) {
+        validator.validateOnScoreUpdate(matchId, score);
+        rankingOrder.validate(score.homeTeamScore(), score.awayTeamScore());
+
+        var updatedMatch = scoreTimelines.record(matchId,
+                () -> matchDataStore.update(matchId, match -> new Match(match, score)), UnaryOperator.identity());
+        publishActiveMatchEvent(MatchEventType.SCORE_CHANGED, matchId);
+
+        return updatedMatch;
+    }
+
+    @Override
+    public VersionedMatch updateScoreIfVersion(UUID matchId, long expectedVersion, Score score) {
+        validator.validateOnScoreUpdate(matchId, score);
+        rankingOrder.validate(score.homeTeamScore(), score.awayTeamScore());
+
+        var updatedMatch = scoreTimelines.record(matchId,
+                () -> matchDataStore.updateIfVersion(matchId, expectedVersion, match -> new Match(match, score)),
+                VersionedMatch::match);
+        publishActiveMatchEvent(MatchEventType.SCORE_CHANGED, matchId);
+
+        return updatedMatch;
+    }
+
+    @Override
+    public void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        validator.validateOnScoreUpdate(matchId, homeTeamScore, awayTeamScore);
+        rankingOrder.validate(homeTeamScore, awayTeamScore);
+
+        scoreTimelines.record(matchId, homeTeamScore, awayTeamScore,
+                () -> matchDataStore.setScore(matchId, homeTeamScore, awayTeamScore));
+        publishActiveMatchEvent(MatchEventType.SCORE_CHANGED, matchId);
+    }
+
+    @Override
+    public BatchResult<MatchFixture, Match> startMatches(List<MatchFixture> fixtures) {
+        validator.validateOnBatch(fixtures);
+
+        var matchesToSave = new LinkedHashMap<UUID, Match>();
+        var fixturesByMatchId = new HashMap<UUID, MatchFixture>();
+        var failed = new LinkedHashMap<MatchFixture, RuntimeException>();
+        for (var fixture : fixtures) {
+            try {
+                if (isNull(fixture)) {
+                    throw new ScoreboardException("Fixture can't be null");
+                }
+                validator.validateOnStartMatch(fixture.homeTeam(), fixture.awayTeam());
+                var match = new Match(idGenerator.nextId(), clock.now(), null, intern(fixture.homeTeam()),
+                        intern(fixture.awayTeam()), new Score(0, 0));
+                rankingOrder.validate(match);
+                matchesToSave.put(match.id(), match);
+                fixturesByMatchId.put(match.id(), fixture);
+            } catch (ScoreboardException e) {
+                failed.put(fixture, e);
+            }
+        }
+
+        var stored = scoreTimelines.startAll(matchesToSave.values(), () -> matchDataStore.saveAll(matchesToSave));
+        var succeeded = new LinkedHashMap<MatchFixture, Match>();
+        stored.succeeded().forEach((matchId, match) -> {
+            succeeded.put(fixturesByMatchId.get(matchId), match);
+            publishActiveMatchEvent(MatchEventType.STARTED, matchId);
+        });
+        stored.failed().forEach((matchId, e) -> failed.put(fixturesByMatchId.get(matchId), e));
+
+        return new BatchResult<>(succeeded, failed);
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateScores(Map<UUID, Score> scores) {
+        validator.validateOnBatch(scores);
+
+        var updaters = new LinkedHashMap<UUID, UnaryOperator<Match>>();
+        var failed = new LinkedHashMap<UUID, RuntimeException>();
+        scores.forEach((matchId, score) -> {
+            try {
+                validator.validateOnScoreUpdate(matchId, score);
+                rankingOrder.validate(score.homeTeamScore(), score.awayTeamScore());
+                updaters.put(matchId, match -> new Match(match, score));
+            } catch (ScoreboardException e) {
+                failed.put(matchId, e);
+            }
+        });
+
+        var updated = scoreTimelines.recordAll(updaters.keySet(), () -> matchDataStore.updateAll(updaters));
+        updated.succeeded().forEach((matchId, match) -> publishActiveMatchEvent(MatchEventType.SCORE_CHANGED, matchId));
+        failed.putAll(updated.failed());
+
+        return new BatchResult<>(updated.succeeded(), failed);
+    }
+
+    @Override
+    public BatchResult<UUID, Match> finishMatches(Collection<UUID> matchIds) {
+        validator.validateOnBatch(matchIds);
+
+        var matchIdsToFinish = new ArrayList<UUID>(matchIds.size());
+        var failed = new LinkedHashMap<UUID, RuntimeException>();
+        for (var matchId : matchIds) {
+            try {
+                validator.validateOnFinishMatch(matchId);
+                matchIdsToFinish.add(matchId);
+            } catch (ScoreboardException e) {
+                failed.put(matchId, e);
+            }
+        }
+
+        var finished = scoreTimelines.finishAll(matchIdsToFinish,
+                () -> matchDataStore.deleteAll(matchIdsToFinish, clock.now()));
+        finished.succeeded().forEach((matchId, finishedMatch) -> publishFinishedMatchEvent(finishedMatch));
+        failed.putAll(finished.failed());
+
+        return new BatchResult<>(finished.succeeded(), failed);
+    }
+
+    @Override
+    public List<Match> getActiveMatchesSummary() {
+        return matchDataStore.getAllActive(rankingOrder);
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedMatch(UUID matchId) {
+        if (isNull(matchId)) {
+            throw new ScoreboardException("MatchId can't be null");
+        }
+
+        return matchDataStore.getVersionedActive(matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getVersionedActiveMatchesSummary() {
+        return matchDataStore.getAllVersionedActive(rankingOrder);
+    }
+
+    @Override
+    public List<Match> getTopMatches(int limit) {
+        validator.validateOnPagedQuery(limit);
+
+        return matchDataStore.getTopActive(rankingOrder, limit);
+    }
+
+    @Override
+    public List<Match> getActiveMatchesSummary(int offset, int limit) {
+        validator.validateOnPagedQuery(offset, limit);
+
+        return matchDataStore.getActiveRange(rankingOrder, offset, limit);
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedMatch(UUID matchId) {
+        if (isNull(matchId)) {
+            throw new ScoreboardException("MatchId can't be null");
+        }
+
+        return matchDataStore.getRankedActive(matchId, rankingOrder);
+    }
+
+    @Override
+    public List<Match> getActiveMatchesSummaryAt(Instant instant) {
+        if (isNull(instant)) {
+            throw new ScoreboardException("Instant can't be null");
+        }
+        requireTimelines();
+
+        return rankingOrder.sorted(scoreTimelines.activeAt(instant)).stream()
+                .map(StoredMatch::toMatch)
+                .toList();
+    }
+
+    @Override
+    public List<ScoreChange> getScoreHistory(UUID matchId) {
+        if (isNull(matchId)) {
+            throw new ScoreboardException("MatchId can't be null");
+        }
+        requireTimelines();
+
+        return scoreTimelines.historyOf(matchId);
+    }
+
+    @Override
+    public List<Match> getAllFinishedMatches() {
+        return matchDataStore.getAllFinished();
+    }
+
+    @Override
+    public List<Match> getFinishedMatches(OffsetDateTime finishedAfter, int limit) {
+        return getFinishedMatches(finishedAfter, null, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedMatches(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        validator.validateOnPagedQuery(limit);
+        if (nonNull(afterMatchId) && isNull(finishedAfter)) {
+            throw new ScoreboardException("Paging after a match needs its end time");
+        }
+
+        return matchDataStore.getFinished(finishedAfter, afterMatchId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedMatchesOf(Team team, int limit) {
+        validator.validateOnTeamQuery(team, limit);
+
+        return matchDataStore.getFinishedOfTeam(team.id(), limit);
+    }
+
+    @Override
+    public List<Match> getFinishedMatchesBetween(Team team, Team otherTeam, int limit) {
+        validator.validateOnTeamQuery(team, limit);
+        validator.validateOnTeamQuery(otherTeam, limit);
+
+        return matchDataStore.getFinishedBetween(team.id(), otherTeam.id(), limit);
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getMatchEvents() {
+        return matchEventPublisher;
+    }
+
+    @Override
+    public Flow.Publisher<MatchEvent> getUnrankedMatchEvents() {
+        return matchEventPublisher.unranked();
+    }
+
+    private void requireTimelines() {
+        if (!scoreTimelines.enabled()) {
+            throw new ScoreboardException("Score timelines are disabled, enable them with ScoreboardOptions.withTimelinePolicy.");
+        }
+    }
+
+    private Team intern(Team team) {
+        return isNull(teamRegistry) ? team : teamRegistry.intern(team);
+    }
+
+    private void publishFinishedMatchEvent(Match finishedMatch) {
+        if (matchEventPublisher.hasSubscribers()) {
+            matchEventPublisher.publish(MatchEventType.FINISHED, finishedMatch.id(), (type, ranked) -> new MatchEvent(type, finishedMatch, 0));
+        }
+    }
+
+    private void publishActiveMatchEvent(MatchEventType type, UUID matchId) {
+        if (!matchEventPublisher.hasSubscribers()) {
+            return;
+        }
+
+        matchEventPublisher.publish(type, matchId, (eventType, ranked) -> ranked
+                ? matchDataStore.getRankedActive(matchId, rankingOrder)
+                        .map(rankedMatch -> new MatchEvent(eventType, rankedMatch.match(), rankedMatch.rank()))
+                        .orElse(null)
+                : activeMatchOf(matchId)
+                        .map(match -> new MatchEvent(eventType, match, 0))
+                        .orElse(null));
+    }
+
+    private Optional<Match> activeMatchOf(UUID matchId) {
+        try {
+            return matchDataStore.getVersionedActive(matchId).map(VersionedMatch::match);
+        } catch (MatchStoreException e) {
+            return matchDataStore.getAllActive().stream()
+                    .filter(match -> match.id().equals(matchId))
+                    .findFirst();
+        }
+    }
+}
\ No newline at end of file
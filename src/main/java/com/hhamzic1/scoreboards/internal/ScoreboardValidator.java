@@ -12,4 +12,14 @@ interface ScoreboardValidator {
     void validateOnFinishMatch(UUID matchId);
 
     void validateOnScoreUpdate(UUID matchId, Score score);
+
+    void validateOnScoreUpdate(UUID matchId, long homeTeamScore, long awayTeamScore);
+
+    void validateOnPagedQuery(int limit);
+
+    void validateOnPagedQuery(int offset, int limit);
+
+    void validateOnTeamQuery(Team team, int limit);
+
+    void validateOnBatch(Object batch);
 }
\ No newline at end of file
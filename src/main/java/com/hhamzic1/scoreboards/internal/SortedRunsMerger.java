@@ -0,0 +1,61 @@
+package com.hhamzic1.scoreboards.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+class SortedRunsMerger {
+
+    private SortedRunsMerger() {
+    }
+
+    static <T> List<T> merge(List<List<T>> sortedRuns, Comparator<? super T> comparator) {
+        return merge(sortedRuns, comparator, Integer.MAX_VALUE);
+    }
+
+    static <T> List<T> merge(List<List<T>> sortedRuns, Comparator<? super T> comparator, int limit) {
+        var size = 0L;
+        var heads = new PriorityQueue<RunCursor<T>>(Math.max(sortedRuns.size(), 1),
+                (left, right) -> comparator.compare(left.head(), right.head()));
+        for (var sortedRun : sortedRuns) {
+            if (!sortedRun.isEmpty()) {
+                heads.add(new RunCursor<>(sortedRun));
+                size += sortedRun.size();
+            }
+        }
+
+        var merged = new ArrayList<T>((int) Math.min(size, limit));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            var cursor = heads.poll();
+            merged.add(cursor.next());
+            if (cursor.hasNext()) {
+                heads.add(cursor);
+            }
+        }
+
+        return merged;
+    }
+
+    private static final class RunCursor<T> {
+
+        private final List<T> sortedRun;
+        private int position;
+
+        private RunCursor(List<T> sortedRun) {
+            this.sortedRun = sortedRun;
+        }
+
+        private T head() {
+            return sortedRun.get(position);
+        }
+
+        private T next() {
+            return sortedRun.get(position++);
+        }
+
+        private boolean hasNext() {
+            return position < sortedRun.size();
+        }
+    }
+}
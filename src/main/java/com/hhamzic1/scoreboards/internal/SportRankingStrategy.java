@@ -0,0 +1,39 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.ranking.RankingStrategy;
+
+import java.time.OffsetDateTime;
+
+enum SportRankingStrategy implements RankingStrategy {
+
+    FOOTBALL {
+        @Override
+        public long sortKey(long homeTeamScore, long awayTeamScore, OffsetDateTime startTime) {
+            return RankingStrategy.packed(homeTeamScore + awayTeamScore, startTime);
+        }
+    },
+    BASKETBALL {
+        @Override
+        public long sortKey(long homeTeamScore, long awayTeamScore, OffsetDateTime startTime) {
+            var totalScore = homeTeamScore + awayTeamScore;
+            if (totalScore > MAX_BASKETBALL_TOTAL_SCORE) {
+                throw new ScoreboardException("Total score %d is outside of the rankable range [0, %d]!"
+                        .formatted(totalScore, MAX_BASKETBALL_TOTAL_SCORE));
+            }
+            var margin = Math.abs(homeTeamScore - awayTeamScore);
+
+            return RankingStrategy.packed(totalScore << BASKETBALL_MARGIN_BITS | (MAX_BASKETBALL_MARGIN - margin), startTime);
+        }
+    },
+    HANDBALL {
+        @Override
+        public long sortKey(long homeTeamScore, long awayTeamScore, OffsetDateTime startTime) {
+            return RankingStrategy.packed(homeTeamScore + awayTeamScore, startTime);
+        }
+    };
+
+    private static final int BASKETBALL_MARGIN_BITS = 11;
+    private static final long MAX_BASKETBALL_MARGIN = (1L << BASKETBALL_MARGIN_BITS) - 1;
+    private static final long MAX_BASKETBALL_TOTAL_SCORE = MAX_RANK >>> BASKETBALL_MARGIN_BITS;
+}
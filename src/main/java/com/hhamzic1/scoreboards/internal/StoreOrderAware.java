@@ -0,0 +1,18 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+
+import java.util.UUID;
+
+interface StoreOrderAware {
+
+    long NO_STORE_ORDER_ID = 0;
+
+    long storeOrderIdOf(UUID matchId);
+
+    static long storeOrderIdOf(MatchDataStore matchDataStore, UUID matchId) {
+        return matchDataStore instanceof StoreOrderAware storeOrderAware
+                ? storeOrderAware.storeOrderIdOf(matchId)
+                : NO_STORE_ORDER_ID;
+    }
+}
@@ -3,22 +3,35 @@ package com.hhamzic1.scoreboards.internal;
 import com.hhamzic1.scoreboards.common.model.Match;
 import com.hhamzic1.scoreboards.common.model.Score;
 import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
 record StoredMatch(UUID id, OffsetDateTime startTime, OffsetDateTime endTime, Team homeTeam, Team awayTeam,
-                   Score score, Long storeOrderId) {
+                   Score score, long storeOrderId, long version) {
 
-    StoredMatch(Match match, Long storeOrderId) {
-        this(match.id(), match.startTime(), match.endTime(), match.homeTeam(), match.awayTeam(), match.score(), storeOrderId);
+    StoredMatch(Match match, long storeOrderId) {
+        this(match, storeOrderId, 0);
+    }
+
+    StoredMatch(Match match, long storeOrderId, long version) {
+        this(match.id(), match.startTime(), match.endTime(), match.homeTeam(), match.awayTeam(), match.score(), storeOrderId, version);
     }
 
     StoredMatch(StoredMatch storedMatch, OffsetDateTime endTime) {
-        this(storedMatch.id(), storedMatch.startTime(), endTime, storedMatch.homeTeam(), storedMatch.awayTeam(), storedMatch.score(), storedMatch.storeOrderId());
+        this(storedMatch.id(), storedMatch.startTime(), endTime, storedMatch.homeTeam(), storedMatch.awayTeam(), storedMatch.score(), storedMatch.storeOrderId(), storedMatch.version());
+    }
+
+    StoredMatch(StoredMatch storedMatch, Score score, long version) {
+        this(storedMatch.id(), storedMatch.startTime(), storedMatch.endTime(), storedMatch.homeTeam(), storedMatch.awayTeam(), score, storedMatch.storeOrderId(), version);
     }
 
     Match toMatch() {
         return new Match(id, startTime, endTime, homeTeam, awayTeam, score);
     }
-}
\ No newline at end of file
+
+    VersionedMatch toVersionedMatch() {
+        return new VersionedMatch(toMatch(), version);
+    }
+}
@@ -0,0 +1,117 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+final class StoredMatchCodec {
+
+    static final int UUID_SIZE = 16;
+    static final int DATE_TIME_SIZE = 16;
+    static final int SCORE_SIZE = 16;
+    private static final int FIXED_SIZE = UUID_SIZE + 2 * Long.BYTES + DATE_TIME_SIZE + 1 + DATE_TIME_SIZE
+            + 2 * (UUID_SIZE + Short.BYTES) + SCORE_SIZE;
+
+    private StoredMatchCodec() {
+    }
+
+    static int sizeOf(StoredMatch storedMatch) {
+        return FIXED_SIZE + storedMatch.homeTeam().name().getBytes(UTF_8).length
+                + storedMatch.awayTeam().name().getBytes(UTF_8).length;
+    }
+
+    static void write(ByteBuffer buffer, StoredMatch storedMatch) {
+        writeUuid(buffer, storedMatch.id());
+        buffer.putLong(storedMatch.storeOrderId());
+        buffer.putLong(storedMatch.version());
+        writeDateTime(buffer, storedMatch.startTime());
+        if (isNull(storedMatch.endTime())) {
+            buffer.put((byte) 0);
+            buffer.putLong(0);
+            buffer.putLong(0);
+        } else {
+            buffer.put((byte) 1);
+            writeDateTime(buffer, storedMatch.endTime());
+        }
+        writeTeam(buffer, storedMatch.homeTeam());
+        writeTeam(buffer, storedMatch.awayTeam());
+        writeScore(buffer, storedMatch.score());
+    }
+
+    static StoredMatch read(ByteBuffer buffer) {
+        var id = readUuid(buffer);
+        var storeOrderId = buffer.getLong();
+        var version = buffer.getLong();
+        var startTime = readDateTime(buffer);
+        OffsetDateTime endTime = null;
+        if (buffer.get() == 1) {
+            endTime = readDateTime(buffer);
+        } else {
+            buffer.position(buffer.position() + DATE_TIME_SIZE);
+        }
+        var homeTeam = readTeam(buffer);
+        var awayTeam = readTeam(buffer);
+        var score = readScore(buffer);
+
+        return new StoredMatch(id, startTime, endTime, homeTeam, awayTeam, score, storeOrderId, version);
+    }
+
+    static void writeUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    static UUID readUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    static void writeDateTime(ByteBuffer buffer, OffsetDateTime dateTime) {
+        buffer.putLong(dateTime.toEpochSecond());
+        buffer.putInt(dateTime.getNano());
+        buffer.putInt(dateTime.getOffset().getTotalSeconds());
+    }
+
+    static OffsetDateTime readDateTime(ByteBuffer buffer) {
+        var epochSecond = buffer.getLong();
+        var nano = buffer.getInt();
+        var offset = ZoneOffset.ofTotalSeconds(buffer.getInt());
+
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+    }
+
+    static void writeScore(ByteBuffer buffer, Score score) {
+        buffer.putLong(score.homeTeamScore());
+        buffer.putLong(score.awayTeamScore());
+    }
+
+    static Score readScore(ByteBuffer buffer) {
+        return new Score(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void writeTeam(ByteBuffer buffer, Team team) {
+        var name = team.name().getBytes(UTF_8);
+        if (name.length > 0xFFFF) {
+            throw new MatchStoreException("Team name of team '%s' is too long to be stored!".formatted(team.id()));
+        }
+        writeUuid(buffer, team.id());
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+    }
+
+    private static Team readTeam(ByteBuffer buffer) {
+        var id = readUuid(buffer);
+        var name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+
+        return new Team(id, new String(name, UTF_8));
+    }
+}
@@ -0,0 +1,10 @@
+package com.hhamzic1.scoreboards.internal;
+
+interface StoredMatchListener {
+
+    void onSaved(StoredMatch savedMatch);
+
+    void onUpdated(StoredMatch previousMatch, StoredMatch updatedMatch);
+
+    void onDeleted(StoredMatch finishedMatch);
+}
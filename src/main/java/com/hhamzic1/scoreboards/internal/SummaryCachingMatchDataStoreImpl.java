@@ -0,0 +1,213 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.BatchResult;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+import com.hhamzic1.scoreboards.common.store.SummaryCachePolicy;
+import com.hhamzic1.scoreboards.common.store.SummaryCacheStats;
+import com.hhamzic1.scoreboards.common.store.SummaryCachingMatchDataStore;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+
+class SummaryCachingMatchDataStoreImpl implements SummaryCachingMatchDataStore, StoreOrderAware {
+
+    private final MatchDataStore delegate;
+    private final long minRefreshIntervalNanos;
+    private final AtomicLong mutationEpoch = new AtomicLong();
+    private final Lock rebuildLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private volatile SummarySnapshot summarySnapshot;
+
+    SummaryCachingMatchDataStoreImpl(MatchDataStore delegate, SummaryCachePolicy policy) {
+        this.delegate = delegate;
+        this.minRefreshIntervalNanos = policy.minRefreshInterval().toNanos();
+    }
+
+    @Override
+    public Match save(UUID matchId, Match match) {
+        return mutate(() -> delegate.save(matchId, match));
+    }
+
+    @Override
+    public Match update(UUID matchId, UnaryOperator<Match> updater) {
+        return mutate(() -> delegate.update(matchId, updater));
+    }
+
+    @Override
+    public void setScore(UUID matchId, long homeTeamScore, long awayTeamScore) {
+        try {
+            delegate.setScore(matchId, homeTeamScore, awayTeamScore);
+        } finally {
+            mutationEpoch.incrementAndGet();
+        }
+    }
+
+    @Override
+    public VersionedMatch updateIfVersion(UUID matchId, long expectedVersion, UnaryOperator<Match> updater) {
+        return mutate(() -> delegate.updateIfVersion(matchId, expectedVersion, updater));
+    }
+
+    @Override
+    public void delete(UUID matchId) {
+        finish(matchId, OffsetDateTime.now());
+    }
+
+    @Override
+    public Match finish(UUID matchId, OffsetDateTime endTime) {
+        return mutate(() -> delegate.finish(matchId, endTime));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> saveAll(Map<UUID, Match> matches) {
+        return mutate(() -> delegate.saveAll(matches));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> updateAll(Map<UUID, UnaryOperator<Match>> updaters) {
+        return mutate(() -> delegate.updateAll(updaters));
+    }
+
+    @Override
+    public BatchResult<UUID, Match> deleteAll(Collection<UUID> matchIds, OffsetDateTime endTime) {
+        return mutate(() -> delegate.deleteAll(matchIds, endTime));
+    }
+
+    @Override
+    public List<Match> getAllActive() {
+        return delegate.getAllActive();
+    }
+
+    @Override
+    public List<Match> getAllActive(Comparator<?> comparator) {
+        var snapshot = summarySnapshot;
+        if (isFresh(snapshot, comparator)) {
+            hits.increment();
+            return snapshot.matches();
+        }
+
+        misses.increment();
+        rebuildLock.lock();
+        try {
+            snapshot = summarySnapshot;
+            if (isFresh(snapshot, comparator)) {
+                return snapshot.matches();
+            }
+
+            var epoch = mutationEpoch.get();
+            snapshot = new SummarySnapshot(comparator, epoch, System.nanoTime(), List.copyOf(delegate.getAllActive(comparator)));
+            summarySnapshot = snapshot;
+            rebuilds.increment();
+
+            return snapshot.matches();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getActiveRange(Comparator<?> comparator, int offset, int limit) {
+        var snapshot = summarySnapshot;
+        if (!isFresh(snapshot, comparator)) {
+            return delegate.getActiveRange(comparator, offset, limit);
+        }
+
+        hits.increment();
+        var matches = snapshot.matches();
+        var from = Math.min(offset, matches.size());
+
+        return matches.subList(from, Math.min(TopMatchesSelector.rangeEnd(from, limit), matches.size()));
+    }
+
+    @Override
+    public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+        return delegate.getVersionedActive(matchId);
+    }
+
+    @Override
+    public long storeOrderIdOf(UUID matchId) {
+        return StoreOrderAware.storeOrderIdOf(delegate, matchId);
+    }
+
+    @Override
+    public List<VersionedMatch> getAllVersionedActive(Comparator<?> comparator) {
+        return delegate.getAllVersionedActive(comparator);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public long countFinished() {
+        return delegate.countFinished();
+    }
+
+    @Override
+    public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+        return delegate.getRankedActive(matchId, comparator);
+    }
+
+    @Override
+    public List<Match> getAllFinished() {
+        return delegate.getAllFinished();
+    }
+
+    @Override
+    public List<Match> getFinished(OffsetDateTime finishedAfter, UUID afterMatchId, int limit) {
+        return delegate.getFinished(finishedAfter, afterMatchId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedOfTeam(UUID teamId, int limit) {
+        return delegate.getFinishedOfTeam(teamId, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedBetween(UUID teamId, UUID otherTeamId, int limit) {
+        return delegate.getFinishedBetween(teamId, otherTeamId, limit);
+    }
+
+    @Override
+    public SummaryCacheStats getSummaryCacheStats() {
+        return new SummaryCacheStats(hits.sum(), misses.sum(), rebuilds.sum());
+    }
+
+    private boolean isFresh(SummarySnapshot snapshot, Comparator<?> comparator) {
+        if (isNull(snapshot) || !snapshot.comparator().equals(comparator)) {
+            return false;
+        }
+
+        return snapshot.epoch() == mutationEpoch.get()
+                || System.nanoTime() - snapshot.builtAtNanos() < minRefreshIntervalNanos;
+    }
+
+    private <T> T mutate(Supplier<T> mutation) {
+        try {
+            return mutation.get();
+        } finally {
+            mutationEpoch.incrementAndGet();
+        }
+    }
+
+    private record SummarySnapshot(Comparator<?> comparator, long epoch, long builtAtNanos, List<Match> matches) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.TeamRegistry;
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.isNull;
+
+class SurrogateActiveTeamsIndex extends ActiveTeamsIndex {
+
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int MAX_PAGES = TeamRegistryImpl.MAX_TEAMS >>> PAGE_SHIFT;
+
+    private final TeamRegistry teamRegistry;
+    private final AtomicReferenceArray<AtomicReferenceArray<UUID>> pages = new AtomicReferenceArray<>(MAX_PAGES);
+
+    SurrogateActiveTeamsIndex(TeamRegistry teamRegistry) {
+        this.teamRegistry = teamRegistry;
+    }
+
+    @Override
+    void claim(UUID matchId, Team homeTeam, Team awayTeam) {
+        var homeTeamId = teamRegistry.surrogateIdOf(homeTeam);
+        var awayTeamId = teamRegistry.surrogateIdOf(awayTeam);
+        var firstTeamId = Math.min(homeTeamId, awayTeamId);
+        var secondTeamId = Math.max(homeTeamId, awayTeamId);
+        if (!pageOf(firstTeamId).compareAndSet(firstTeamId & (PAGE_SIZE - 1), null, matchId)) {
+            throw new MatchStoreException("Some of the teams are already in another ongoing match.");
+        }
+
+        if (!pageOf(secondTeamId).compareAndSet(secondTeamId & (PAGE_SIZE - 1), null, matchId)) {
+            pageOf(firstTeamId).compareAndSet(firstTeamId & (PAGE_SIZE - 1), matchId, null);
+            throw new MatchStoreException("Some of the teams are already in another ongoing match.");
+        }
+    }
+
+    @Override
+    void restore(UUID matchId, Team homeTeam, Team awayTeam) {
+        var homeTeamId = teamRegistry.surrogateIdOf(homeTeam);
+        var awayTeamId = teamRegistry.surrogateIdOf(awayTeam);
+        pageOf(homeTeamId).set(homeTeamId & (PAGE_SIZE - 1), matchId);
+        pageOf(awayTeamId).set(awayTeamId & (PAGE_SIZE - 1), matchId);
+    }
+
+    @Override
+    void release(UUID matchId, Team homeTeam, Team awayTeam) {
+        var homeTeamId = teamRegistry.surrogateIdOf(homeTeam);
+        var awayTeamId = teamRegistry.surrogateIdOf(awayTeam);
+        pageOf(homeTeamId).compareAndSet(homeTeamId & (PAGE_SIZE - 1), matchId, null);
+        pageOf(awayTeamId).compareAndSet(awayTeamId & (PAGE_SIZE - 1), matchId, null);
+    }
+
+    @Override
+    void clear() {
+        for (int i = 0; i < MAX_PAGES; i++) {
+            pages.set(i, null);
+        }
+    }
+
+    private AtomicReferenceArray<UUID> pageOf(int surrogateId) {
+        var pageNumber = surrogateId >>> PAGE_SHIFT;
+        if (pageNumber >= MAX_PAGES) {
+            throw new MatchStoreException("Too many registered teams to track their ongoing matches.");
+        }
+
+        var page = pages.get(pageNumber);
+        if (isNull(page)) {
+            pages.compareAndSet(pageNumber, null, new AtomicReferenceArray<>(PAGE_SIZE));
+            page = pages.get(pageNumber);
+        }
+
+        return page;
+    }
+}
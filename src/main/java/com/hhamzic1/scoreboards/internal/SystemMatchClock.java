@@ -0,0 +1,23 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+
+import java.time.OffsetDateTime;
+
+class SystemMatchClock implements MatchClock {
+
+    static final SystemMatchClock INSTANCE = new SystemMatchClock();
+
+    private SystemMatchClock() {
+    }
+
+    @Override
+    public OffsetDateTime now() {
+        return OffsetDateTime.now();
+    }
+
+    @Override
+    public long epochMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,91 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+class TcpReplicationChannel implements ReplicationChannel {
+
+    private final SocketChannel leaderSide;
+    private final SocketChannel followerSide;
+    private final ByteBuffer sendHeader = ByteBuffer.allocate(Integer.BYTES);
+    private final ByteBuffer receiveHeader = ByteBuffer.allocate(Integer.BYTES);
+
+    private TcpReplicationChannel(SocketChannel leaderSide, SocketChannel followerSide) {
+        this.leaderSide = leaderSide;
+        this.followerSide = followerSide;
+    }
+
+    static TcpReplicationChannel open() {
+        try (var server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            var leaderSide = SocketChannel.open(server.getLocalAddress());
+            var followerSide = server.accept();
+            leaderSide.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+            return new TcpReplicationChannel(leaderSide, followerSide);
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't open loopback replication channel!", e);
+        }
+    }
+
+    @Override
+    public void send(ByteBuffer frame) {
+        sendHeader.clear().putInt(frame.remaining()).flip();
+        var buffers = new ByteBuffer[]{sendHeader, frame};
+        try {
+            while (frame.hasRemaining()) {
+                leaderSide.write(buffers);
+            }
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't send replication deltas!", e);
+        }
+    }
+
+    @Override
+    public ByteBuffer receive() {
+        try {
+            if (!readFully(receiveHeader.clear())) {
+                return null;
+            }
+
+            var frame = ByteBuffer.allocate(receiveHeader.flip().getInt());
+            if (!readFully(frame)) {
+                return null;
+            }
+
+            return frame.flip();
+        } catch (IOException e) {
+            if (!followerSide.isOpen()) {
+                return null;
+            }
+            throw new MatchStoreException("Couldn't receive replication deltas!", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            leaderSide.close();
+        } catch (IOException e) {
+            throw new MatchStoreException("Couldn't close loopback replication channel!", e);
+        }
+    }
+
+    private boolean readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (followerSide.read(buffer) < 0) {
+                followerSide.close();
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+class TeamInternTable {
+
+    private final Map<UUID, Integer> refsByTeamId = new HashMap<>();
+    private final List<Team> teamsByRef = new ArrayList<>();
+
+    int intern(Team team) {
+        var ref = refsByTeamId.get(team.id());
+        if (isNull(ref)) {
+            ref = teamsByRef.size();
+            teamsByRef.add(team);
+            refsByTeamId.put(team.id(), ref);
+        }
+
+        return ref;
+    }
+
+    int refOf(UUID teamId) {
+        var ref = refsByTeamId.get(teamId);
+
+        return isNull(ref) ? -1 : ref;
+    }
+
+    Team teamOf(int ref) {
+        return teamsByRef.get(ref);
+    }
+
+    void clear() {
+        refsByTeamId.clear();
+        teamsByRef.clear();
+    }
+}
@@ -0,0 +1,77 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.TeamRegistry;
+import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.model.Team;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.nonNull;
+
+class TeamRegistryImpl implements TeamRegistry {
+
+    static final int MAX_TEAMS = 1 << 22;
+
+    private final Map<UUID, RegisteredTeam> teamsById = new ConcurrentHashMap<>();
+    private final Map<String, Team> teamsByName = new ConcurrentHashMap<>();
+    private final AtomicInteger surrogateIdSequence = new AtomicInteger();
+
+    @Override
+    public Team register(String name) {
+        var team = teamsByName.computeIfAbsent(name, Team::new);
+        try {
+            return registered(team).team();
+        } catch (ScoreboardException e) {
+            teamsByName.remove(name, team);
+            throw e;
+        }
+    }
+
+    @Override
+    public Team intern(Team team) {
+        return registered(team).team();
+    }
+
+    @Override
+    public int surrogateIdOf(Team team) {
+        return registered(team).surrogateId();
+    }
+
+    @Override
+    public Optional<Team> findByName(String name) {
+        return Optional.ofNullable(teamsByName.get(name));
+    }
+
+    @Override
+    public int size() {
+        return teamsById.size();
+    }
+
+    private RegisteredTeam registered(Team team) {
+        var registeredTeam = teamsById.get(team.id());
+        if (nonNull(registeredTeam)) {
+            return registeredTeam;
+        }
+
+        registeredTeam = teamsById.computeIfAbsent(team.id(), id -> new RegisteredTeam(team, nextSurrogateId()));
+        teamsByName.putIfAbsent(registeredTeam.team().name(), registeredTeam.team());
+
+        return registeredTeam;
+    }
+
+    private int nextSurrogateId() {
+        var surrogateId = surrogateIdSequence.getAndUpdate(id -> Math.min(id + 1, MAX_TEAMS));
+        if (surrogateId == MAX_TEAMS) {
+            throw new ScoreboardException("Team registry can't hold more than %d teams.".formatted(MAX_TEAMS));
+        }
+
+        return surrogateId;
+    }
+
+    private record RegisteredTeam(Team team, int surrogateId) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.hhamzic1.scoreboards.internal;
+
+import com.hhamzic1.scoreboards.common.clock.MatchIdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TimeOrderedMatchIdGenerator implements MatchIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    @Override
+    public UUID nextId() {
+        var timestamp = lastTimestamp.accumulateAndGet(System.currentTimeMillis() << COUNTER_BITS,
+                (last, next) -> Math.max(last + 1, next));
+        var mostSignificantBits = (timestamp >>> COUNTER_BITS) << 16 | VERSION_7 | timestamp & COUNTER_MASK;
+        var leastSignificantBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT_RFC_4122;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
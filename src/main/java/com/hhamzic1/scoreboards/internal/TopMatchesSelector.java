@@ -0,0 +1,52 @@
+package com.hhamzic1.scoreboards.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+class TopMatchesSelector {
+
+    private final RankingOrder rankingOrder;
+    private final int size;
+    private final PriorityQueue<RankingOrder.Ranked> worstFirst;
+
+    TopMatchesSelector(RankingOrder rankingOrder, int size) {
+        this.rankingOrder = rankingOrder;
+        this.size = size;
+        this.worstFirst = new PriorityQueue<>(Math.min(size, 1024) + 1, RankingOrder.RANKED_ORDER.reversed());
+    }
+
+    void offer(StoredMatch storedMatch) {
+        if (size == 0) {
+            return;
+        }
+
+        var rankedMatch = rankingOrder.rank(storedMatch);
+        if (worstFirst.size() < size) {
+            worstFirst.add(rankedMatch);
+        } else if (RankingOrder.RANKED_ORDER.compare(rankedMatch, worstFirst.peek()) < 0) {
+            worstFirst.poll();
+            worstFirst.add(rankedMatch);
+        }
+    }
+
+    List<StoredMatch> toSortedList() {
+        return RankingOrder.matchesOf(toSortedRankedList());
+    }
+
+    List<RankingOrder.Ranked> toSortedRankedList() {
+        var selected = new ArrayList<>(worstFirst);
+        selected.sort(RankingOrder.RANKED_ORDER);
+
+        return Collections.unmodifiableList(selected);
+    }
+
+    static int rangeEnd(int offset, int limit) {
+        return (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+    }
+
+    static <T> List<T> skip(List<T> sorted, int offset) {
+        return offset >= sorted.size() ? List.of() : sorted.subList(offset, sorted.size());
+    }
+}
@@ -0,0 +1,127 @@
+package com.hhamzic1.scoreboards.internal;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+class UuidSlotIndex {
+
+    static final int NO_SLOT = -1;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] mostSignificantBits = new long[INITIAL_CAPACITY];
+    private long[] leastSignificantBits = new long[INITIAL_CAPACITY];
+    private int[] slots = newSlots(INITIAL_CAPACITY);
+    private int size;
+
+    int get(UUID key) {
+        var mask = slots.length - 1;
+        var msb = key.getMostSignificantBits();
+        var lsb = key.getLeastSignificantBits();
+        for (int i = indexOf(msb, lsb, mask); slots[i] != NO_SLOT; i = (i + 1) & mask) {
+            if (mostSignificantBits[i] == msb && leastSignificantBits[i] == lsb) {
+                return slots[i];
+            }
+        }
+
+        return NO_SLOT;
+    }
+
+    boolean putIfAbsent(UUID key, int slot) {
+        if (get(key) != NO_SLOT) {
+            return false;
+        }
+        if ((size + 1) * 2 > slots.length) {
+            resize(slots.length * 2);
+        }
+
+        insert(key.getMostSignificantBits(), key.getLeastSignificantBits(), slot);
+        size++;
+
+        return true;
+    }
+
+    int remove(UUID key) {
+        var mask = slots.length - 1;
+        var msb = key.getMostSignificantBits();
+        var lsb = key.getLeastSignificantBits();
+        var i = indexOf(msb, lsb, mask);
+        while (slots[i] != NO_SLOT && (mostSignificantBits[i] != msb || leastSignificantBits[i] != lsb)) {
+            i = (i + 1) & mask;
+        }
+        if (slots[i] == NO_SLOT) {
+            return NO_SLOT;
+        }
+
+        var removedSlot = slots[i];
+        shiftBack(i, mask);
+        size--;
+
+        return removedSlot;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        mostSignificantBits = new long[INITIAL_CAPACITY];
+        leastSignificantBits = new long[INITIAL_CAPACITY];
+        slots = newSlots(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    private void shiftBack(int hole, int mask) {
+        var i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            if (slots[i] == NO_SLOT) {
+                break;
+            }
+
+            var home = indexOf(mostSignificantBits[i], leastSignificantBits[i], mask);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                mostSignificantBits[hole] = mostSignificantBits[i];
+                leastSignificantBits[hole] = leastSignificantBits[i];
+                slots[hole] = slots[i];
+                hole = i;
+            }
+        }
+        slots[hole] = NO_SLOT;
+    }
+
+    private void insert(long msb, long lsb, int slot) {
+        var mask = slots.length - 1;
+        var i = indexOf(msb, lsb, mask);
+        while (slots[i] != NO_SLOT) {
+            i = (i + 1) & mask;
+        }
+        mostSignificantBits[i] = msb;
+        leastSignificantBits[i] = lsb;
+        slots[i] = slot;
+    }
+
+    private void resize(int capacity) {
+        var oldMostSignificantBits = mostSignificantBits;
+        var oldLeastSignificantBits = leastSignificantBits;
+        var oldSlots = slots;
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        slots = newSlots(capacity);
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != NO_SLOT) {
+                insert(oldMostSignificantBits[i], oldLeastSignificantBits[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private static int indexOf(long msb, long lsb, int mask) {
+        var hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int[] newSlots(int capacity) {
+        var slots = new int[capacity];
+        Arrays.fill(slots, NO_SLOT);
+        return slots;
+    }
+}
@@ -1,18 +1,75 @@
 package com.hhamzic1.scoreboards;
 
+import com.hhamzic1.scoreboards.common.clock.MatchClock;
+import com.hhamzic1.scoreboards.common.event.MatchEvent;
+import com.hhamzic1.scoreboards.common.event.MatchEventType;
 import com.hhamzic1.scoreboards.common.exception.MatchStoreException;
+import com.hhamzic1.scoreboards.common.exception.MatchVersionConflictException;
 import com.hhamzic1.scoreboards.common.exception.ScoreboardException;
+import com.hhamzic1.scoreboards.common.model.Match;
+import com.hhamzic1.scoreboards.common.model.MatchFixture;
+import com.hhamzic1.scoreboards.common.model.RankedMatch;
 import com.hhamzic1.scoreboards.common.model.Score;
+import com.hhamzic1.scoreboards.common.model.ScoreChange;
 import com.hhamzic1.scoreboards.common.model.SportType;
 import com.hhamzic1.scoreboards.common.model.Team;
+import com.hhamzic1.scoreboards.common.model.VersionedMatch;
+import com.hhamzic1.scoreboards.common.ranking.RankingStrategy;
+import com.hhamzic1.scoreboards.common.store.FinishedMatchesArchivePolicy;
+import com.hhamzic1.scoreboards.common.store.InMemoryMatchDataStore;
+import com.hhamzic1.scoreboards.common.store.MatchDataStore;
+import com.hhamzic1.scoreboards.common.store.MatchJournalPolicy;
+import com.hhamzic1.scoreboards.common.store.ReplicationPolicy;
+import com.hhamzic1.scoreboards.common.store.SummaryCachePolicy;
+import com.hhamzic1.scoreboards.common.store.SummaryCacheStats;
+import com.hhamzic1.scoreboards.internal.ClockFactory;
+import com.hhamzic1.scoreboards.internal.MatchDataStoreFactory;
+import com.hhamzic1.scoreboards.internal.MetricsFactory;
 import com.hhamzic1.scoreboards.internal.ScoreboardFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import javax.management.ReflectionException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,6 +149,134 @@ public class LiveFootballWorldCupScoreboardTest {
         executor.shutdown();
     }
 
+    @Test
+    public void givenMirroredFixtures_whenStartedConcurrently_thenExactlyOneStarts() throws Exception {
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 200; round++) {
+                var teamRegistry = ScoreboardFactory.createTeamRegistry();
+                var roundScoreboard = round % 2 == 0
+                        ? ScoreboardFactory.createScoreboard(SportType.FOOTBALL)
+                        : ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                        MatchDataStoreFactory.createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.unbounded(), teamRegistry),
+                        ScoreboardOptions.defaults().withTeamRegistry(teamRegistry));
+                var spain = new Team("Spain");
+                var france = new Team("France");
+                var gate = new CountDownLatch(1);
+                var latch = new CountDownLatch(2);
+                var matchesStarted = new AtomicInteger(0);
+                var matchesNotStarted = new AtomicInteger(0);
+                for (var pair : new Team[][]{{spain, france}, {france, spain}}) {
+                    var task = createMatchTask(roundScoreboard, pair[0], pair[1], matchesStarted, matchesNotStarted, latch);
+                    executor.submit(() -> {
+                        gate.await();
+                        task.run();
+                        return null;
+                    });
+                }
+                gate.countDown();
+                latch.await();
+
+                assertEquals(1, matchesStarted.get());
+                assertEquals(1, matchesNotStarted.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void givenUnrelatedTeams_whenStartingMatchesWithMultipleThreads_thenStartAllMatches() throws InterruptedException {
+        var matchCount = 1_000;
+        var executor = Executors.newFixedThreadPool(8);
+        var latch = new CountDownLatch(matchCount);
+        var matchesStarted = new AtomicInteger(0);
+        var matchesNotStarted = new AtomicInteger(0);
+
+        for (int i = 0; i < matchCount; i++) {
+            executor.submit(createMatchTask(scoreboard, new Team("Home " + i), new Team("Away " + i),
+                    matchesStarted, matchesNotStarted, latch));
+        }
+
+        latch.await();
+
+        assertEquals(matchCount, matchesStarted.get());
+        assertEquals(0, matchesNotStarted.get());
+        assertEquals(matchCount, scoreboard.getActiveMatchesSummary().size());
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void givenFinishedMatch_whenTeamsStartNewMatch_thenStartMatchSuccessfully() {
+        var spain = new Team("Spain");
+        var france = new Team("France");
+        var italy = new Team("Italy");
+        var match = scoreboard.startMatch(spain, france);
+
+        assertThrows(MatchStoreException.class, () -> scoreboard.startMatch(italy, france));
+
+        scoreboard.finishMatch(match.id());
+
+        var rematch = scoreboard.startMatch(france, spain);
+        var italyMatch = assertDoesNotThrow(() -> scoreboard.startMatch(italy, new Team("England")));
+
+        assertEquals(2, scoreboard.getActiveMatchesSummary().size());
+        assertNotEquals(rematch.id(), italyMatch.id());
+    }
+
+    @Test
+    public void givenSameStartTime_whenSavingMatchesWithMultipleThreads_thenSummaryReturnsLatestSavedFirst() throws InterruptedException {
+        var threadCount = 8;
+        var matchesPerThread = 500;
+        var startTime = OffsetDateTime.now();
+        var matchDataStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var otherMatchDataStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var storeScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore);
+        var otherStoreScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, otherMatchDataStore);
+        var savedMatchIds = new ArrayList<List<UUID>>();
+        var executor = Executors.newFixedThreadPool(threadCount);
+        var latch = new CountDownLatch(threadCount);
+
+        for (int thread = 0; thread < threadCount; thread++) {
+            var threadMatchIds = new ArrayList<UUID>();
+            savedMatchIds.add(threadMatchIds);
+            var threadName = "Thread " + thread;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < matchesPerThread; i++) {
+                        var homeTeam = new Team(threadName + " home " + i);
+                        var awayTeam = new Team(threadName + " away " + i);
+                        var matchId = UUID.randomUUID();
+                        matchDataStore.save(matchId, new Match(matchId, startTime, null, homeTeam, awayTeam, new Score(0, 0)));
+                        otherMatchDataStore.save(matchId, new Match(matchId, startTime, null, homeTeam, awayTeam, new Score(0, 0)));
+                        threadMatchIds.add(matchId);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        for (var summaryScoreboard : List.of(storeScoreboard, otherStoreScoreboard)) {
+            var summaryPositions = new HashMap<UUID, Integer>();
+            var activeMatchesSummary = summaryScoreboard.getActiveMatchesSummary();
+            for (int i = 0; i < activeMatchesSummary.size(); i++) {
+                summaryPositions.put(activeMatchesSummary.get(i).id(), i);
+            }
+
+            assertEquals(threadCount * matchesPerThread, summaryPositions.size());
+            for (var threadMatchIds : savedMatchIds) {
+                for (int i = 1; i < threadMatchIds.size(); i++) {
+                    assertTrue(summaryPositions.get(threadMatchIds.get(i)) < summaryPositions.get(threadMatchIds.get(i - 1)));
+                }
+            }
+        }
+    }
+
     @Test
     public void givenAlreadyStartedMatch_whenFinishMatchCalled_thenFinishMatchSuccessfully() {
         var italy = new Team("Italy");
@@ -119,6 +304,85 @@ public class LiveFootballWorldCupScoreboardTest {
         assertThrows(ScoreboardException.class, () -> scoreboard.finishMatch(null));
     }
 
+    @Test
+    public void givenFinishedMatches_whenGetFinishedMatchesCalled_thenReturnPagesOrderedByEndTime() {
+        var finishedMatchIds = new ArrayList<UUID>();
+        for (int i = 0; i < 5; i++) {
+            var match = scoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+            scoreboard.finishMatch(match.id());
+            finishedMatchIds.add(match.id());
+        }
+
+        var firstPage = scoreboard.getFinishedMatches(null, 2);
+        var secondPage = scoreboard.getFinishedMatches(firstPage.getLast().endTime(), 2);
+        var lastPage = scoreboard.getFinishedMatches(secondPage.getLast().endTime(), 2);
+
+        assertEquals(finishedMatchIds.subList(0, 2), firstPage.stream().map(Match::id).toList());
+        assertEquals(finishedMatchIds.subList(2, 4), secondPage.stream().map(Match::id).toList());
+        assertEquals(finishedMatchIds.subList(4, 5), lastPage.stream().map(Match::id).toList());
+        assertThrows(ScoreboardException.class, () -> scoreboard.getFinishedMatches(null, 0));
+    }
+
+    @Test
+    public void givenBoundedArchive_whenMoreMatchesFinish_thenEvictOldestAndSpillToDisk(@TempDir Path tempDir) throws IOException {
+        var spillFile = tempDir.resolve("finished-matches.bin");
+        var archivePolicy = FinishedMatchesArchivePolicy.maxMatches(3).withSpillFile(spillFile);
+        var boundedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(archivePolicy));
+        var finishedMatchIds = new ArrayList<UUID>();
+
+        for (int i = 0; i < 5; i++) {
+            var match = boundedScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+            boundedScoreboard.finishMatch(match.id());
+            finishedMatchIds.add(match.id());
+        }
+
+        var finishedMatches = boundedScoreboard.getAllFinishedMatches();
+
+        assertEquals(finishedMatchIds.subList(2, 5), finishedMatches.stream().map(Match::id).toList());
+        assertTrue(Files.size(spillFile) > 0);
+    }
+
+    @Test
+    public void givenUnwritableSpillFile_whenMatchesFinish_thenKeepEvictedMatchesQueuedForRetry(@TempDir Path tempDir) throws IOException {
+        var spillDirectory = tempDir.resolve("spill");
+        var spillFile = spillDirectory.resolve("finished-matches.bin");
+        var boundedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(2).withSpillFile(spillFile)));
+
+        for (int i = 0; i < 4; i++) {
+            var match = boundedScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+            assertDoesNotThrow(() -> boundedScoreboard.finishMatch(match.id()));
+        }
+        Files.createDirectories(spillDirectory);
+        var match = boundedScoreboard.startMatch(new Team("Home 4"), new Team("Away 4"));
+        boundedScoreboard.finishMatch(match.id());
+
+        assertEquals(2, boundedScoreboard.getAllFinishedMatches().size());
+        assertEquals(3 * 112, Files.size(spillFile));
+    }
+
+    @Test
+    public void givenBoundedArchive_whenMatchesFinishConcurrently_thenKeepExactlyTheCap() throws InterruptedException {
+        var boundedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(100)));
+        var finishers = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            var finisher = t;
+            finishers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 500; i++) {
+                    var match = boundedScoreboard.startMatch(new Team("Home " + finisher + "-" + i), new Team("Away " + finisher + "-" + i));
+                    boundedScoreboard.finishMatch(match.id());
+                }
+            }));
+        }
+        for (var finisher : finishers) {
+            finisher.join();
+        }
+
+        assertEquals(100, boundedScoreboard.getAllFinishedMatches().size());
+    }
+
     @Test
     public void givenActiveMatch_whenUpdateScoreCalled_updateScoreSuccessfully() {
         var germany = new Team("Germany");
@@ -188,19 +452,1519 @@ public class LiveFootballWorldCupScoreboardTest {
         assertEquals(match3.id(), activeMatchesSummary.get(4).id());
     }
 
-    private static Runnable createMatchTask(Scoreboard scoreboard, Team team1, Team team2,
-                                            AtomicInteger matchesStarted, AtomicInteger matchesNotStarted, CountDownLatch latch) {
-        return () -> {
-            try {
-                scoreboard.startMatch(team1, team2);
-                matchesStarted.incrementAndGet();
-            } catch (Exception e) {
-                if (e instanceof MatchStoreException) {
-                    matchesNotStarted.incrementAndGet();
+    @Test
+    public void givenSummaryIndexedStore_whenScoresChangeAndMatchesFinish_thenSummaryStaysSorted() {
+        var indexedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL));
+        var mexico = new Team("Mexico");
+        var canada = new Team("Canada");
+        var spain = new Team("Spain");
+        var brazil = new Team("Brazil");
+        var germany = new Team("Germany");
+        var france = new Team("France");
+        var uruguay = new Team("Uruguay");
+        var italy = new Team("Italy");
+        var argentina = new Team("Argentina");
+        var australia = new Team("Australia");
+
+        var match1 = indexedScoreboard.startMatch(mexico, canada);
+        var match2 = indexedScoreboard.startMatch(spain, brazil);
+        var match3 = indexedScoreboard.startMatch(germany, france);
+        var match4 = indexedScoreboard.startMatch(uruguay, italy);
+        var match5 = indexedScoreboard.startMatch(argentina, australia);
+
+        indexedScoreboard.updateScore(match1.id(), new Score(0, 5));
+        indexedScoreboard.updateScore(match2.id(), new Score(10, 2));
+        indexedScoreboard.updateScore(match3.id(), new Score(2, 2));
+        indexedScoreboard.updateScore(match4.id(), new Score(6, 6));
+        indexedScoreboard.updateScore(match5.id(), new Score(3, 1));
+        indexedScoreboard.updateScore(match5.id(), new Score(3, 1));
+
+        var activeMatchesSummary = indexedScoreboard.getActiveMatchesSummary();
+
+        assertEquals(5, activeMatchesSummary.size());
+        assertEquals(match4.id(), activeMatchesSummary.get(0).id());
+        assertEquals(match2.id(), activeMatchesSummary.get(1).id());
+        assertEquals(match1.id(), activeMatchesSummary.get(2).id());
+        assertEquals(match5.id(), activeMatchesSummary.get(3).id());
+        assertEquals(match3.id(), activeMatchesSummary.get(4).id());
+
+        indexedScoreboard.finishMatch(match2.id());
+        indexedScoreboard.updateScore(match3.id(), new Score(7, 6));
+
+        activeMatchesSummary = indexedScoreboard.getActiveMatchesSummary();
+
+        assertEquals(4, activeMatchesSummary.size());
+        assertEquals(match3.id(), activeMatchesSummary.get(0).id());
+        assertEquals(13, activeMatchesSummary.get(0).score().homeTeamScore() + activeMatchesSummary.get(0).score().awayTeamScore());
+        assertEquals(match4.id(), activeMatchesSummary.get(1).id());
+        assertEquals(match1.id(), activeMatchesSummary.get(2).id());
+        assertEquals(match5.id(), activeMatchesSummary.get(3).id());
+    }
+
+    @Test
+    public void givenSlotStore_whenScoresAreSet_thenSummaryAndFinishedMatchesReflectLatestScores() {
+        var slotScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createSlotInMemoryMatchDataStore());
+        var mexico = new Team("Mexico");
+        var canada = new Team("Canada");
+        var spain = new Team("Spain");
+        var brazil = new Team("Brazil");
+
+        var match1 = slotScoreboard.startMatch(mexico, canada);
+        var match2 = slotScoreboard.startMatch(spain, brazil);
+
+        slotScoreboard.setScore(match1.id(), 0, 5);
+        slotScoreboard.setScore(match2.id(), 1, 1);
+        slotScoreboard.updateScore(match2.id(), new Score(4, 2));
+
+        var activeMatchesSummary = slotScoreboard.getActiveMatchesSummary();
+
+        assertEquals(2, activeMatchesSummary.size());
+        assertEquals(match2.id(), activeMatchesSummary.get(0).id());
+        assertEquals(new Score(4, 2), activeMatchesSummary.get(0).score());
+        assertEquals(match1.id(), activeMatchesSummary.get(1).id());
+        assertEquals(new Score(0, 5), activeMatchesSummary.get(1).score());
+        assertThrows(ScoreboardException.class, () -> slotScoreboard.setScore(match1.id(), -1, 0));
+
+        slotScoreboard.finishMatch(match1.id());
+
+        assertThrows(MatchStoreException.class, () -> slotScoreboard.setScore(match1.id(), 1, 5));
+        assertEquals(new Score(0, 5), slotScoreboard.getAllFinishedMatches().get(0).score());
+        assertEquals(1, slotScoreboard.getActiveMatchesSummary().size());
+        assertDoesNotThrow(() -> slotScoreboard.startMatch(canada, mexico));
+    }
+
+    @Test
+    public void givenSlotStore_whenScoreIsUpdatedConcurrently_thenKeepEveryUpdate() throws InterruptedException {
+        var threadCount = 8;
+        var updatesPerThread = 2_000;
+        var slotStore = MatchDataStoreFactory.createSlotInMemoryMatchDataStore();
+        var slotScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, slotStore);
+        var match = slotScoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        var executor = Executors.newFixedThreadPool(threadCount);
+        var latch = new CountDownLatch(threadCount);
+
+        for (int thread = 0; thread < threadCount; thread++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        slotStore.update(match.id(), current -> new Match(current.id(), current.startTime(), null,
+                                current.homeTeam(), current.awayTeam(),
+                                new Score(current.score().homeTeamScore() + 1, current.score().awayTeamScore())));
+                    }
+                } finally {
+                    latch.countDown();
                 }
-            } finally {
-                latch.countDown();
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertEquals(threadCount * updatesPerThread, slotScoreboard.getActiveMatchesSummary().get(0).score().homeTeamScore());
+    }
+
+    @Test
+    public void givenSummaryCachingStore_whenSummaryReadRepeatedly_thenRebuildOnlyAfterMutations() {
+        var cachingStore = MatchDataStoreFactory.createSummaryCachingMatchDataStore(MatchDataStoreFactory.createInMemoryMatchDataStore());
+        var cachingScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, cachingStore);
+        var match1 = cachingScoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        var match2 = cachingScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        var firstSummary = cachingScoreboard.getActiveMatchesSummary();
+        var secondSummary = cachingScoreboard.getActiveMatchesSummary();
+
+        assertSame(firstSummary, secondSummary);
+        assertThrows(UnsupportedOperationException.class, () -> firstSummary.remove(0));
+        assertEquals(new SummaryCacheStats(1, 1, 1), cachingStore.getSummaryCacheStats());
+
+        cachingScoreboard.updateScore(match1.id(), new Score(2, 1));
+        var updatedSummary = cachingScoreboard.getActiveMatchesSummary();
+
+        assertNotSame(firstSummary, updatedSummary);
+        assertEquals(match1.id(), updatedSummary.get(0).id());
+        assertEquals(match2.id(), updatedSummary.get(1).id());
+        assertEquals(new SummaryCacheStats(1, 2, 2), cachingStore.getSummaryCacheStats());
+
+        cachingScoreboard.finishMatch(match2.id());
+
+        assertEquals(1, cachingStore.countActive());
+        assertEquals(1, cachingStore.countFinished());
+    }
+
+    @Test
+    public void givenSummaryCachingStoreWithRefreshInterval_whenMutated_thenServeSnapshotUntilIntervalElapses() {
+        var cachingStore = MatchDataStoreFactory.createSummaryCachingMatchDataStore(MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                SummaryCachePolicy.minRefreshInterval(Duration.ofHours(1)));
+        var cachingScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, cachingStore);
+        cachingScoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        var summary = cachingScoreboard.getActiveMatchesSummary();
+        cachingScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        assertSame(summary, cachingScoreboard.getActiveMatchesSummary());
+        assertEquals(1, cachingStore.getSummaryCacheStats().rebuilds());
+    }
+
+    @Test
+    public void givenShardedStore_whenMatchesRunInDifferentGroups_thenMergeGroupSummaries() {
+        var shardedStore = MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL,
+                match -> match.homeTeam().name().substring(0, 7), FinishedMatchesArchivePolicy.unbounded());
+        var shardedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, shardedStore);
+        var mexico = new Team("Group A Mexico");
+        var canada = new Team("Group A Canada");
+        var spain = new Team("Group B Spain");
+        var brazil = new Team("Group B Brazil");
+        var germany = new Team("Group A Germany");
+        var france = new Team("Group A France");
+
+        var match1 = shardedScoreboard.startMatch(mexico, canada);
+        var match2 = shardedScoreboard.startMatch(spain, brazil);
+        var match3 = shardedScoreboard.startMatch(germany, france);
+        shardedScoreboard.updateScore(match1.id(), new Score(0, 5));
+        shardedScoreboard.updateScore(match2.id(), new Score(10, 2));
+        shardedScoreboard.updateScore(match3.id(), new Score(2, 2));
+
+        assertThrows(MatchStoreException.class, () -> shardedScoreboard.startMatch(new Team("Group B Italy"), mexico));
+        assertEquals(Set.of("Group A", "Group B"), shardedStore.getShardKeys());
+
+        var groupASummary = shardedStore.getActiveSummary("Group A");
+        var activeMatchesSummary = shardedScoreboard.getActiveMatchesSummary();
+
+        assertEquals(List.of(match1.id(), match3.id()), groupASummary.stream().map(Match::id).toList());
+        assertEquals(List.of(match2.id(), match1.id(), match3.id()), activeMatchesSummary.stream().map(Match::id).toList());
+
+        shardedScoreboard.finishMatch(match2.id());
+
+        assertEquals(List.of(match1.id(), match3.id()), shardedScoreboard.getActiveMatchesSummary().stream().map(Match::id).toList());
+        assertEquals(match2.id(), shardedScoreboard.getAllFinishedMatches().get(0).id());
+        assertEquals(Set.of("Group A"), shardedStore.getShardKeys());
+        assertTrue(shardedStore.getActiveSummary("Group B").isEmpty());
+        assertDoesNotThrow(() -> shardedScoreboard.startMatch(brazil, new Team("Group B Italy")));
+        assertEquals(Set.of("Group A", "Group B"), shardedStore.getShardKeys());
+    }
+
+    @Test
+    public void givenOffHeapStore_whenMatchesStartUpdateAndFinish_thenMaterializeSameMatches() {
+        var offHeapScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(2)));
+        var mexico = new Team("Mexico");
+        var canada = new Team("Canada");
+        var finishedMatchIds = new ArrayList<UUID>();
+
+        for (int i = 0; i < 3; i++) {
+            var match = offHeapScoreboard.startMatch(mexico, canada);
+            offHeapScoreboard.updateScore(match.id(), new Score(i, 1));
+            offHeapScoreboard.finishMatch(match.id());
+            finishedMatchIds.add(match.id());
+        }
+        var match1 = offHeapScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        var match2 = offHeapScoreboard.startMatch(mexico, canada);
+        offHeapScoreboard.setScore(match2.id(), 3, 3);
+
+        assertThrows(MatchStoreException.class, () -> offHeapScoreboard.startMatch(canada, new Team("Italy")));
+
+        var activeMatchesSummary = offHeapScoreboard.getActiveMatchesSummary();
+        var finishedMatches = offHeapScoreboard.getAllFinishedMatches();
+
+        assertEquals(List.of(match2.id(), match1.id()), activeMatchesSummary.stream().map(Match::id).toList());
+        assertEquals(match1.startTime(), activeMatchesSummary.get(1).startTime());
+        assertEquals(mexico, activeMatchesSummary.get(0).homeTeam());
+        assertEquals(finishedMatchIds.subList(1, 3), finishedMatches.stream().map(Match::id).toList());
+        assertEquals(new Score(2, 1), finishedMatches.get(1).score());
+        assertEquals(finishedMatches.subList(1, 2), offHeapScoreboard.getFinishedMatches(finishedMatches.get(0).endTime(), 5));
+    }
+
+    @Test
+    public void givenTeamRegistry_whenMatchesUseCopiesOfSameTeams_thenShareInternedTeams() {
+        var teamRegistry = ScoreboardFactory.createTeamRegistry();
+        var registryScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.unbounded(), teamRegistry),
+                ScoreboardOptions.defaults().withTeamRegistry(teamRegistry));
+        var spain = teamRegistry.register("Spain");
+        var france = new Team("France");
+
+        assertSame(spain, teamRegistry.register("Spain"));
+        assertNotEquals(teamRegistry.surrogateIdOf(spain), teamRegistry.surrogateIdOf(france));
+
+        var match = registryScoreboard.startMatch(new Team(spain.id(), "Spain"), new Team(france.id(), "France"));
+
+        assertSame(spain, match.homeTeam());
+        assertSame(teamRegistry.intern(france), match.awayTeam());
+        assertSame(france, teamRegistry.findByName("France").orElseThrow());
+        assertEquals(2, teamRegistry.size());
+        assertThrows(ScoreboardException.class, () -> registryScoreboard.startMatch(spain, new Team(spain.id(), "Spain")));
+        var germany = new Team("Germany");
+        assertThrows(ScoreboardException.class, () -> registryScoreboard.startMatch(germany, germany));
+        assertEquals(2, teamRegistry.size());
+        assertThrows(MatchStoreException.class, () -> registryScoreboard.startMatch(new Team(france.id(), "France"), new Team("Italy")));
+
+        registryScoreboard.finishMatch(match.id());
+
+        assertDoesNotThrow(() -> registryScoreboard.startMatch(france, spain));
+    }
+
+    @Test
+    public void givenAsyncScoreboard_whenVirtualThreadsSubmitCommands_thenApplyThemInOrderPerMatch() throws Exception {
+        var completions = new AtomicInteger();
+        Executor completionExecutor = task -> {
+            completions.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        };
+        var asyncScoreboard = ScoreboardFactory.createAsyncScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                new AsyncScoreboardPolicy(4, 64, 16).withCompletionExecutor(completionExecutor));
+        var matchCount = 100;
+        var matches = new ArrayList<Match>();
+        for (int i = 0; i < matchCount; i++) {
+            matches.add(asyncScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i)).get(5, TimeUnit.SECONDS));
+        }
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var match : matches) {
+                executor.submit(() -> {
+                    var lastUpdate = asyncScoreboard.updateScore(match.id(), new Score(0, 0));
+                    for (int goals = 1; goals <= 10; goals++) {
+                        lastUpdate = asyncScoreboard.updateScore(match.id(), new Score(goals, 0));
+                    }
+                    return lastUpdate.join();
+                });
+            }
+        }
+
+        var failedUpdate = asyncScoreboard.updateScore(matches.get(0).id(), new Score(-1, 0));
+        var finishedMatch = asyncScoreboard.finishMatch(matches.get(0).id());
+
+        assertInstanceOf(ScoreboardException.class, assertThrows(ExecutionException.class, failedUpdate::get).getCause());
+        assertDoesNotThrow(() -> finishedMatch.get(5, TimeUnit.SECONDS));
+        assertEquals(matchCount - 1, asyncScoreboard.getActiveMatchesSummary().size());
+        assertTrue(asyncScoreboard.getActiveMatchesSummary().stream().allMatch(match -> match.score().homeTeamScore() == 10));
+        assertEquals(new Score(10, 0), asyncScoreboard.getAllFinishedMatches().get(0).score());
+        assertEquals(matchCount + matchCount * 11 + 2, completions.get());
+
+        asyncScoreboard.close();
+
+        assertThrows(ExecutionException.class, () -> asyncScoreboard.startMatch(new Team("Spain"), new Team("Brazil")).get());
+    }
+
+    @Test
+    public void givenQueuedCommands_whenPipelineWriterIsInterrupted_thenFailEveryPendingCommand() throws Exception {
+        var writer = new AtomicReference<Thread>();
+        var released = new AtomicBoolean();
+        Executor blockingCompletionExecutor = task -> {
+            writer.compareAndSet(null, Thread.currentThread());
+            while (!released.get()) {
+                Thread.onSpinWait();
             }
+            task.run();
         };
+        var asyncScoreboard = ScoreboardFactory.createAsyncScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                new AsyncScoreboardPolicy(1, 64, 1).withCompletionExecutor(blockingCompletionExecutor));
+
+        var applied = asyncScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        while (writer.get() == null) {
+            Thread.onSpinWait();
+        }
+        var queued = List.of(asyncScoreboard.startMatch(new Team("Germany"), new Team("France")),
+                asyncScoreboard.startMatch(new Team("Italy"), new Team("Argentina")));
+        writer.get().interrupt();
+        released.set(true);
+
+        assertDoesNotThrow(() -> applied.get(5, TimeUnit.SECONDS));
+        for (var future : queued) {
+            assertInstanceOf(ScoreboardException.class,
+                    assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS)).getCause());
+        }
+        writer.get().join(5_000);
+        var afterInterrupt = asyncScoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        assertInstanceOf(ScoreboardException.class,
+                assertThrows(ExecutionException.class, () -> afterInterrupt.get(5, TimeUnit.SECONDS)).getCause());
+        asyncScoreboard.close();
+    }
+
+    @Test
+    public void givenInstrumentedScoreboard_whenOperationsRun_thenRecordLatenciesCountersAndGauges() throws Exception {
+        var metricsRegistry = MetricsFactory.createInMemoryMetricsRegistry();
+        var matchDataStore = MatchDataStoreFactory.createInstrumentedMatchDataStore(
+                MatchDataStoreFactory.createInMemoryMatchDataStore(), metricsRegistry);
+        var instrumentedScoreboard = ScoreboardFactory.createInstrumentedScoreboard(
+                ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore), metricsRegistry);
+
+        var match = instrumentedScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        instrumentedScoreboard.updateScore(match.id(), new Score(1, 0));
+        instrumentedScoreboard.setScore(match.id(), 2, 0);
+        assertThrows(ScoreboardException.class, () -> instrumentedScoreboard.updateScore(match.id(), new Score(-1, 0)));
+        instrumentedScoreboard.getActiveMatchesSummary();
+
+        var snapshot = metricsRegistry.snapshot();
+
+        assertEquals(1, snapshot.latencies().get("scoreboard.startMatch").count());
+        assertEquals(2, snapshot.latencies().get("scoreboard.updateScore").count());
+        assertEquals(1, snapshot.latencies().get("scoreboard.setScore").count());
+        assertEquals(1, snapshot.latencies().get("store.save").count());
+        assertTrue(snapshot.latencies().get("scoreboard.startMatch").maxNanos() > 0);
+        assertEquals(1L, snapshot.counters().get("scoreboard.validationFailures"));
+        assertEquals(0L, snapshot.counters().get("scoreboard.storeFailures"));
+        assertEquals(1L, snapshot.gauges().get("store.activeMatches"));
+
+        metricsRegistry.setEnabled(false);
+        instrumentedScoreboard.finishMatch(match.id());
+
+        assertEquals(0, metricsRegistry.snapshot().latencies().get("scoreboard.finishMatch").count());
+        assertEquals(1L, metricsRegistry.snapshot().gauges().get("store.finishedMatches"));
+
+        var objectName = MetricsFactory.registerMBean(metricsRegistry, "com.hhamzic1.scoreboards:type=Metrics,name=test");
+        var mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(1L, mBeanServer.getAttribute(objectName, "scoreboard.startMatch.count"));
+            assertEquals(1L, mBeanServer.getAttribute(objectName, "store.finishedMatches"));
+            assertEquals(false, mBeanServer.getAttribute(objectName, "Enabled"));
+            var reflectionException = assertThrows(ReflectionException.class,
+                    () -> mBeanServer.invoke(objectName, "reset", new Object[0], new String[0]));
+            assertInstanceOf(NoSuchMethodException.class, reflectionException.getTargetException());
+        } finally {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    public void givenActiveMatches_whenQueryingTopMatchesPagesAndRanks_thenMatchFullSummary() {
+        var matchDataStores = List.of(MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL),
+                MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL, 4),
+                MatchDataStoreFactory.createSlotInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore());
+
+        for (var matchDataStore : matchDataStores) {
+            var pagedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore);
+            for (int i = 0; i < 50; i++) {
+                var match = pagedScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+                pagedScoreboard.updateScore(match.id(), new Score(i % 7, i % 3));
+            }
+
+            var summary = pagedScoreboard.getActiveMatchesSummary();
+
+            assertEquals(summary.subList(0, 10), pagedScoreboard.getTopMatches(10));
+            assertEquals(summary, pagedScoreboard.getTopMatches(100));
+            assertEquals(summary.subList(20, 30), pagedScoreboard.getActiveMatchesSummary(20, 10));
+            assertEquals(summary.subList(45, 50), pagedScoreboard.getActiveMatchesSummary(45, 10));
+            assertTrue(pagedScoreboard.getActiveMatchesSummary(50, 10).isEmpty());
+            assertEquals(13, pagedScoreboard.getRankedMatch(summary.get(12).id()).orElseThrow().rank());
+            assertTrue(pagedScoreboard.getRankedMatch(UUID.randomUUID()).isEmpty());
+            assertThrows(ScoreboardException.class, () -> pagedScoreboard.getTopMatches(0));
+            assertThrows(ScoreboardException.class, () -> pagedScoreboard.getActiveMatchesSummary(-1, 10));
+        }
+    }
+
+    @Test
+    public void givenShuffledScoresAndFinishes_whenRankingFromSummaryIndex_thenEveryRankMatchesSummaryPosition() {
+        var indexedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL));
+        var random = new Random(11);
+        var matchIds = new ArrayList<UUID>();
+        for (int i = 0; i < 500; i++) {
+            matchIds.add(indexedScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i)).id());
+        }
+        for (int i = 0; i < 2_000; i++) {
+            var matchId = matchIds.get(random.nextInt(matchIds.size()));
+            indexedScoreboard.setScore(matchId, random.nextInt(6), random.nextInt(6));
+        }
+        for (int i = 0; i < 150; i++) {
+            indexedScoreboard.finishMatch(matchIds.remove(random.nextInt(matchIds.size())));
+        }
+
+        var summary = indexedScoreboard.getActiveMatchesSummary();
+
+        assertEquals(matchIds.size(), summary.size());
+        for (int i = 0; i < summary.size(); i++) {
+            assertEquals(i + 1, indexedScoreboard.getRankedMatch(summary.get(i).id()).orElseThrow().rank());
+        }
+        assertEquals(summary.subList(100, 120), indexedScoreboard.getActiveMatchesSummary(100, 20));
+    }
+
+    @Test
+    public void givenConcurrentIngesters_whenUpdatingScoreIfVersion_thenNoUpdateIsLost() throws Exception {
+        var matchDataStores = List.of(MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL, 4),
+                MatchDataStoreFactory.createSlotInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore());
+
+        for (var matchDataStore : matchDataStores) {
+            var versionedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore);
+            var match = versionedScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+            var ingesters = 4;
+            var goalsPerIngester = 250;
+            var conflicts = new AtomicInteger();
+
+            try (var executor = Executors.newFixedThreadPool(ingesters)) {
+                for (int i = 0; i < ingesters; i++) {
+                    executor.submit(() -> {
+                        for (int goal = 0; goal < goalsPerIngester; goal++) {
+                            while (true) {
+                                var current = versionedScoreboard.getVersionedMatch(match.id()).orElseThrow();
+                                var score = current.match().score();
+                                try {
+                                    versionedScoreboard.updateScoreIfVersion(match.id(), current.version(),
+                                            new Score(score.homeTeamScore() + 1, score.awayTeamScore()));
+                                    break;
+                                } catch (MatchVersionConflictException e) {
+                                    conflicts.incrementAndGet();
+                                }
+                            }
+                        }
+                    });
+                }
+            }
+
+            var versionedMatch = versionedScoreboard.getVersionedActiveMatchesSummary().get(0);
+
+            assertEquals(ingesters * goalsPerIngester, versionedMatch.match().score().homeTeamScore());
+            assertEquals(ingesters * goalsPerIngester, versionedMatch.version());
+
+            var conflict = assertThrows(MatchVersionConflictException.class,
+                    () -> versionedScoreboard.updateScoreIfVersion(match.id(), 0, new Score(0, 0)));
+
+            assertEquals(0, conflict.getExpectedVersion());
+            assertEquals(ingesters * goalsPerIngester, conflict.getActualVersion());
+
+            versionedScoreboard.updateScore(match.id(), new Score(0, 1));
+
+            assertEquals(ingesters * goalsPerIngester + 1, versionedScoreboard.getVersionedMatch(match.id()).orElseThrow().version());
+        }
+    }
+
+    @Test
+    public void givenExportedStore_whenImportingIntoAnotherStore_thenRestoreActiveAndFinishedMatches() {
+        var sourceStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var sourceScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, sourceStore);
+        var spain = new Team("Spain");
+        var brazil = new Team("Brazil");
+        var germany = new Team("Germany");
+        var france = new Team("France");
+        var match1 = sourceScoreboard.startMatch(spain, brazil);
+        var match2 = sourceScoreboard.startMatch(germany, france);
+        sourceScoreboard.startMatch(new Team("Italy"), new Team("England"));
+        sourceScoreboard.updateScore(match1.id(), new Score(1, 0));
+        sourceScoreboard.updateScore(match1.id(), new Score(2, 0));
+        sourceScoreboard.updateScore(match2.id(), new Score(0, 3));
+        sourceScoreboard.finishMatch(match2.id());
+
+        var exported = new ByteArrayOutputStream();
+        sourceStore.exportTo(Channels.newChannel(exported));
+
+        List<InMemoryMatchDataStore> targetStores = List.of(MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL, 2),
+                MatchDataStoreFactory.createSlotInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore());
+        for (var targetStore : targetStores) {
+            targetStore.importFrom(Channels.newChannel(new ByteArrayInputStream(exported.toByteArray())));
+            var targetScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, targetStore);
+
+            assertEquals(sourceScoreboard.getVersionedActiveMatchesSummary(), targetScoreboard.getVersionedActiveMatchesSummary());
+            assertEquals(sourceScoreboard.getAllFinishedMatches(), targetScoreboard.getAllFinishedMatches());
+            assertThrows(MatchStoreException.class, () -> targetScoreboard.startMatch(spain, france));
+
+            var newMatch = targetScoreboard.startMatch(germany, france);
+
+            assertEquals(newMatch, targetScoreboard.getActiveMatchesSummary().get(1));
+        }
+
+        assertThrows(MatchStoreException.class, () -> MatchDataStoreFactory.createInMemoryMatchDataStore()
+                .importFrom(Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(exported.toByteArray(), 40)))));
+    }
+
+    @Test
+    public void givenBasketballHandballAndCustomRanking_whenScoresChange_thenRankAndValidatePerSport() {
+        var basketballScoreboards = List.of(ScoreboardFactory.createScoreboard(SportType.BASKETBALL),
+                ScoreboardFactory.createScoreboard(SportType.BASKETBALL,
+                        MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.BASKETBALL)));
+        for (var basketballScoreboard : basketballScoreboards) {
+            var blowout = basketballScoreboard.startMatch(new Team("Lakers"), new Team("Celtics"));
+            var closeGame = basketballScoreboard.startMatch(new Team("Bulls"), new Team("Knicks"));
+            var lowScoring = basketballScoreboard.startMatch(new Team("Heat"), new Team("Spurs"));
+            basketballScoreboard.setScore(blowout.id(), 120, 78);
+            basketballScoreboard.setScore(closeGame.id(), 100, 98);
+            basketballScoreboard.setScore(lowScoring.id(), 90, 80);
+
+            assertEquals(List.of(closeGame.id(), blowout.id(), lowScoring.id()),
+                    basketballScoreboard.getActiveMatchesSummary().stream().map(Match::id).toList());
+            assertEquals(2, basketballScoreboard.getRankedMatch(blowout.id()).orElseThrow().rank());
+            assertThrows(ScoreboardException.class, () -> basketballScoreboard.setScore(blowout.id(), 1000, 78));
+        }
+
+        var handballScoreboard = ScoreboardFactory.createScoreboard(SportType.HANDBALL);
+        var handballMatch = handballScoreboard.startMatch(new Team("Denmark"), new Team("Sweden"));
+        handballScoreboard.setScore(handballMatch.id(), 31, 29);
+
+        assertThrows(ScoreboardException.class, () -> handballScoreboard.setScore(handballMatch.id(), 100, 29));
+        assertThrows(ScoreboardException.class, () -> handballScoreboard.setScore(handballMatch.id(), -1, 29));
+
+        RankingStrategy lowestTotalFirst = (homeTeamScore, awayTeamScore, startTime) ->
+                RankingStrategy.packed(RankingStrategy.MAX_RANK - homeTeamScore - awayTeamScore, startTime);
+        var customScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(lowestTotalFirst,
+                        FinishedMatchesArchivePolicy.unbounded()), ScoreboardOptions.defaults().withRankingStrategy(lowestTotalFirst));
+        var highScoring = customScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        var goalless = customScoreboard.startMatch(new Team("Germany"), new Team("France"));
+        customScoreboard.setScore(highScoring.id(), 4, 3);
+
+        assertEquals(List.of(goalless.id(), highScoring.id()),
+                customScoreboard.getActiveMatchesSummary().stream().map(Match::id).toList());
+        assertEquals(List.of(goalless.id()), customScoreboard.getTopMatches(1).stream().map(Match::id).toList());
+        assertThrows(ScoreboardException.class, () -> customScoreboard.setScore(goalless.id(), RankingStrategy.MAX_RANK, 1));
+        assertEquals(new Score(0, 0), customScoreboard.getActiveMatchesSummary().get(0).score());
+
+        var footballStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var footballScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, footballStore);
+        var kickOff = OffsetDateTime.parse("2026-06-11T18:00:00.000200Z");
+        var laterKickOff = new Match(UUID.randomUUID(), kickOff.plusNanos(500_000), null, new Team("Mexico"), new Team("Canada"), new Score(0, 0));
+        var earlierKickOff = new Match(UUID.randomUUID(), kickOff, null, new Team("Spain"), new Team("Brazil"), new Score(0, 0));
+        footballStore.save(laterKickOff.id(), laterKickOff);
+        footballStore.save(earlierKickOff.id(), earlierKickOff);
+
+        assertEquals(List.of(laterKickOff.id(), earlierKickOff.id()),
+                footballScoreboard.getActiveMatchesSummary().stream().map(Match::id).toList());
+        assertThrows(ScoreboardException.class, () -> footballScoreboard.setScore(laterKickOff.id(), RankingStrategy.MAX_RANK, 1));
+
+        var preEpochScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                ScoreboardOptions.defaults().withClock(ClockFactory.createDeterministicClock(
+                        OffsetDateTime.parse("1966-07-30T15:00:00Z"), Duration.ofMinutes(1))));
+
+        assertThrows(ScoreboardException.class, () -> preEpochScoreboard.startMatch(new Team("England"), new Team("West Germany")));
+        assertTrue(preEpochScoreboard.getActiveMatchesSummary().isEmpty());
+
+        var lastRankableStart = OffsetDateTime.ofInstant(Instant.ofEpochMilli(RankingStrategy.MAX_START_MILLIS), ZoneOffset.UTC);
+        var boundaryScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                ScoreboardOptions.defaults().withClock(ClockFactory.createDeterministicClock(lastRankableStart, Duration.ofMillis(1))));
+        var lastRankableMatch = boundaryScoreboard.startMatch(new Team("Italy"), new Team("Uruguay"));
+        boundaryScoreboard.setScore(lastRankableMatch.id(), RankingStrategy.MAX_RANK, 0);
+
+        assertEquals(new Score(RankingStrategy.MAX_RANK, 0), boundaryScoreboard.getActiveMatchesSummary().get(0).score());
+        assertThrows(ScoreboardException.class, () -> boundaryScoreboard.setScore(lastRankableMatch.id(), RankingStrategy.MAX_RANK, 1));
+        assertThrows(ScoreboardException.class, () -> boundaryScoreboard.startMatch(new Team("Chile"), new Team("Peru")));
+        assertEquals(1, boundaryScoreboard.getActiveMatchesSummary().size());
+    }
+
+    @Test
+    public void givenScoreChanges_whenQueryingPastSummariesAndHistory_thenAnswerFromTimelines() throws InterruptedException {
+        var timelineScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                ScoreboardOptions.defaults().withTimelinePolicy(ScoreTimelinePolicy.unbounded()));
+        var spainBrazil = timelineScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        var germanyFrance = timelineScoreboard.startMatch(new Team("Germany"), new Team("France"));
+        Thread.sleep(5);
+        var beforeGoals = Instant.now();
+        Thread.sleep(5);
+        timelineScoreboard.updateScore(germanyFrance.id(), new Score(1, 0));
+        timelineScoreboard.setScore(spainBrazil.id(), 2, 0);
+        Thread.sleep(5);
+        var afterGoals = Instant.now();
+        Thread.sleep(5);
+        timelineScoreboard.updateScores(Map.of(germanyFrance.id(), new Score(3, 0)));
+        timelineScoreboard.finishMatch(spainBrazil.id());
+        Thread.sleep(5);
+        var afterFinish = Instant.now();
+
+        assertEquals(List.of(new Score(0, 0), new Score(0, 0)), timelineScoreboard.getActiveMatchesSummaryAt(beforeGoals).stream()
+                .map(Match::score).toList());
+        assertEquals(List.of(new Match(spainBrazil, new Score(2, 0)), new Match(germanyFrance, new Score(1, 0))),
+                timelineScoreboard.getActiveMatchesSummaryAt(afterGoals));
+        assertEquals(List.of(new Match(germanyFrance, new Score(3, 0))), timelineScoreboard.getActiveMatchesSummaryAt(afterFinish));
+        assertEquals(List.of(), timelineScoreboard.getActiveMatchesSummaryAt(spainBrazil.startTime().toInstant().minusSeconds(1)));
+        assertEquals(List.of(new Score(0, 0), new Score(1, 0), new Score(3, 0)),
+                timelineScoreboard.getScoreHistory(germanyFrance.id()).stream().map(ScoreChange::score).toList());
+        assertEquals(List.of(), timelineScoreboard.getScoreHistory(UUID.randomUUID()));
+        assertThrows(ScoreboardException.class, () -> timelineScoreboard.getActiveMatchesSummaryAt(null));
+        assertThrows(ScoreboardException.class, () -> scoreboard.getScoreHistory(germanyFrance.id()));
+        assertThrows(ScoreboardException.class, () -> scoreboard.getActiveMatchesSummaryAt(afterGoals));
+
+        var boundedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                ScoreboardOptions.defaults().withTimelinePolicy(ScoreTimelinePolicy.maxFinishedMatches(1)));
+        var first = boundedScoreboard.startMatch(new Team("Italy"), new Team("England"));
+        var second = boundedScoreboard.startMatch(new Team("Portugal"), new Team("Croatia"));
+        boundedScoreboard.finishMatch(first.id());
+        boundedScoreboard.finishMatch(second.id());
+
+        assertEquals(List.of(), boundedScoreboard.getScoreHistory(first.id()));
+        assertEquals(1, boundedScoreboard.getScoreHistory(second.id()).size());
+    }
+
+    @Test
+    public void givenConcurrentStartsAtSameInstant_whenQueryingPastSummary_thenBreakTiesInStoreOrder() throws Exception {
+        var kickOff = OffsetDateTime.parse("2026-06-11T18:00:00Z");
+        var timelineScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                ScoreboardOptions.defaults().withClock(() -> kickOff).withTimelinePolicy(ScoreTimelinePolicy.unbounded()));
+        var threads = 8;
+        var startsPerThread = 250;
+        var ready = new CountDownLatch(threads);
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var starts = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < threads; thread++) {
+                var prefix = "Team-" + thread + "-";
+                starts.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    for (int i = 0; i < startsPerThread; i++) {
+                        timelineScoreboard.startMatch(new Team(prefix + i + "-home"), new Team(prefix + i + "-away"));
+                    }
+                    return null;
+                }));
+            }
+            for (var start : starts) {
+                start.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(timelineScoreboard.getActiveMatchesSummary(), timelineScoreboard.getActiveMatchesSummaryAt(kickOff.toInstant()));
+
+        var activeMatches = timelineScoreboard.getActiveMatchesSummary();
+        var scores = new LinkedHashMap<UUID, Score>();
+        activeMatches.subList(0, 100).forEach(match -> scores.put(match.id(), new Score(1, 1)));
+        timelineScoreboard.updateScores(scores);
+        timelineScoreboard.finishMatches(activeMatches.subList(100, 200).stream().map(Match::id).toList());
+
+        assertEquals(timelineScoreboard.getActiveMatchesSummary(), timelineScoreboard.getActiveMatchesSummaryAt(kickOff.toInstant()));
+        assertEquals(List.of(new Score(0, 0), new Score(1, 1)),
+                timelineScoreboard.getScoreHistory(activeMatches.get(0).id()).stream().map(ScoreChange::score).toList());
+    }
+
+    @Test
+    public void givenReplicatedStore_whenLeaderIsWritten_thenFollowersServeReplicatedReads() {
+        var spain = new Team("Spain");
+        var brazil = new Team("Brazil");
+        var germany = new Team("Germany");
+        var france = new Team("France");
+
+        for (var replicationPolicy : List.of(ReplicationPolicy.inProcess(2), ReplicationPolicy.tcpLoopback(2).withMaxBatchSize(2))) {
+            try (var replicatedStore = MatchDataStoreFactory.createReplicatedSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL,
+                    FinishedMatchesArchivePolicy.unbounded(), replicationPolicy)) {
+                var leaderScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, replicatedStore);
+                var match1 = leaderScoreboard.startMatch(spain, brazil);
+                var match2 = leaderScoreboard.startMatch(germany, france);
+                leaderScoreboard.updateScore(match1.id(), new Score(1, 0));
+                leaderScoreboard.updateScore(match2.id(), new Score(2, 2));
+                leaderScoreboard.finishMatch(match1.id());
+
+                assertTrue(replicatedStore.awaitReplication(Duration.ofSeconds(10)));
+                for (var follower : replicatedStore.getFollowers()) {
+                    var followerScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, follower);
+
+                    assertEquals(leaderScoreboard.getActiveMatchesSummary(), followerScoreboard.getActiveMatchesSummary());
+                    assertEquals(leaderScoreboard.getAllFinishedMatches(), followerScoreboard.getAllFinishedMatches());
+                    assertThrows(MatchStoreException.class, () -> followerScoreboard.startMatch(spain, brazil));
+                }
+                replicatedStore.getReplicationStats().forEach(stats -> {
+                    assertEquals(5, stats.leaderSequence());
+                    assertEquals(0, stats.pendingDeltas());
+                    assertEquals(5, stats.appliedDeltas());
+                });
+
+                replicatedStore.resync(1);
+                leaderScoreboard.updateScore(match2.id(), new Score(3, 2));
+
+                assertTrue(replicatedStore.awaitReplication(Duration.ofSeconds(10)));
+                assertEquals(1, replicatedStore.getReplicationStats().get(1).resyncs());
+                assertEquals(leaderScoreboard.getActiveMatchesSummary(),
+                        ScoreboardFactory.createScoreboard(SportType.FOOTBALL, replicatedStore.getFollowers().get(1)).getActiveMatchesSummary());
+            }
+        }
+    }
+
+    @Test
+    public void givenReplicatedStore_whenFollowerIsResyncedDuringWrites_thenCatchUpWithoutLosingDeltas() throws InterruptedException {
+        try (var replicatedStore = MatchDataStoreFactory.createReplicatedSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL,
+                FinishedMatchesArchivePolicy.unbounded(), ReplicationPolicy.inProcess(1))) {
+            var leaderScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, replicatedStore);
+            var writer = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    var match = leaderScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+                    leaderScoreboard.updateScore(match.id(), new Score(i % 7, i % 5));
+                    if (i % 3 == 0) {
+                        leaderScoreboard.finishMatch(match.id());
+                    }
+                }
+            });
+            for (int i = 0; i < 20; i++) {
+                replicatedStore.resync(0);
+            }
+            writer.join();
+
+            assertTrue(replicatedStore.awaitReplication(Duration.ofSeconds(10)));
+            var followerScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, replicatedStore.getFollowers().get(0));
+            var stats = replicatedStore.getReplicationStats().get(0);
+
+            assertEquals(leaderScoreboard.getActiveMatchesSummary(), followerScoreboard.getActiveMatchesSummary());
+            assertEquals(leaderScoreboard.getAllFinishedMatches(), followerScoreboard.getAllFinishedMatches());
+            assertFalse(stats.failed());
+            assertTrue(stats.resyncs() >= 1);
+        }
+    }
+
+    @Test
+    public void givenReplicatedStore_whenImportsAndClearsRaceWithResyncs_thenFinishAndConverge() {
+        try (var replicatedStore = MatchDataStoreFactory.createReplicatedSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL,
+                FinishedMatchesArchivePolicy.unbounded(), ReplicationPolicy.inProcess(1))) {
+            var leaderScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, replicatedStore);
+            for (int i = 0; i < 200; i++) {
+                leaderScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+            }
+            var exported = new ByteArrayOutputStream();
+            replicatedStore.exportTo(Channels.newChannel(exported));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                var importer = Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        replicatedStore.clear();
+                        leaderScoreboard.startMatch(new Team("Spain"), new Team("France"));
+                        replicatedStore.importFrom(Channels.newChannel(new ByteArrayInputStream(exported.toByteArray())));
+                    }
+                });
+                for (int i = 0; i < 200; i++) {
+                    replicatedStore.resync(0);
+                }
+                importer.join();
+            });
+
+            assertTrue(replicatedStore.awaitReplication(Duration.ofSeconds(10)));
+            var followerScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, replicatedStore.getFollowers().get(0));
+            assertEquals(leaderScoreboard.getActiveMatchesSummary(), followerScoreboard.getActiveMatchesSummary());
+        }
+    }
+
+    @Test
+    public void givenInjectedClocksAndIdGenerators_whenMatchesStartAndFinish_thenStampWithThem() {
+        var spain = new Team("Spain");
+        var brazil = new Team("Brazil");
+        var germany = new Team("Germany");
+        var france = new Team("France");
+        var kickOff = OffsetDateTime.parse("2026-06-11T18:00:00Z");
+
+        var replays = new ArrayList<List<Match>>();
+        for (int replay = 0; replay < 2; replay++) {
+            var deterministicScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                    MatchDataStoreFactory.createInMemoryMatchDataStore(), ScoreboardOptions.defaults()
+                            .withClock(ClockFactory.createDeterministicClock(kickOff, Duration.ofMinutes(1)))
+                            .withIdGenerator(ClockFactory.createDeterministicIdGenerator(2026)));
+            var match1 = deterministicScoreboard.startMatch(spain, brazil);
+            var match2 = deterministicScoreboard.startMatch(germany, france);
+            deterministicScoreboard.updateScore(match2.id(), new Score(1, 0));
+            deterministicScoreboard.finishMatch(match1.id());
+
+            assertEquals(kickOff, match1.startTime());
+            assertEquals(new UUID(2026, 1), match1.id());
+            var replayed = new ArrayList<>(deterministicScoreboard.getActiveMatchesSummary());
+            replayed.addAll(deterministicScoreboard.getAllFinishedMatches());
+            replays.add(replayed);
+        }
+        assertEquals(replays.get(0), replays.get(1));
+        assertEquals(kickOff.plusMinutes(2), replays.get(0).get(1).endTime());
+
+        var timeOrderedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(), ScoreboardOptions.defaults()
+                        .withClock(ClockFactory.createMonotonicClock())
+                        .withIdGenerator(ClockFactory.createTimeOrderedIdGenerator()));
+        var previous = timeOrderedScoreboard.startMatch(spain, brazil);
+        for (int i = 0; i < 100; i++) {
+            var next = timeOrderedScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+
+            assertEquals(7, next.id().version());
+            assertTrue(next.id().compareTo(previous.id()) > 0);
+            assertTrue(next.startTime().isAfter(previous.startTime()));
+            previous = next;
+        }
+
+        var coarseScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createInMemoryMatchDataStore(), ScoreboardOptions.defaults()
+                        .withClock(ClockFactory.createCachedClock(Duration.ofMinutes(1)))
+                        .withIdGenerator(ClockFactory.createRandomIdGenerator()));
+        var coarseMatch = coarseScoreboard.startMatch(spain, brazil);
+
+        assertEquals(0, coarseMatch.startTime().toInstant().toEpochMilli() % Duration.ofMinutes(1).toMillis());
+        assertThrows(ScoreboardException.class, () -> ClockFactory.createCachedClock(Duration.ZERO));
+    }
+
+    @Test
+    public void givenFinishedMatches_whenQueriedByTeam_thenReturnLatestFirstWithinArchive() {
+        var spain = new Team("Spain");
+        var brazil = new Team("Brazil");
+        var germany = new Team("Germany");
+        var france = new Team("France");
+        var kickOff = OffsetDateTime.parse("2026-06-11T18:00:00Z");
+
+        for (var matchDataStore : List.of(MatchDataStoreFactory.createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(5)),
+                MatchDataStoreFactory.createSlotInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(5)),
+                MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(5)))) {
+            var historyScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore,
+                    ScoreboardOptions.defaults().withClock(ClockFactory.createDeterministicClock(kickOff, Duration.ofMinutes(1))));
+            var finishedMatchIds = new ArrayList<UUID>();
+            for (var fixture : List.of(List.of(brazil, spain), List.of(spain, germany), List.of(brazil, germany),
+                    List.of(germany, brazil), List.of(brazil, france), List.of(spain, brazil))) {
+                var match = historyScoreboard.startMatch(fixture.get(0), fixture.get(1));
+                historyScoreboard.finishMatch(match.id());
+                finishedMatchIds.add(match.id());
+            }
+
+            assertEquals(List.of(finishedMatchIds.get(5), finishedMatchIds.get(4), finishedMatchIds.get(3)),
+                    historyScoreboard.getFinishedMatchesOf(brazil, 3).stream().map(Match::id).toList());
+            assertEquals(4, historyScoreboard.getFinishedMatchesOf(brazil, 10).size());
+            assertEquals(List.of(finishedMatchIds.get(3), finishedMatchIds.get(2)),
+                    historyScoreboard.getFinishedMatchesBetween(germany, brazil, 10).stream().map(Match::id).toList());
+            assertEquals(List.of(finishedMatchIds.get(5)),
+                    historyScoreboard.getFinishedMatchesBetween(brazil, spain, 10).stream().map(Match::id).toList());
+            assertTrue(historyScoreboard.getFinishedMatchesOf(new Team("Japan"), 5).isEmpty());
+            assertTrue(historyScoreboard.getFinishedMatchesBetween(france, germany, 5).isEmpty());
+            assertThrows(ScoreboardException.class, () -> historyScoreboard.getFinishedMatchesOf(null, 5));
+            assertThrows(ScoreboardException.class, () -> historyScoreboard.getFinishedMatchesBetween(brazil, spain, 0));
+        }
+    }
+
+    @Test
+    public void givenOffHeapStore_whenMatchesFinishOutOfOrderAndAreEvicted_thenTeamHistoryMatchesArchive() {
+        var archiveStore = MatchDataStoreFactory.createInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(50));
+        var offHeapStore = MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore(FinishedMatchesArchivePolicy.maxMatches(50));
+        var teams = new ArrayList<Team>();
+        for (int i = 0; i < 8; i++) {
+            teams.add(new Team("Team " + i));
+        }
+        var random = new Random(7);
+        var kickOff = OffsetDateTime.parse("2026-06-11T18:00:00Z");
+
+        for (int i = 0; i < 400; i++) {
+            var homeTeam = teams.get(random.nextInt(teams.size()));
+            var awayTeam = teams.get(Math.floorMod(teams.indexOf(homeTeam) + 1 + random.nextInt(teams.size() - 1), teams.size()));
+            var match = new Match(UUID.randomUUID(), kickOff.plusMinutes(i), null, homeTeam, awayTeam, new Score(0, 0));
+            var endTime = kickOff.plusMinutes(i + 90 - random.nextInt(30));
+            for (var matchDataStore : List.of(archiveStore, offHeapStore)) {
+                matchDataStore.save(match.id(), match);
+                matchDataStore.finish(match.id(), endTime);
+            }
+        }
+
+        for (var team : teams) {
+            assertEquals(archiveStore.getFinishedOfTeam(team.id(), 20), offHeapStore.getFinishedOfTeam(team.id(), 20));
+            for (var otherTeam : teams) {
+                assertEquals(archiveStore.getFinishedBetween(team.id(), otherTeam.id(), 5),
+                        offHeapStore.getFinishedBetween(team.id(), otherTeam.id(), 5));
+            }
+        }
+    }
+
+    @Test
+    public void givenCustomStoreWithOnlyCoreMethods_whenUsedByScoreboard_thenFallBackToDefaults() {
+        var backingStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var deletedMatchIds = new ArrayList<UUID>();
+        var customStore = new MatchDataStore() {
+            @Override
+            public Match save(UUID matchId, Match match) {
+                return backingStore.save(matchId, match);
+            }
+
+            @Override
+            public Match update(UUID matchId, UnaryOperator<Match> updater) {
+                return backingStore.update(matchId, updater);
+            }
+
+            @Override
+            public void delete(UUID matchId) {
+                backingStore.delete(matchId);
+            }
+
+            @Override
+            public Match finish(UUID matchId, OffsetDateTime endTime) {
+                deletedMatchIds.add(matchId);
+                return backingStore.finish(matchId, endTime);
+            }
+
+            @Override
+            public List<Match> getAllActive() {
+                return backingStore.getAllActive();
+            }
+
+            @Override
+            public List<Match> getAllActive(Comparator<?> comparator) {
+                return backingStore.getAllActive(comparator);
+            }
+
+            @Override
+            public List<Match> getAllFinished() {
+                return backingStore.getAllFinished();
+            }
+        };
+        var customScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, customStore);
+        var match1 = customScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        var match2 = customScoreboard.startMatch(new Team("Germany"), new Team("France"));
+        customScoreboard.updateScore(match2.id(), new Score(1, 0));
+        customScoreboard.finishMatch(match1.id());
+        customScoreboard.finishMatches(List.of(match2.id()));
+
+        assertEquals(List.of(match1.id(), match2.id()), deletedMatchIds);
+        assertEquals(2, customScoreboard.getAllFinishedMatches().size());
+        assertTrue(customScoreboard.getActiveMatchesSummary().isEmpty());
+    }
+
+    @Test
+    public void givenCustomStoreWithoutFinish_whenMatchIsFinished_thenRejectInsteadOfIgnoringClock() {
+        var backingStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var customStore = new MatchDataStore() {
+            @Override
+            public Match save(UUID matchId, Match match) {
+                return backingStore.save(matchId, match);
+            }
+
+            @Override
+            public Match update(UUID matchId, UnaryOperator<Match> updater) {
+                return backingStore.update(matchId, updater);
+            }
+
+            @Override
+            public void delete(UUID matchId) {
+                backingStore.delete(matchId);
+            }
+
+            @Override
+            public List<Match> getAllActive() {
+                return backingStore.getAllActive();
+            }
+
+            @Override
+            public List<Match> getAllActive(Comparator<?> comparator) {
+                return backingStore.getAllActive(comparator);
+            }
+
+            @Override
+            public List<Match> getAllFinished() {
+                return backingStore.getAllFinished();
+            }
+        };
+        var customScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, customStore, ScoreboardOptions.defaults()
+                .withClock(ClockFactory.createDeterministicClock(OffsetDateTime.parse("2026-06-11T18:00:00Z"), Duration.ofMinutes(1))));
+        var match = customScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        assertThrows(MatchStoreException.class, () -> customScoreboard.finishMatch(match.id()));
+        assertInstanceOf(MatchStoreException.class, customScoreboard.finishMatches(List.of(match.id())).failed().get(match.id()));
+        assertEquals(List.of(match), customScoreboard.getActiveMatchesSummary());
+        assertTrue(customScoreboard.getAllFinishedMatches().isEmpty());
+    }
+
+    @Test
+    public void givenOffHeapStore_whenMatchesFinishOutOfOrder_thenKeepRealEndTimesInEndTimeOrder() {
+        var offHeapStore = MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore();
+        var kickOff = OffsetDateTime.parse("2026-06-11T18:00:00Z");
+        var spainBrazil = new Match(UUID.randomUUID(), kickOff, null, new Team("Spain"), new Team("Brazil"), new Score(0, 0));
+        var germanyFrance = new Match(UUID.randomUUID(), kickOff, null, new Team("Germany"), new Team("France"), new Score(0, 0));
+        offHeapStore.save(spainBrazil.id(), spainBrazil);
+        offHeapStore.save(germanyFrance.id(), germanyFrance);
+
+        var lateFinish = offHeapStore.finish(spainBrazil.id(), kickOff.plusMinutes(95));
+        var earlyFinish = offHeapStore.finish(germanyFrance.id(), kickOff.plusMinutes(92));
+
+        assertEquals(kickOff.plusMinutes(95), lateFinish.endTime());
+        assertEquals(kickOff.plusMinutes(92), earlyFinish.endTime());
+        assertEquals(List.of(earlyFinish, lateFinish), offHeapStore.getAllFinished());
+        assertEquals(List.of(lateFinish), offHeapStore.getFinished(kickOff.plusMinutes(92), 10));
+    }
+
+    @Test
+    public void givenMatchesFinishingAtTheSameTime_whenPagedByEndTimeAndMatchId_thenReturnEveryMatchOnce() {
+        for (var matchDataStore : List.of(MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore())) {
+            var coarseScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, matchDataStore,
+                    ScoreboardOptions.defaults().withClock(ClockFactory.createCachedClock(Duration.ofMinutes(1))));
+            var finishedMatchIds = new ArrayList<UUID>();
+            for (int i = 0; i < 5; i++) {
+                var match = coarseScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+                coarseScoreboard.finishMatch(match.id());
+                finishedMatchIds.add(match.id());
+            }
+
+            var pagedMatchIds = new ArrayList<UUID>();
+            var page = coarseScoreboard.getFinishedMatches(null, 2);
+            while (!page.isEmpty()) {
+                page.forEach(match -> pagedMatchIds.add(match.id()));
+                page = coarseScoreboard.getFinishedMatches(page.getLast().endTime(), page.getLast().id(), 2);
+            }
+
+            assertEquals(finishedMatchIds, pagedMatchIds);
+            assertThrows(ScoreboardException.class, () -> coarseScoreboard.getFinishedMatches(null, UUID.randomUUID(), 2));
+        }
+    }
+
+    @Test
+    public void givenArchiveMaxAgeWithClock_whenClockAdvances_thenEvictByThatClock() {
+        for (var storeFactory : List.<Function<FinishedMatchesArchivePolicy, MatchDataStore>>of(
+                MatchDataStoreFactory::createInMemoryMatchDataStore, MatchDataStoreFactory::createOffHeapInMemoryMatchDataStore)) {
+            var now = new AtomicReference<>(OffsetDateTime.parse("2020-06-11T18:00:00Z"));
+            MatchClock clock = now::get;
+            var archivePolicy = FinishedMatchesArchivePolicy.maxAge(Duration.ofHours(1)).withClock(clock);
+            var agedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, storeFactory.apply(archivePolicy),
+                    ScoreboardOptions.defaults().withClock(clock));
+            var early = agedScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+            agedScoreboard.finishMatch(early.id());
+            now.set(now.get().plusMinutes(45));
+            var late = agedScoreboard.startMatch(new Team("Germany"), new Team("France"));
+            agedScoreboard.finishMatch(late.id());
+
+            assertEquals(List.of(early.id(), late.id()), agedScoreboard.getAllFinishedMatches().stream().map(Match::id).toList());
+
+            now.set(now.get().plusMinutes(30));
+
+            assertEquals(List.of(late.id()), agedScoreboard.getFinishedMatches(null, 10).stream().map(Match::id).toList());
+        }
+    }
+
+    @Test
+    public void givenTruncatedExport_whenImported_thenKeepPreviousContents() {
+        var sourceStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var sourceScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, sourceStore);
+        var spain = new Team("Spain");
+        var france = new Team("France");
+        var match = sourceScoreboard.startMatch(spain, new Team("Brazil"));
+        sourceScoreboard.updateScore(match.id(), new Score(1, 0));
+        sourceScoreboard.finishMatch(sourceScoreboard.startMatch(new Team("Germany"), france).id());
+        var exported = new ByteArrayOutputStream();
+        sourceStore.exportTo(Channels.newChannel(exported));
+        var truncated = Arrays.copyOf(exported.toByteArray(), exported.size() - 1);
+
+        List<InMemoryMatchDataStore> targetStores = List.of(MatchDataStoreFactory.createInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL, 2),
+                MatchDataStoreFactory.createSlotInMemoryMatchDataStore(),
+                MatchDataStoreFactory.createOffHeapInMemoryMatchDataStore());
+        for (var targetStore : targetStores) {
+            targetStore.importFrom(Channels.newChannel(new ByteArrayInputStream(exported.toByteArray())));
+
+            assertThrows(MatchStoreException.class, () -> targetStore.importFrom(Channels.newChannel(new ByteArrayInputStream(truncated))));
+
+            var targetScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, targetStore);
+            assertEquals(sourceScoreboard.getVersionedActiveMatchesSummary(), targetScoreboard.getVersionedActiveMatchesSummary());
+            assertEquals(sourceScoreboard.getAllFinishedMatches(), targetScoreboard.getAllFinishedMatches());
+            assertThrows(MatchStoreException.class, () -> targetScoreboard.startMatch(spain, france));
+        }
+    }
+
+    @Test
+    public void givenDurableStore_whenReopened_thenRecoverActiveAndFinishedMatches(@TempDir Path tempDir) {
+        var journalPolicy = MatchJournalPolicy.defaults(tempDir);
+        var spain = new Team("Spain");
+        var brazil = new Team("Brazil");
+        var germany = new Team("Germany");
+        var france = new Team("France");
+        var italy = new Team("Italy");
+        var england = new Team("England");
+        List<Match> expectedSummary;
+        List<Match> expectedFinishedMatches;
+        List<VersionedMatch> expectedVersionedSummary;
+
+        try (var durableStore = MatchDataStoreFactory.createDurableInMemoryMatchDataStore(journalPolicy)) {
+            var durableScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, durableStore);
+            var match1 = durableScoreboard.startMatch(spain, brazil);
+            var match2 = durableScoreboard.startMatch(germany, france);
+            durableScoreboard.updateScore(match1.id(), new Score(1, 0));
+            durableStore.snapshot();
+            var match3 = durableScoreboard.startMatch(italy, england);
+            durableScoreboard.updateScore(match3.id(), new Score(2, 2));
+            durableScoreboard.updateScore(match1.id(), new Score(2, 0));
+            durableScoreboard.finishMatch(match2.id());
+
+            expectedSummary = durableScoreboard.getActiveMatchesSummary();
+            expectedFinishedMatches = durableScoreboard.getAllFinishedMatches();
+            expectedVersionedSummary = durableScoreboard.getVersionedActiveMatchesSummary();
+        }
+
+        try (var recoveredStore = MatchDataStoreFactory.createDurableInMemoryMatchDataStore(journalPolicy)) {
+            var recoveredScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, recoveredStore);
+
+            assertEquals(expectedSummary, recoveredScoreboard.getActiveMatchesSummary());
+            assertEquals(expectedFinishedMatches, recoveredScoreboard.getAllFinishedMatches());
+            assertEquals(expectedVersionedSummary, recoveredScoreboard.getVersionedActiveMatchesSummary());
+            assertThrows(MatchStoreException.class, () -> recoveredScoreboard.startMatch(spain, france));
+            assertDoesNotThrow(() -> recoveredScoreboard.startMatch(germany, france));
+        }
+    }
+
+    @Test
+    public void givenDurableStoreWithTornJournalTail_whenReopened_thenDropTornRecordAndKeepLaterWrites(@TempDir Path tempDir) throws IOException {
+        var journalPolicy = MatchJournalPolicy.defaults(tempDir);
+        Match spainBrazil;
+        Match germanyFrance;
+        try (var durableStore = MatchDataStoreFactory.createDurableInMemoryMatchDataStore(journalPolicy)) {
+            var durableScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, durableStore);
+            spainBrazil = durableScoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+            germanyFrance = durableScoreboard.startMatch(new Team("Germany"), new Team("France"));
+        }
+
+        try (var segments = Files.list(tempDir)) {
+            var segment = segments.filter(file -> file.getFileName().toString().startsWith("journal-")).findFirst().orElseThrow();
+            var bytes = Files.readAllBytes(segment);
+            var last = bytes.length - 1;
+            while (bytes[last] == 0) {
+                last--;
+            }
+            bytes[last] ^= 0x5A;
+            Files.write(segment, bytes);
+        }
+
+        try (var recoveredStore = MatchDataStoreFactory.createDurableInMemoryMatchDataStore(journalPolicy)) {
+            var recoveredScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, recoveredStore);
+
+            assertEquals(List.of(spainBrazil), recoveredScoreboard.getActiveMatchesSummary());
+            recoveredScoreboard.startMatch(new Team("Italy"), new Team("England"));
+        }
+
+        try (var reopenedStore = MatchDataStoreFactory.createDurableInMemoryMatchDataStore(journalPolicy)) {
+            var activeMatches = reopenedStore.getAllActive();
+
+            assertEquals(2, activeMatches.size());
+            assertFalse(activeMatches.stream().anyMatch(match -> match.id().equals(germanyFrance.id())));
+        }
+    }
+
+    @Test
+    public void givenBatches_whenBatchOperationsCalled_thenApplyValidItemsAndReportFailures() {
+        var spain = new Team("Spain");
+        var france = new Team("France");
+        var italy = new Team("Italy");
+        var england = new Team("England");
+        var spainFrance = new MatchFixture(spain, france);
+        var italyEngland = new MatchFixture(italy, england);
+        var franceItaly = new MatchFixture(france, italy);
+        var spainSpain = new MatchFixture(spain, spain);
+
+        var started = scoreboard.startMatches(List.of(spainFrance, italyEngland, franceItaly, spainSpain));
+
+        assertEquals(List.of(spainFrance, italyEngland), List.copyOf(started.succeeded().keySet()));
+        assertInstanceOf(MatchStoreException.class, started.failed().get(franceItaly));
+        assertInstanceOf(ScoreboardException.class, started.failed().get(spainSpain));
+
+        var spainFranceId = started.succeeded().get(spainFrance).id();
+        var italyEnglandId = started.succeeded().get(italyEngland).id();
+        var unknownMatchId = UUID.randomUUID();
+        var scores = new LinkedHashMap<UUID, Score>();
+        scores.put(spainFranceId, new Score(2, 1));
+        scores.put(italyEnglandId, new Score(-1, 0));
+        scores.put(unknownMatchId, new Score(1, 1));
+
+        var updated = scoreboard.updateScores(scores);
+
+        assertEquals(Set.of(spainFranceId), updated.succeeded().keySet());
+        assertEquals(3, updated.succeeded().get(spainFranceId).score().homeTeamScore() + updated.succeeded().get(spainFranceId).score().awayTeamScore());
+        assertInstanceOf(ScoreboardException.class, updated.failed().get(italyEnglandId));
+        assertInstanceOf(MatchStoreException.class, updated.failed().get(unknownMatchId));
+
+        var finished = scoreboard.finishMatches(List.of(spainFranceId, unknownMatchId));
+
+        assertEquals(Set.of(spainFranceId), finished.succeeded().keySet());
+        assertTrue(finished.hasFailures());
+        assertEquals(List.of(italyEnglandId), scoreboard.getActiveMatchesSummary().stream().map(Match::id).toList());
+        assertThrows(ScoreboardException.class, () -> scoreboard.updateScores(null));
+    }
+
+    @Test
+    public void givenConcurrentBatches_whenMatchIsRanked_thenNeverSeeHalfAppliedBatch() throws InterruptedException {
+        var spainFrance = scoreboard.startMatch(new Team("Spain"), new Team("France"));
+        var italyEngland = scoreboard.startMatch(new Team("Italy"), new Team("England"));
+        var writer = new Thread(() -> {
+            for (int i = 1; i <= 20_000; i++) {
+                var scores = new LinkedHashMap<UUID, Score>();
+                scores.put(spainFrance.id(), new Score(i, 0));
+                scores.put(italyEngland.id(), new Score(i, 0));
+                scoreboard.updateScores(scores);
+            }
+        });
+
+        writer.start();
+        var ranks = new HashSet<Integer>();
+        while (writer.isAlive()) {
+            ranks.add(scoreboard.getRankedMatch(spainFrance.id()).orElseThrow().rank());
+        }
+        writer.join();
+
+        assertEquals(Set.of(2), ranks);
+    }
+
+    @Test
+    public void givenShardedStoreImports_whenSummaryIsReadAndExported_thenNeverSeeHalfImportedState() throws InterruptedException {
+        var exports = new ArrayList<byte[]>();
+        for (var matchCount : List.of(20, 40)) {
+            var sourceStore = MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL, 4);
+            var sourceScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, sourceStore);
+            for (int i = 0; i < matchCount; i++) {
+                sourceScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+            }
+            var exported = new ByteArrayOutputStream();
+            sourceStore.exportTo(Channels.newChannel(exported));
+            exports.add(exported.toByteArray());
+        }
+        var shardedStore = MatchDataStoreFactory.createShardedInMemoryMatchDataStore(SportType.FOOTBALL, 4);
+        var shardedScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, shardedStore);
+        shardedStore.importFrom(Channels.newChannel(new ByteArrayInputStream(exports.get(0))));
+        var importer = new Thread(() -> {
+            for (int i = 1; i <= 2_000; i++) {
+                shardedStore.importFrom(Channels.newChannel(new ByteArrayInputStream(exports.get(i % 2))));
+            }
+        });
+
+        importer.start();
+        var summarySizes = new HashSet<Integer>();
+        var exportedSizes = new HashSet<Integer>();
+        while (importer.isAlive()) {
+            summarySizes.add(shardedScoreboard.getActiveMatchesSummary().size());
+            var exported = new ByteArrayOutputStream();
+            shardedStore.exportTo(Channels.newChannel(exported));
+            var copy = MatchDataStoreFactory.createInMemoryMatchDataStore();
+            copy.importFrom(Channels.newChannel(new ByteArrayInputStream(exported.toByteArray())));
+            exportedSizes.add(copy.getAllActive().size());
+        }
+        importer.join();
+
+        assertTrue(Set.of(20, 40).containsAll(summarySizes), summarySizes::toString);
+        assertTrue(Set.of(20, 40).containsAll(exportedSizes), exportedSizes::toString);
+    }
+
+    @Test
+    public void givenSlotStoreBatches_whenSummaryIsRead_thenNeverSeeHalfAppliedBatch() throws InterruptedException {
+        var slotScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, MatchDataStoreFactory.createSlotInMemoryMatchDataStore());
+        var spainFrance = slotScoreboard.startMatch(new Team("Spain"), new Team("France"));
+        var italyEngland = slotScoreboard.startMatch(new Team("Italy"), new Team("England"));
+        var writer = new Thread(() -> {
+            for (int i = 1; i <= 20_000; i++) {
+                var scores = new LinkedHashMap<UUID, Score>();
+                scores.put(spainFrance.id(), new Score(i, 0));
+                scores.put(italyEngland.id(), new Score(i, 0));
+                slotScoreboard.updateScores(scores);
+            }
+        });
+
+        writer.start();
+        var leaders = new HashSet<UUID>();
+        while (writer.isAlive()) {
+            leaders.add(slotScoreboard.getActiveMatchesSummary().getFirst().id());
+        }
+        writer.join();
+
+        assertEquals(Set.of(italyEngland.id()), leaders);
+    }
+
+    @Test
+    public void givenSubscriber_whenMatchesChange_thenReceiveRankedMatchEvents() throws InterruptedException {
+        var subscriber = new CollectingSubscriber();
+        scoreboard.getMatchEvents().subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        var spainFrance = scoreboard.startMatch(new Team("Spain"), new Team("France"));
+        var started = subscriber.next();
+        var italyEngland = scoreboard.startMatch(new Team("Italy"), new Team("England"));
+        subscriber.next();
+        scoreboard.updateScore(spainFrance.id(), new Score(1, 0));
+        var scoreChanged = subscriber.next();
+        scoreboard.finishMatch(italyEngland.id());
+        var finished = subscriber.next();
+
+        assertEquals(MatchEventType.STARTED, started.type());
+        assertEquals(spainFrance.id(), started.match().id());
+        assertEquals(1, started.rank());
+        assertEquals(MatchEventType.SCORE_CHANGED, scoreChanged.type());
+        assertEquals(1, scoreChanged.match().score().homeTeamScore());
+        assertEquals(1, scoreChanged.rank());
+        assertEquals(MatchEventType.FINISHED, finished.type());
+        assertEquals(italyEngland.id(), finished.match().id());
+        assertNotNull(finished.match().endTime());
+    }
+
+    @Test
+    public void givenUnrankedSubscriber_whenMatchesChange_thenNeverRankMatches() throws InterruptedException {
+        var backingStore = MatchDataStoreFactory.createInMemoryMatchDataStore();
+        var rankLookups = new AtomicInteger();
+        var rankingStore = new MatchDataStore() {
+            @Override
+            public Match save(UUID matchId, Match match) {
+                return backingStore.save(matchId, match);
+            }
+
+            @Override
+            public Match update(UUID matchId, UnaryOperator<Match> updater) {
+                return backingStore.update(matchId, updater);
+            }
+
+            @Override
+            public void delete(UUID matchId) {
+                backingStore.delete(matchId);
+            }
+
+            @Override
+            public Match finish(UUID matchId, OffsetDateTime endTime) {
+                return backingStore.finish(matchId, endTime);
+            }
+
+            @Override
+            public List<Match> getAllActive() {
+                return backingStore.getAllActive();
+            }
+
+            @Override
+            public List<Match> getAllActive(Comparator<?> comparator) {
+                return backingStore.getAllActive(comparator);
+            }
+
+            @Override
+            public Optional<VersionedMatch> getVersionedActive(UUID matchId) {
+                return backingStore.getVersionedActive(matchId);
+            }
+
+            @Override
+            public Optional<RankedMatch> getRankedActive(UUID matchId, Comparator<?> comparator) {
+                rankLookups.incrementAndGet();
+                return backingStore.getRankedActive(matchId, comparator);
+            }
+
+            @Override
+            public List<Match> getAllFinished() {
+                return backingStore.getAllFinished();
+            }
+        };
+        var eventScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL, rankingStore);
+        var subscriber = new CollectingSubscriber();
+        eventScoreboard.getUnrankedMatchEvents().subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        var match = eventScoreboard.startMatch(new Team("Spain"), new Team("France"));
+        var started = subscriber.next();
+        eventScoreboard.updateScore(match.id(), new Score(2, 1));
+        var scoreChanged = subscriber.next();
+
+        assertEquals(match, started.match());
+        assertEquals(0, started.rank());
+        assertEquals(new Score(2, 1), scoreChanged.match().score());
+        assertEquals(0, scoreChanged.rank());
+        assertEquals(0, rankLookups.get());
+    }
+
+    @Test
+    public void givenSubscriberThatThrows_whenEventIsDelivered_thenSignalErrorAndCancel() throws InterruptedException {
+        var errors = new LinkedBlockingQueue<Throwable>();
+        var deliveries = new AtomicInteger();
+        scoreboard.getMatchEvents().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(MatchEvent event) {
+                deliveries.incrementAndGet();
+                throw new IllegalStateException("Broken subscriber");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        var match = scoreboard.startMatch(new Team("Spain"), new Team("France"));
+        var error = errors.poll(5, TimeUnit.SECONDS);
+        scoreboard.updateScore(match.id(), new Score(1, 0));
+
+        assertInstanceOf(IllegalStateException.class, error);
+        assertNull(errors.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, deliveries.get());
+    }
+
+    @Test
+    public void givenSlowSubscriber_whenScoreChangesManyTimes_thenReceiveOnlyLatestScore() throws InterruptedException {
+        var subscriber = new CollectingSubscriber();
+        scoreboard.getMatchEvents().subscribe(subscriber);
+        var match = scoreboard.startMatch(new Team("Spain"), new Team("France"));
+
+        for (int goals = 1; goals <= 100; goals++) {
+            scoreboard.updateScore(match.id(), new Score(goals, 0));
+        }
+        subscriber.request(Long.MAX_VALUE);
+
+        var event = subscriber.next();
+
+        assertEquals(MatchEventType.STARTED, event.type());
+        assertEquals(100, event.match().score().homeTeamScore());
+        assertNull(subscriber.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void givenInjectedEventExecutorAndManyActiveMatches_whenSubscriberCatchesUp_thenDeliverEveryMatch() {
+        var deliveries = new ArrayDeque<Runnable>();
+        var eventScoreboard = ScoreboardFactory.createScoreboard(SportType.FOOTBALL,
+                MatchDataStoreFactory.createSummaryIndexedInMemoryMatchDataStore(SportType.FOOTBALL),
+                ScoreboardOptions.defaults().withEventExecutor(deliveries::add));
+        var subscriber = new CollectingSubscriber();
+        eventScoreboard.getMatchEvents().subscribe(subscriber);
+        var activeMatches = 4_500;
+        for (int i = 0; i < activeMatches; i++) {
+            var match = eventScoreboard.startMatch(new Team("Home " + i), new Team("Away " + i));
+            eventScoreboard.updateScore(match.id(), new Score(1, 0));
+        }
+
+        subscriber.request(Long.MAX_VALUE);
+        while (!deliveries.isEmpty()) {
+            deliveries.poll().run();
+        }
+
+        assertEquals(activeMatches, subscriber.events.size());
+        assertTrue(subscriber.events.stream().allMatch(event -> event.type() == MatchEventType.STARTED
+                && event.match().score().homeTeamScore() == 1));
+    }
+
+    private static Runnable createMatchTask(Scoreboard scoreboard, Team team1, Team team2,
+                                            AtomicInteger matchesStarted, AtomicInteger matchesNotStarted, CountDownLatch latch) {
+        return () -> {
+            try {
+                scoreboard.startMatch(team1, team2);
+                matchesStarted.incrementAndGet();
+            } catch (Exception e) {
+                if (e instanceof MatchStoreException) {
+                    matchesNotStarted.incrementAndGet();
+                }
+            } finally {
+                latch.countDown();
+            }
+        };
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<MatchEvent> {
+
+        private final BlockingQueue<MatchEvent> events = new LinkedBlockingQueue<>();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(MatchEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        MatchEvent next() throws InterruptedException {
+            return events.poll(5, TimeUnit.SECONDS);
+        }
     }
 }
\ No newline at end of file